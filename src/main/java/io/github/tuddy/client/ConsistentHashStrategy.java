@@ -0,0 +1,93 @@
+package io.github.tuddy.client;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// session_id 기반 consistent hashing (bounded load)
+// 같은 세션은 같은 레플리카로 보내 KV/벡터 캐시를 재사용하되,
+// 해당 레플리카 부하가 평균 x loadFactor 를 넘으면 링의 다음 레플리카로 넘김
+public class ConsistentHashStrategy implements LoadBalancingStrategy {
+
+    private static final int VIRTUAL_NODES = 100;
+
+    private final long[] ring;
+    private final RagReplica[] owners;
+    private final double loadFactor;
+    private final LoadBalancingStrategy fallback = new LeastOutstandingStrategy();
+
+    public ConsistentHashStrategy(List<RagReplica> replicas, double loadFactor) {
+        this.loadFactor = loadFactor;
+        int size = replicas.size() * VIRTUAL_NODES;
+        long[] hashes = new long[size];
+        RagReplica[] byHash = new RagReplica[size];
+        int i = 0;
+        for (RagReplica r : replicas) {
+            for (int v = 0; v < VIRTUAL_NODES; v++) {
+                hashes[i] = hash(r.getBaseUrl() + "#" + v);
+                byHash[i] = r;
+                i++;
+            }
+        }
+        // 해시 순으로 정렬 (owner 배열도 같은 순서로)
+        Integer[] order = new Integer[size];
+        for (int k = 0; k < size; k++) {
+            order[k] = k;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(hashes[a], hashes[b]));
+        this.ring = new long[size];
+        this.owners = new RagReplica[size];
+        for (int k = 0; k < size; k++) {
+            ring[k] = hashes[order[k]];
+            owners[k] = byHash[order[k]];
+        }
+    }
+
+    @Override
+    public RagReplica select(List<RagReplica> candidates, String affinityKey) {
+        if (affinityKey == null || affinityKey.isBlank()) {
+            return fallback.select(candidates, null);
+        }
+
+        int total = 0;
+        for (RagReplica r : candidates) {
+            total += r.getOutstanding();
+        }
+        // 이번 요청을 포함한 평균 부하 x loadFactor
+        int capacity = (int) Math.ceil((total + 1) * loadFactor / candidates.size());
+
+        int pos = Arrays.binarySearch(ring, hash(affinityKey));
+        if (pos < 0) {
+            pos = -pos - 1;
+        }
+        Set<RagReplica> allowed = new HashSet<>(candidates);
+        Set<RagReplica> visited = new HashSet<>();
+        for (int i = 0; i < ring.length && visited.size() < allowed.size(); i++) {
+            RagReplica r = owners[(pos + i) % ring.length];
+            if (!allowed.contains(r) || !visited.add(r)) {
+                continue;
+            }
+            if (r.getOutstanding() < capacity) {
+                return r;
+            }
+        }
+        return fallback.select(candidates, null);
+    }
+
+    // FNV-1a 64bit + murmur3 finalizer
+    static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,207 @@
+package io.github.tuddy.client;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+
+import io.github.tuddy.entity.user.UserRole;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// FastAPI 호출 입장 대기열 (사용자별 Deficit Round Robin)
+// 동시 호출 수를 넘으면 사용자별 FIFO 에 줄을 세우고, 빈자리가 나면 사용자를 돌아가며 역할 가중치만큼 입장시킴
+// -> 탭을 여러 개 연 사용자가 있어도 다른 사용자의 대기 시간이 늘어나지 않음
+@Component
+public class FairAdmissionQueue {
+
+    private final boolean enabled;
+    private final int maxQueued;
+    private final long timeoutNanos;
+    private final Map<UserRole, Integer> weights;
+    private final MeterRegistry meterRegistry;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Long, UserQueue> queues = new HashMap<>();
+    private final ArrayDeque<UserQueue> active = new ArrayDeque<>();
+    private int available;
+    private int queued;
+
+    public FairAdmissionQueue(@Value("${rag.api.fair-queue.enabled:true}") boolean enabled,
+                              @Value("${rag.api.fair-queue.concurrency:16}") int concurrency,
+                              @Value("${rag.api.fair-queue.max-queued:48}") int maxQueued,
+                              @Value("${rag.api.fair-queue.timeout:PT30S}") Duration timeout,
+                              @Value("${rag.api.fair-queue.weight.user:1}") int userWeight,
+                              @Value("${rag.api.fair-queue.weight.admin:2}") int adminWeight,
+                              MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.available = concurrency;
+        this.maxQueued = maxQueued;
+        this.timeoutNanos = timeout.toNanos();
+        this.weights = Map.of(UserRole.USER, Math.max(1, userWeight), UserRole.ADMIN, Math.max(1, adminWeight));
+        this.meterRegistry = meterRegistry;
+        this.meterRegistry.gauge("rag.fairqueue.depth", this, q -> q.queued);
+        this.meterRegistry.gauge("rag.fairqueue.users", this, q -> q.active.size());
+    }
+
+    public <T> T call(Long userId, UserRole role, Supplier<T> call) {
+        if (!enabled) {
+            return call.get();
+        }
+        acquire(userId, role == null ? UserRole.USER : role);
+        try {
+            return call.get();
+        } finally {
+            release();
+        }
+    }
+
+    void acquire(Long userId, UserRole role) {
+        long start = System.nanoTime();
+        Waiter waiter;
+        lock.lock();
+        try {
+            if (available > 0 && queued == 0) {
+                available--;
+                recordWait(role, 0);
+                return;
+            }
+            if (queued >= maxQueued) {
+                reject("full");
+            }
+            UserQueue q = queues.computeIfAbsent(userId, id -> new UserQueue(id, weights.get(role)));
+            if (q.waiters.isEmpty()) {
+                active.addLast(q);
+            }
+            waiter = new Waiter();
+            q.waiters.addLast(waiter);
+            queued++;
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            waiter.granted.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            if (cancel(userId, waiter)) {
+                reject("timeout");
+            }
+            // 취소 직전에 입장이 허가된 경우 그대로 진행
+        } catch (InterruptedException e) {
+            if (!cancel(userId, waiter)) {
+                release();
+            }
+            Thread.currentThread().interrupt();
+            throw new TaskRejectedException("Interrupted while waiting for FastAPI admission", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+        recordWait(role, System.nanoTime() - start);
+    }
+
+    void release() {
+        lock.lock();
+        try {
+            Waiter next = nextWaiter();
+            if (next == null) {
+                available++;
+            } else {
+                // 반납된 자리를 다음 사용자에게 그대로 넘김
+                next.granted.complete(null);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Deficit Round Robin : 차례가 온 사용자에게 가중치만큼 크레딧, 요청당 1 소모, 다 쓰면 맨 뒤로
+    private Waiter nextWaiter() {
+        UserQueue q = active.peekFirst();
+        if (q == null) {
+            return null;
+        }
+        if (q.deficit < 1) {
+            q.deficit += q.weight;
+        }
+        q.deficit--;
+        Waiter w = q.waiters.pollFirst();
+        queued--;
+        if (q.waiters.isEmpty()) {
+            active.pollFirst();
+            q.deficit = 0;
+            queues.remove(q.userId);
+        } else if (q.deficit < 1) {
+            active.addLast(active.pollFirst());
+        }
+        return w;
+    }
+
+    // 아직 대기 중이면 제거하고 true, 이미 입장 허가됐으면 false
+    private boolean cancel(Long userId, Waiter waiter) {
+        lock.lock();
+        try {
+            if (waiter.granted.isDone()) {
+                return false;
+            }
+            UserQueue q = queues.get(userId);
+            if (q != null && q.waiters.remove(waiter)) {
+                queued--;
+                if (q.waiters.isEmpty()) {
+                    active.remove(q);
+                    queues.remove(userId);
+                }
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void reject(String reason) {
+        meterRegistry.counter("rag.fairqueue.rejected", "reason", reason).increment();
+        throw new TaskRejectedException("FastAPI admission queue " + reason);
+    }
+
+    private void recordWait(UserRole role, long nanos) {
+        Timer.builder("rag.fairqueue.wait")
+                .tag("role", role.name().toLowerCase())
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    int queued() {
+        lock.lock();
+        try {
+            return queued;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static final class UserQueue {
+        private final Long userId;
+        private final int weight;
+        private final ArrayDeque<Waiter> waiters = new ArrayDeque<>();
+        private int deficit;
+
+        private UserQueue(Long userId, int weight) {
+            this.userId = userId;
+            this.weight = weight;
+        }
+    }
+
+    private static final class Waiter {
+        private final CompletableFuture<Void> granted = new CompletableFuture<>();
+    }
+}
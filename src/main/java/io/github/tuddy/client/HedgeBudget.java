@@ -0,0 +1,33 @@
+package io.github.tuddy.client;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// hedge 예산 : 요청마다 percent% 토큰을 적립하고 hedge 1회에 토큰 1개 소모 (추가 부하 상한)
+final class HedgeBudget {
+
+    private static final long SCALE = 1000;
+
+    private final long depositPerRequest;
+    private final long max;
+    private final AtomicLong tokens = new AtomicLong();
+
+    HedgeBudget(double percent, int maxTokens) {
+        this.depositPerRequest = Math.round(percent * SCALE / 100);
+        this.max = maxTokens * SCALE;
+    }
+
+    void deposit() {
+        tokens.accumulateAndGet(depositPerRequest, (cur, d) -> Math.min(max, cur + d));
+    }
+
+    boolean tryConsume() {
+        long cur;
+        do {
+            cur = tokens.get();
+            if (cur < SCALE) {
+                return false;
+            }
+        } while (!tokens.compareAndSet(cur, cur - SCALE));
+        return true;
+    }
+}
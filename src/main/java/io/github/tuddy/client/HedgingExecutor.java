@@ -0,0 +1,164 @@
+package io.github.tuddy.client;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// 멱등 FastAPI 호출의 hedged request 실행기
+// 지연이 해당 경로 pN 을 넘으면 다른 레플리카로 같은 요청을 한 번 더 보내고 먼저 온 응답을 사용, 늦은 쪽은 연결을 끊어 취소
+@Slf4j
+@Component
+public class HedgingExecutor {
+
+    private final boolean enabled;
+    private final Set<RagRoute> routes;
+    private final RagRouteTimeouts timeouts;
+    private final double percentile;
+    private final long minDelayMillis;
+    private final int minSamples;
+    private final HedgeBudget budget;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor;
+
+    public HedgingExecutor(@Value("${rag.api.hedge.enabled:false}") boolean enabled,
+                           @Value("#{'${rag.api.hedge.routes:normal,default}'.split(',')}") List<String> routes,
+                           @Value("${rag.api.hedge.percentile:0.95}") double percentile,
+                           @Value("${rag.api.hedge.min-delay:PT0.3S}") Duration minDelay,
+                           @Value("${rag.api.hedge.min-samples:50}") int minSamples,
+                           @Value("${rag.api.hedge.budget-percent:10}") double budgetPercent,
+                           RagRouteTimeouts timeouts,
+                           MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.routes = routes.stream()
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .map(s -> RagRoute.valueOf(s.toUpperCase()))
+                .collect(Collectors.toSet());
+        this.timeouts = timeouts;
+        this.percentile = percentile;
+        this.minDelayMillis = minDelay.toMillis();
+        this.minSamples = minSamples;
+        this.budget = new HedgeBudget(budgetPercent, 10);
+        this.meterRegistry = meterRegistry;
+        this.executor = enabled ? Executors.newVirtualThreadPerTaskExecutor() : null;
+    }
+
+    public <T> T execute(RagRoute route, Supplier<T> call) {
+        if (!enabled || !routes.contains(route)) {
+            return call.get();
+        }
+        budget.deposit();
+
+        LatencyWindow window = timeouts.window(route);
+        if (window.size() < minSamples) {
+            // 지연 분포를 알기 전에는 hedge 하지 않음
+            return call.get();
+        }
+        long delay = Math.max(minDelayMillis, window.percentile(percentile));
+
+        RagCallContext primaryCtx = new RagCallContext(null);
+        CompletableFuture<T> primary = submit(primaryCtx, call);
+        try {
+            return primary.get(delay, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // hedge 대상
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            primaryCtx.cancel();
+            throw new IllegalStateException("Interrupted while waiting for FastAPI", e);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+
+        String routeTag = route.name().toLowerCase();
+        if (!budget.tryConsume()) {
+            meterRegistry.counter("rag.hedge.budget_exhausted", "route", routeTag).increment();
+            return await(primary);
+        }
+        meterRegistry.counter("rag.hedge.fired", "route", routeTag).increment();
+
+        RagCallContext hedgeCtx = new RagCallContext(primaryCtx.getReplica());
+        CompletableFuture<T> hedge = submit(hedgeCtx, call);
+
+        // 먼저 성공한 쪽을 채택, 둘 다 실패하면 마지막 예외 전파
+        CompletableFuture<T> winner = new CompletableFuture<>();
+        AtomicReference<RagCallContext> winnerCtx = new AtomicReference<>();
+        AtomicInteger failures = new AtomicInteger();
+        primary.whenComplete((v, ex) -> settle(winner, winnerCtx, failures, primaryCtx, v, ex));
+        hedge.whenComplete((v, ex) -> settle(winner, winnerCtx, failures, hedgeCtx, v, ex));
+
+        try {
+            T result = await(winner);
+            if (winnerCtx.get() == hedgeCtx) {
+                meterRegistry.counter("rag.hedge.won", "route", routeTag).increment();
+                primaryCtx.cancel();
+            } else {
+                hedgeCtx.cancel();
+            }
+            return result;
+        } catch (RuntimeException e) {
+            primaryCtx.cancel();
+            hedgeCtx.cancel();
+            throw e;
+        }
+    }
+
+    private <T> void settle(CompletableFuture<T> winner, AtomicReference<RagCallContext> winnerCtx,
+                            AtomicInteger failures, RagCallContext ctx, T value, Throwable ex) {
+        if (ex == null) {
+            if (winnerCtx.compareAndSet(null, ctx)) {
+                winner.complete(value);
+            }
+        } else if (failures.incrementAndGet() == 2) {
+            winner.completeExceptionally(ex);
+        }
+    }
+
+    private <T> CompletableFuture<T> submit(RagCallContext ctx, Supplier<T> call) {
+        return CompletableFuture.supplyAsync(() -> RagCallContext.callWith(ctx, call), executor);
+    }
+
+    private <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for FastAPI", e);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private RuntimeException unwrap(ExecutionException e) {
+        Throwable cause = e.getCause();
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause instanceof RuntimeException re ? re : new IllegalStateException(cause);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
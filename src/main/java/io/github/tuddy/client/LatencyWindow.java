@@ -0,0 +1,50 @@
+package io.github.tuddy.client;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 최근 N개 응답 시간(ms)을 링 버퍼로 보관하는 롤링 히스토그램
+// 기록은 lock-free, 백분위 계산 시에만 스냅샷을 복사해 정렬
+public class LatencyWindow {
+
+    private final AtomicLongArray samples;
+    private final AtomicLong count = new AtomicLong();
+
+    public LatencyWindow(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("window size must be positive");
+        }
+        this.samples = new AtomicLongArray(size);
+    }
+
+    public void record(long millis) {
+        long i = count.getAndIncrement();
+        samples.set((int) (i % samples.length()), millis);
+    }
+
+    // 누적 기록 건수
+    public long count() {
+        return count.get();
+    }
+
+    // 현재 윈도우에 들어있는 샘플 수
+    public int size() {
+        return (int) Math.min(count.get(), samples.length());
+    }
+
+    // p : 0.0 ~ 1.0, 샘플이 없으면 -1
+    public long percentile(double p) {
+        int n = size();
+        if (n == 0) {
+            return -1;
+        }
+        long[] copy = new long[n];
+        for (int i = 0; i < n; i++) {
+            copy[i] = samples.get(i);
+        }
+        Arrays.sort(copy);
+        int idx = (int) Math.ceil(p * n) - 1;
+        return copy[Math.max(0, Math.min(n - 1, idx))];
+    }
+}
@@ -0,0 +1,22 @@
+package io.github.tuddy.client;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 진행 중 요청이 가장 적은 레플리카 선택, 동률이면 시작 위치를 무작위로 두어 쏠림 방지
+public class LeastOutstandingStrategy implements LoadBalancingStrategy {
+
+    @Override
+    public RagReplica select(List<RagReplica> candidates, String affinityKey) {
+        int n = candidates.size();
+        int offset = n == 1 ? 0 : ThreadLocalRandom.current().nextInt(n);
+        RagReplica best = null;
+        for (int i = 0; i < n; i++) {
+            RagReplica r = candidates.get((offset + i) % n);
+            if (best == null || r.getOutstanding() < best.getOutstanding()) {
+                best = r;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.tuddy.client;
+
+import java.io.IOException;
+import java.net.URI;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.support.HttpRequestWrapper;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+// 요청마다 레플리카를 골라 URI 의 base-url 부분을 교체
+// 연결 실패/5xx(502~504)는 passive health check 의 실패로 집계
+@Component
+@RequiredArgsConstructor
+public class LoadBalancingInterceptor implements ClientHttpRequestInterceptor {
+
+    // session affinity 키 : FastAPI 는 이 헤더를 무시
+    public static final String SESSION_HEADER = "X-Session-Id";
+
+    private final RagReplicaPool pool;
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        RagCallContext ctx = RagCallContext.current();
+        RagReplica replica = pool.choose(request.getHeaders().getFirst(SESSION_HEADER),
+                                         ctx != null ? ctx.getExcluded() : null);
+        if (ctx != null) {
+            ctx.setReplica(replica);
+        }
+        URI target = rewrite(request.getURI(), replica);
+
+        replica.acquire();
+        long start = System.nanoTime();
+        try {
+            ClientHttpResponse response = execution.execute(new HttpRequestWrapper(request) {
+                @Override
+                public URI getURI() {
+                    return target;
+                }
+            }, body);
+            if (isUnavailable(response.getStatusCode())) {
+                pool.onFailure(replica);
+            } else {
+                pool.onSuccess(replica, System.nanoTime() - start);
+            }
+            return response;
+        } catch (IOException e) {
+            // hedging 으로 직접 끊은 연결은 레플리카 장애로 보지 않음
+            if (ctx == null || !ctx.isCancelled()) {
+                pool.onFailure(replica);
+            }
+            throw e;
+        } finally {
+            replica.release();
+        }
+    }
+
+    private URI rewrite(URI original, RagReplica replica) {
+        String uri = original.toString();
+        String primary = pool.primaryBaseUrl();
+        if (!uri.startsWith(primary) || replica.getBaseUrl().equals(primary)) {
+            return original;
+        }
+        return URI.create(replica.getBaseUrl() + uri.substring(primary.length()));
+    }
+
+    private boolean isUnavailable(HttpStatusCode status) {
+        int code = status.value();
+        return code == 502 || code == 503 || code == 504;
+    }
+}
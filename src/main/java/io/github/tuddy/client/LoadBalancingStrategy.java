@@ -0,0 +1,9 @@
+package io.github.tuddy.client;
+
+import java.util.List;
+
+// 레플리카 선택 전략 : candidates 는 격리되지 않은 레플리카 (비어있지 않음)
+public interface LoadBalancingStrategy {
+
+    RagReplica select(List<RagReplica> candidates, String affinityKey);
+}
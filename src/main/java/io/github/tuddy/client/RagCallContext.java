@@ -0,0 +1,55 @@
+package io.github.tuddy.client;
+
+import java.net.HttpURLConnection;
+import java.util.function.Supplier;
+
+// 한 번의 FastAPI 호출 시도에 대한 스레드 로컬 컨텍스트 (hedging 용)
+// - excluded : 이 시도에서 피할 레플리카 (먼저 보낸 요청이 간 곳)
+// - connection : 취소 시 소켓을 끊기 위해 보관
+public final class RagCallContext {
+
+    private static final ThreadLocal<RagCallContext> CURRENT = new ThreadLocal<>();
+
+    private final RagReplica excluded;
+    private volatile RagReplica replica;
+    private volatile HttpURLConnection connection;
+    private volatile boolean cancelled;
+
+    RagCallContext(RagReplica excluded) {
+        this.excluded = excluded;
+    }
+
+    static RagCallContext current() {
+        return CURRENT.get();
+    }
+
+    static <T> T callWith(RagCallContext ctx, Supplier<T> call) {
+        CURRENT.set(ctx);
+        try {
+            return call.get();
+        } finally {
+            CURRENT.remove();
+        }
+    }
+
+    RagReplica getExcluded() { return excluded; }
+    RagReplica getReplica() { return replica; }
+    void setReplica(RagReplica replica) { this.replica = replica; }
+    boolean isCancelled() { return cancelled; }
+
+    void bind(HttpURLConnection connection) {
+        this.connection = connection;
+        if (cancelled) {
+            connection.disconnect();
+        }
+    }
+
+    // 블로킹 read 중인 연결을 끊어 진 쪽 요청을 즉시 종료
+    void cancel() {
+        cancelled = true;
+        HttpURLConnection c = connection;
+        if (c != null) {
+            c.disconnect();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package io.github.tuddy.client;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+// FastAPI 호출 소요 시간을 경로별로 기록 (adaptive timeout 및 지표용)
+@Component
+@RequiredArgsConstructor
+public class RagLatencyInterceptor implements ClientHttpRequestInterceptor {
+
+    private final RagRouteTimeouts timeouts;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        RagRoute route = timeouts.resolve(request.getURI().getPath());
+        long start = System.nanoTime();
+        String outcome = "error";
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            outcome = response.getStatusCode().is5xxServerError() ? "server_error" : "success";
+            if ("success".equals(outcome)) {
+                timeouts.record(route, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+            return response;
+        } catch (IOException e) {
+            // 타임아웃/연결 오류도 샘플로 남겨 adaptive timeout 이 다시 늘어날 수 있게 함
+            timeouts.recordTimeout(route);
+            throw e;
+        } finally {
+            Timer.builder("rag.client.requests")
+                    .tag("route", route.name().toLowerCase())
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
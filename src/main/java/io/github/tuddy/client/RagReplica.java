@@ -0,0 +1,41 @@
+package io.github.tuddy.client;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// FastAPI 레플리카 1대의 상태 : 진행 중 요청 수, 연속 실패 횟수, 격리(eject) 만료 시각
+public class RagReplica {
+
+    private final String baseUrl;
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long ejectedUntilMillis;
+
+    public RagReplica(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    public String getBaseUrl() { return baseUrl; }
+    public int getOutstanding() { return outstanding.get(); }
+    public int getConsecutiveFailures() { return consecutiveFailures.get(); }
+
+    public boolean isEjected(long nowMillis) {
+        return ejectedUntilMillis > nowMillis;
+    }
+
+    void acquire() { outstanding.incrementAndGet(); }
+    void release() { outstanding.decrementAndGet(); }
+
+    void markSuccess() {
+        consecutiveFailures.set(0);
+    }
+
+    // 실패 누적 횟수를 반환
+    int markFailure() {
+        return consecutiveFailures.incrementAndGet();
+    }
+
+    // 실패 횟수는 성공 시에만 초기화 : 격리 해제 후 첫 요청이 또 실패하면 즉시 재격리
+    void eject(long untilMillis) {
+        this.ejectedUntilMillis = untilMillis;
+    }
+}
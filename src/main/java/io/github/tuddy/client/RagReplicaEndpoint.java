@@ -0,0 +1,24 @@
+package io.github.tuddy.client;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+// GET /actuator/ragreplicas : 레플리카별 격리 여부, 진행 중 요청 수, 지연
+@Component
+@Endpoint(id = "ragreplicas")
+@RequiredArgsConstructor
+public class RagReplicaEndpoint {
+
+    private final RagReplicaPool pool;
+
+    @ReadOperation
+    public List<Map<String, Object>> replicas() {
+        return pool.snapshot();
+    }
+}
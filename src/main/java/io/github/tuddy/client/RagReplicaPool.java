@@ -0,0 +1,125 @@
+package io.github.tuddy.client;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+// FastAPI 레플리카 목록과 선택 전략, passive health ejection 관리
+// rag.api.base-url 에 콤마로 여러 주소를 주면 클라이언트 측에서 분산
+@Slf4j
+@Component
+public class RagReplicaPool {
+
+    private final List<RagReplica> replicas;
+    private final LoadBalancingStrategy strategy;
+    private final int ejectAfterFailures;
+    private final long ejectMillis;
+    private final Map<RagReplica, Timer> latencyTimers = new LinkedHashMap<>();
+
+    public RagReplicaPool(@Value("${rag.api.base-url}") String baseUrls,
+                          @Value("${rag.api.lb.strategy:least-outstanding}") String strategyName,
+                          @Value("${rag.api.lb.hash-load-factor:1.25}") double hashLoadFactor,
+                          @Value("${rag.api.lb.eject-after-failures:3}") int ejectAfterFailures,
+                          @Value("${rag.api.lb.eject-duration:PT30S}") Duration ejectDuration,
+                          MeterRegistry meterRegistry) {
+        this.replicas = Arrays.stream(baseUrls.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .map(s -> s.endsWith("/") ? s.substring(0, s.length() - 1) : s)
+                .distinct()
+                .map(RagReplica::new)
+                .toList();
+        if (replicas.isEmpty()) {
+            throw new IllegalStateException("rag.api.base-url must contain at least one url");
+        }
+        this.strategy = switch (strategyName) {
+            case "least-outstanding" -> new LeastOutstandingStrategy();
+            case "session-affinity" -> new ConsistentHashStrategy(replicas, hashLoadFactor);
+            default -> throw new IllegalStateException("Unknown rag.api.lb.strategy: " + strategyName);
+        };
+        this.ejectAfterFailures = ejectAfterFailures;
+        this.ejectMillis = ejectDuration.toMillis();
+
+        for (RagReplica r : replicas) {
+            latencyTimers.put(r, Timer.builder("rag.replica.latency")
+                    .tag("replica", r.getBaseUrl())
+                    .register(meterRegistry));
+            Gauge.builder("rag.replica.outstanding", r, RagReplica::getOutstanding)
+                    .tag("replica", r.getBaseUrl())
+                    .register(meterRegistry);
+        }
+        log.info("FastAPI replicas: {} (strategy={})", replicas.stream().map(RagReplica::getBaseUrl).toList(), strategyName);
+    }
+
+    // RestClient baseUrl 로 사용하는 대표 주소 : 실제 대상은 요청마다 choose() 로 교체
+    public String primaryBaseUrl() {
+        return replicas.get(0).getBaseUrl();
+    }
+
+    public List<RagReplica> getReplicas() {
+        return replicas;
+    }
+
+    public RagReplica choose(String affinityKey) {
+        return choose(affinityKey, null);
+    }
+
+    // exclude : hedge 요청처럼 특정 레플리카를 피해야 할 때 (대안이 없으면 무시)
+    public RagReplica choose(String affinityKey, RagReplica exclude) {
+        long now = System.currentTimeMillis();
+        List<RagReplica> healthy = new ArrayList<>(replicas.size());
+        for (RagReplica r : replicas) {
+            if (!r.isEjected(now) && r != exclude) {
+                healthy.add(r);
+            }
+        }
+        // 전부 격리된 경우 fail-open
+        return strategy.select(healthy.isEmpty() ? replicas : healthy, affinityKey);
+    }
+
+    public void onSuccess(RagReplica replica, long elapsedNanos) {
+        replica.markSuccess();
+        latencyTimers.get(replica).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void onFailure(RagReplica replica) {
+        int failures = replica.markFailure();
+        if (failures >= ejectAfterFailures) {
+            replica.eject(System.currentTimeMillis() + ejectMillis);
+            log.warn("FastAPI replica ejected for {}ms after {} consecutive failures: {}",
+                     ejectMillis, failures, replica.getBaseUrl());
+        }
+    }
+
+    // Actuator 노출용 스냅샷 : 내부 주소 대신 rag.api.base-url 에 적은 순서(index)로 구분
+    public List<Map<String, Object>> snapshot() {
+        long now = System.currentTimeMillis();
+        List<Map<String, Object>> res = new ArrayList<>();
+        for (int i = 0; i < replicas.size(); i++) {
+            RagReplica r = replicas.get(i);
+            Map<String, Object> m = new LinkedHashMap<>();
+            Timer t = latencyTimers.get(r);
+            m.put("index", i);
+            m.put("ejected", r.isEjected(now));
+            m.put("outstanding", r.getOutstanding());
+            m.put("consecutiveFailures", r.getConsecutiveFailures());
+            m.put("requests", t.count());
+            m.put("meanMs", t.mean(TimeUnit.MILLISECONDS));
+            m.put("maxMs", t.max(TimeUnit.MILLISECONDS));
+            res.add(m);
+        }
+        return res;
+    }
+}
@@ -0,0 +1,9 @@
+package io.github.tuddy.client;
+
+// FastAPI 호출 경로 분류 : 경로마다 지연 특성이 달라 타임아웃/지표를 따로 관리
+public enum RagRoute {
+    NORMAL,  // 일반 대화
+    RAG,     // 파일 기반 RAG 대화
+    OCR,     // OCR 및 벡터 DB 인덱싱
+    DEFAULT  // 그 외 (헬스체크 등)
+}
@@ -0,0 +1,149 @@
+package io.github.tuddy.client;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+// FastAPI 경로별 read timeout 관리
+// adaptive 모드에서는 최근 응답 시간 p99 x factor 값을 [min, 경로별 설정값] 범위로 잘라 사용
+// 타임아웃/IO 오류는 현재 타임아웃 값으로 기록해, 지연이 늘면 p99 가 타임아웃에 닿아 다시 늘어남
+@Slf4j
+@Component
+public class RagRouteTimeouts {
+
+    // 매 요청마다 정렬하지 않도록 일정 건수마다 재계산
+    private static final int RECOMPUTE_EVERY = 20;
+
+    private final Map<String, RagRoute> routesByPath = new LinkedHashMap<>();
+    private final Map<RagRoute, RouteState> states = new EnumMap<>(RagRoute.class);
+
+    private final boolean adaptive;
+    private final double percentile;
+    private final double factor;
+    private final long minMillis;
+    private final int minSamples;
+
+    public RagRouteTimeouts(@Value("${rag.api.chat-path:/rag/chat}") String chatPath,
+                            @Value("${rag.api.normal-path:/normal/chat}") String normalPath,
+                            @Value("${rag.api.ocr-path:/rag/vectordb/ocr-and-add-from-s3}") String ocrPath,
+                            @Value("${rag.api.read-timeout:PT60S}") Duration defaultTimeout,
+                            @Value("${rag.api.timeout.normal:${rag.api.read-timeout:PT60S}}") Duration normalTimeout,
+                            @Value("${rag.api.timeout.chat:${rag.api.read-timeout:PT60S}}") Duration chatTimeout,
+                            @Value("${rag.api.timeout.ocr:PT10M}") Duration ocrTimeout,
+                            @Value("${rag.api.timeout.adaptive.enabled:false}") boolean adaptive,
+                            @Value("${rag.api.timeout.adaptive.percentile:0.99}") double percentile,
+                            @Value("${rag.api.timeout.adaptive.factor:3.0}") double factor,
+                            @Value("${rag.api.timeout.adaptive.min:PT5S}") Duration min,
+                            @Value("${rag.api.timeout.adaptive.min-samples:100}") int minSamples,
+                            @Value("${rag.api.timeout.adaptive.window-size:1000}") int windowSize) {
+        routesByPath.put(normalPath, RagRoute.NORMAL);
+        routesByPath.put(chatPath, RagRoute.RAG);
+        routesByPath.put(ocrPath, RagRoute.OCR);
+
+        states.put(RagRoute.NORMAL, new RouteState(normalTimeout, windowSize));
+        states.put(RagRoute.RAG, new RouteState(chatTimeout, windowSize));
+        states.put(RagRoute.OCR, new RouteState(ocrTimeout, windowSize));
+        states.put(RagRoute.DEFAULT, new RouteState(defaultTimeout, windowSize));
+
+        this.adaptive = adaptive;
+        this.percentile = percentile;
+        this.factor = factor;
+        this.minMillis = min.toMillis();
+        this.minSamples = minSamples;
+    }
+
+    // 추가 경로(배치 OCR 등)를 기존 분류에 매핑
+    public void register(String path, RagRoute route) {
+        routesByPath.put(path, route);
+    }
+
+    // 요청 URI 경로 -> 분류 (base-url 에 prefix 가 붙어도 동작하도록 endsWith 비교)
+    public RagRoute resolve(String path) {
+        if (path == null) {
+            return RagRoute.DEFAULT;
+        }
+        for (Map.Entry<String, RagRoute> e : routesByPath.entrySet()) {
+            if (path.endsWith(e.getKey())) {
+                return e.getValue();
+            }
+        }
+        return RagRoute.DEFAULT;
+    }
+
+    public Duration timeoutFor(RagRoute route) {
+        return Duration.ofMillis(states.get(route).effectiveMillis);
+    }
+
+    public LatencyWindow window(RagRoute route) {
+        return states.get(route).window;
+    }
+
+    // 성공 응답의 소요 시간 기록
+    public void record(RagRoute route, long elapsedMillis) {
+        add(route, elapsedMillis);
+    }
+
+    // 타임아웃/IO 오류 : 실제 소요 시간은 알 수 없으므로 현재 타임아웃 값을 샘플로 기록
+    // (성공만 기록하면 타임아웃이 줄어들기만 하고 회복되지 않음)
+    public void recordTimeout(RagRoute route) {
+        add(route, states.get(route).effectiveMillis);
+    }
+
+    private void add(RagRoute route, long elapsedMillis) {
+        RouteState state = states.get(route);
+        state.window.record(elapsedMillis);
+        if (adaptive && state.window.count() % RECOMPUTE_EVERY == 0) {
+            recompute(route, state);
+        }
+    }
+
+    private void recompute(RagRoute route, RouteState state) {
+        long configured = state.configured.toMillis();
+        if (state.window.size() < minSamples) {
+            state.effectiveMillis = configured;
+            return;
+        }
+        long p = state.window.percentile(percentile);
+        long candidate = (long) (p * factor);
+        long next = Math.max(Math.min(minMillis, configured), Math.min(candidate, configured));
+        if (next != state.effectiveMillis) {
+            log.debug("RAG timeout adjusted [{}]: {}ms -> {}ms (p={}ms)", route, state.effectiveMillis, next, p);
+            state.effectiveMillis = next;
+        }
+    }
+
+    // Actuator 노출용 스냅샷
+    public Map<String, Object> snapshot() {
+        Map<String, Object> res = new LinkedHashMap<>();
+        res.put("adaptive", adaptive);
+        for (Map.Entry<RagRoute, RouteState> e : states.entrySet()) {
+            RouteState s = e.getValue();
+            Map<String, Object> route = new LinkedHashMap<>();
+            route.put("configuredMs", s.configured.toMillis());
+            route.put("effectiveMs", s.effectiveMillis);
+            route.put("samples", s.window.size());
+            route.put("p50Ms", s.window.percentile(0.5));
+            route.put("p99Ms", s.window.percentile(0.99));
+            res.put(e.getKey().name().toLowerCase(), route);
+        }
+        return res;
+    }
+
+    private static final class RouteState {
+        private final Duration configured;
+        private final LatencyWindow window;
+        private volatile long effectiveMillis;
+
+        private RouteState(Duration configured, int windowSize) {
+            this.configured = configured;
+            this.window = new LatencyWindow(windowSize);
+            this.effectiveMillis = configured.toMillis();
+        }
+    }
+}
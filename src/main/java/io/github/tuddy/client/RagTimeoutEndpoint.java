@@ -0,0 +1,23 @@
+package io.github.tuddy.client;
+
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+// GET /actuator/ragtimeouts : 경로별 현재 적용 중인 타임아웃과 지연 분포
+@Component
+@Endpoint(id = "ragtimeouts")
+@RequiredArgsConstructor
+public class RagTimeoutEndpoint {
+
+    private final RagRouteTimeouts timeouts;
+
+    @ReadOperation
+    public Map<String, Object> timeouts() {
+        return timeouts.snapshot();
+    }
+}
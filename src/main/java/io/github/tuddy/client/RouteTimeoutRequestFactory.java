@@ -0,0 +1,29 @@
+package io.github.tuddy.client;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+
+// 연결 생성 시점에 경로별 read timeout 을 적용하는 요청 팩토리
+public class RouteTimeoutRequestFactory extends SimpleClientHttpRequestFactory {
+
+    private final RagRouteTimeouts timeouts;
+
+    public RouteTimeoutRequestFactory(RagRouteTimeouts timeouts) {
+        this.timeouts = timeouts;
+    }
+
+    @Override
+    protected void prepareConnection(HttpURLConnection connection, String httpMethod) throws IOException {
+        super.prepareConnection(connection, httpMethod);
+        RagRoute route = timeouts.resolve(connection.getURL().getPath());
+        connection.setReadTimeout((int) timeouts.timeoutFor(route).toMillis());
+
+        // hedging 중인 호출이면 취소 시 끊을 수 있도록 연결 등록
+        RagCallContext ctx = RagCallContext.current();
+        if (ctx != null) {
+            ctx.bind(connection);
+        }
+    }
+}
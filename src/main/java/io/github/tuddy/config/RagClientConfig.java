@@ -7,31 +7,51 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.ClientHttpRequestFactory;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
+import io.github.tuddy.client.LoadBalancingInterceptor;
+import io.github.tuddy.client.RagLatencyInterceptor;
+import io.github.tuddy.client.RagReplicaPool;
+import io.github.tuddy.client.RagRoute;
+import io.github.tuddy.client.RagRouteTimeouts;
+import io.github.tuddy.client.RouteTimeoutRequestFactory;
+
 
 // LLM 호출용 RestClient, 그 하부전송기 ClientHttpRequestFactory 분리 빈으로 등록
 @Configuration
 public class RagClientConfig {
 
+    // base-url 이 여러 개면 LoadBalancingInterceptor 가 요청마다 대상 레플리카로 교체
     @Bean(name = "ragRestClient")
-    RestClient ragRestClient(@Value("${rag.api.base-url}") String baseUrl,
-                             @Qualifier("ragClientFactory") ClientHttpRequestFactory factory) {
+    RestClient ragRestClient(RagReplicaPool replicaPool,
+                             @Qualifier("ragClientFactory") ClientHttpRequestFactory factory,
+                             LoadBalancingInterceptor loadBalancingInterceptor,
+                             RagLatencyInterceptor latencyInterceptor) {
         return RestClient.builder()
-                .baseUrl(baseUrl)
+                .baseUrl(replicaPool.primaryBaseUrl())
                 .requestFactory(factory)
+                .requestInterceptor(loadBalancingInterceptor)
+                .requestInterceptor(latencyInterceptor)
                 .build();
     }
 
-    // fastapi 서버 타임아웃 관리
+    // fastapi 서버 타임아웃 관리 : read timeout 은 경로별로 RagRouteTimeouts 에서 결정
     @Bean(name = "ragClientFactory")
     ClientHttpRequestFactory ragClientFactory(
             @Value("${rag.api.connect-timeout:PT60S}") Duration connect,
-            @Value("${rag.api.read-timeout:PT600S}") Duration read) {
-        var f = new SimpleClientHttpRequestFactory();
+            @Value("${rag.api.fast-path:}") String fastPath,
+            @Value("${rag.api.ocr-batch-path:/rag/vectordb/ocr-and-add-from-s3/batch}") String ocrBatchPath,
+            @Value("${rag.api.text-path:}") String textPath,
+            RagRouteTimeouts timeouts) {
+        timeouts.register(ocrBatchPath, RagRoute.OCR);
+        if (!textPath.isBlank()) {
+            timeouts.register(textPath, RagRoute.OCR);
+        }
+        if (!fastPath.isBlank()) {
+            timeouts.register(fastPath, RagRoute.NORMAL);
+        }
+        var f = new RouteTimeoutRequestFactory(timeouts);
         f.setConnectTimeout((int) connect.toMillis());
-        f.setReadTimeout((int) read.toMillis());
         return f;
     }
 }
@@ -1,30 +1,46 @@
 package io.github.tuddy.config;
 
+import java.net.URI;
+
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
+// app.storage.type=local 이면 S3 클라이언트를 만들지 않음 (AWS 설정 없이 기동)
 @Configuration
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "s3", matchIfMissing = true)
 public class S3Config {
 
+  // endpoint 지정 시 S3 호환 스토리지(MinIO, LocalStack 등) 사용 : 로컬/통합 테스트용, path-style 주소
   @Bean
-  S3Client s3Client(@Value("${app.aws.region}") String region) {
-    return S3Client.builder()
+  S3Client s3Client(@Value("${app.aws.region}") String region,
+                    @Value("${app.aws.s3.endpoint:}") String endpoint) {
+    var builder = S3Client.builder()
         .region(Region.of(region))
-        .credentialsProvider(DefaultCredentialsProvider.create())
-        .build();
+        .credentialsProvider(DefaultCredentialsProvider.create());
+    if (!endpoint.isBlank()) {
+      builder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+    }
+    return builder.build();
   }
 
   @Bean
-  S3Presigner s3Presigner(@Value("${app.aws.region}") String region) {
-    return S3Presigner.builder()
+  S3Presigner s3Presigner(@Value("${app.aws.region}") String region,
+                          @Value("${app.aws.s3.endpoint:}") String endpoint) {
+    var builder = S3Presigner.builder()
         .region(Region.of(region))
-        .credentialsProvider(DefaultCredentialsProvider.create())
-        .build();
+        .credentialsProvider(DefaultCredentialsProvider.create());
+    if (!endpoint.isBlank()) {
+      builder.endpointOverride(URI.create(endpoint))
+          .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build());
+    }
+    return builder.build();
   }
 }
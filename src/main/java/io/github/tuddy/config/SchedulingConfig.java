@@ -0,0 +1,10 @@
+package io.github.tuddy.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// 주기 작업 (rate limit 버킷 정리 등) 활성화
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
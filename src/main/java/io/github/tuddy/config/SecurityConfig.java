@@ -30,6 +30,8 @@ import io.github.tuddy.security.jwt.JwtAuthenticationFilter;
 import io.github.tuddy.security.jwt.JwtTokenProvider;
 import io.github.tuddy.security.oauth.CustomOAuth2UserService;
 import io.github.tuddy.security.oauth.OAuth2LoginSuccessHandler;
+import io.github.tuddy.web.RateLimitFilter;
+import io.github.tuddy.web.RateLimiter;
 import lombok.RequiredArgsConstructor;
 
 @EnableWebSecurity
@@ -41,6 +43,7 @@ public class SecurityConfig {
     private final CustomOAuth2UserService customOAuth2UserService;
     private final OAuth2LoginSuccessHandler oAuth2LoginSuccessHandler;
     private final JwtTokenProvider jwtTokenProvider;
+    private final RateLimiter rateLimiter;
 
     @Value("${app.cors.allowed-origins}")
     private String corsOrigins;
@@ -71,11 +74,21 @@ public class SecurityConfig {
             .exceptionHandling(e -> e.authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
 
             .authorizeHttpRequests(auth -> auth
-                .requestMatchers(HttpMethod.GET, "/", "/actuator/**", "/v3/api-docs/**", "/swagger-ui/**").permitAll()
+                .requestMatchers(HttpMethod.GET, "/", "/v3/api-docs/**", "/swagger-ui/**").permitAll()
+                // 상태 확인만 공개, 나머지 actuator(레플리카/타임아웃/정리 작업 현황)는 관리자만
+                .requestMatchers(HttpMethod.GET, "/actuator/health", "/actuator/health/**", "/actuator/info").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 .requestMatchers("/auth/login/**", "/auth/register/**", "/auth/refresh/**").permitAll()
+                // FastAPI 내부 콜백 : 컨트롤러에서 공유 토큰 검증
+                .requestMatchers(HttpMethod.POST, "/internal/**").permitAll()
+                // 로컬 저장소 서명 URL : 컨트롤러에서 서명 검증 (app.storage.type=local 일 때만 존재)
+                .requestMatchers(HttpMethod.GET, "/blobs").permitAll()
+                .requestMatchers(HttpMethod.PUT, "/blobs").permitAll()
                 .anyRequest().authenticated()
             )
             .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider), UsernamePasswordAuthenticationFilter.class)
+            // 인증된 uid 기준 요청 한도 (429)
+            .addFilterAfter(new RateLimitFilter(rateLimiter), JwtAuthenticationFilter.class)
             .oauth2Login(oauth -> oauth
                 .userInfoEndpoint(u -> u.userService(customOAuth2UserService))
                 .successHandler(oAuth2LoginSuccessHandler)
@@ -94,6 +107,8 @@ public class SecurityConfig {
         configuration.setAllowedOrigins(origins);
         configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH"));
         configuration.setAllowedHeaders(List.of("*"));
+        // 멀티파트 파트 업로드 응답의 ETag 를 브라우저가 읽을 수 있도록
+        configuration.setExposedHeaders(List.of("ETag"));
         configuration.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
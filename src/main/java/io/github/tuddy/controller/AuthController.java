@@ -42,8 +42,7 @@ public class AuthController {
     @PostMapping("/register")
     public ResponseEntity<?> register(@Valid @RequestBody RegisterLocalRequest req) {
         var u = authService.registerLocal(req);
-        return ResponseEntity.ok(new AuthMeResponse(u.getId(), u.getDisplayName(), u.getLoginId(), u.getEmail(),
-                u.getProvider().name(), u.getRole().name()));
+        return ResponseEntity.ok(AuthMeResponse.from(u));
     }
 
     @Operation(summary = "로그인", description = "성공 시 Access/Refresh Token 반환")
@@ -88,8 +87,7 @@ public class AuthController {
     public ResponseEntity<?> me() {
         Long userId = SecurityUtils.requireUserId();
         var user = users.findById(userId).orElseThrow();
-        return ResponseEntity.ok(new AuthMeResponse(user.getId(), user.getDisplayName(), user.getLoginId(),
-                user.getEmail(), user.getProvider().name(), user.getRole().name()));
+        return ResponseEntity.ok(AuthMeResponse.from(user));
     }
 
     @Operation(summary = "로그아웃", description = "서버 DB에서 Refresh Token 삭제")
@@ -0,0 +1,27 @@
+package io.github.tuddy.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.github.tuddy.dto.BootstrapResponse;
+import io.github.tuddy.security.SecurityUtils;
+import io.github.tuddy.service.BootstrapService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@Tag(name = "첫 화면 API", description = "페이지 로드에 필요한 데이터를 한 번에 조회")
+@RestController
+@RequiredArgsConstructor
+public class BootstrapController {
+
+    private final BootstrapService bootstrapService;
+
+    @Operation(summary = "첫 화면 데이터 조회", description = "내 정보, 최근 채팅방, 최근 파일 목록을 한 번에 반환 (/auth/me, /chat/sessions, /files 대체)")
+    @GetMapping("/bootstrap")
+    public ResponseEntity<BootstrapResponse> bootstrap() {
+        Long userId = SecurityUtils.requireUserId();
+        return ResponseEntity.ok(bootstrapService.load(userId));
+    }
+}
@@ -10,18 +10,25 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
 import org.springframework.web.multipart.MultipartFile;
 
+import io.github.tuddy.dto.ChatBatchRequest;
+import io.github.tuddy.dto.ChatBatchResult;
 import io.github.tuddy.dto.ChatMessageResponse;
 import io.github.tuddy.dto.ChatProxyRequest;
 import io.github.tuddy.dto.ChatProxyResponse;
 import io.github.tuddy.dto.ChatSessionResponse;
 import io.github.tuddy.security.SecurityUtils;
 import io.github.tuddy.service.ChatService;
+import io.github.tuddy.web.Bulkheads;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Encoding;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -37,20 +44,30 @@ import lombok.RequiredArgsConstructor;
 public class ChatProxyController {
 
     private final ChatService chatService;
+    private final Bulkheads bulkheads;
 
     @Operation(summary = "챗봇과 대화", description = "챗봇과 대화 : 이미지 파일을 첨부할 수 있으며, 요청 시 fileId를 포함하면 RAG 기반으로 동작")
     @PostMapping(consumes = { MediaType.MULTIPART_FORM_DATA_VALUE })
     @io.swagger.v3.oas.annotations.parameters.RequestBody(content = @Content(
         encoding = @Encoding(name = "req", contentType = "application/json")
     ))
-    public ResponseEntity<ChatProxyResponse> chat(
+    public WebAsyncTask<ResponseEntity<ChatProxyResponse>> chat(
             @RequestPart("req") @Valid ChatProxyRequest req,
-            @RequestPart(value = "files", required = false) List<MultipartFile> files) {
+            @RequestPart(value = "files", required = false) List<MultipartFile> files,
+            @Parameter(description = "true 면 첨부 이미지를 축소/재인코딩하지 않고 원본 그대로 전달")
+            @RequestParam(defaultValue = "false") boolean originalImages) {
 
         Long uid = SecurityUtils.requireUserId();
-        ChatProxyResponse response = chatService.processChat(uid, req, files);
 
-        return ResponseEntity.ok(response);
+        // FastAPI 중계는 chat 레인에서 처리 (Tomcat 워커 즉시 반납)
+        return bulkheads.chat().submit(() -> ResponseEntity.ok(chatService.processChat(uid, req, files, originalImages)));
+    }
+
+    @Operation(summary = "여러 질문 동시 요청", description = "서로 독립적인 질문 여러 개를 한 번에 보내고, 요청 순서대로 답변을 받음 (항목별 실패는 error 로 표시)")
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public WebAsyncTask<ResponseEntity<List<ChatBatchResult>>> chatBatch(@RequestBody @Valid ChatBatchRequest req) {
+        Long uid = SecurityUtils.requireUserId();
+        return bulkheads.chat().submit(() -> ResponseEntity.ok(chatService.processBatch(uid, req.requests())));
     }
 
     @Operation(summary = "내 채팅방 목록 조회", description = "현재 로그인한 사용자의 모든 채팅방 목록을 최신순으로 조회")
@@ -0,0 +1,29 @@
+package io.github.tuddy.controller;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.github.tuddy.security.SecurityUtils;
+import io.github.tuddy.web.UserEventHub;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@Tag(name = "이벤트 스트림 API", description = "파일 처리 상태, 새 메시지를 실시간으로 받는 SSE API")
+@RestController
+@RequiredArgsConstructor
+public class EventStreamController {
+
+    private final UserEventHub eventHub;
+
+    // 이벤트 : ready, file.status, chat.message (15초마다 ping 주석)
+    // Authorization 헤더가 필요하므로 fetch 기반 SSE 클라이언트 사용
+    @Operation(summary = "내 이벤트 구독", description = "파일 상태 변경(file.status)과 다른 기기에서 생성된 메시지(chat.message)를 SSE 로 전달")
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe() {
+        Long userId = SecurityUtils.requireUserId();
+        return eventHub.subscribe(userId);
+    }
+}
@@ -1,20 +1,34 @@
 package io.github.tuddy.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
+import io.github.tuddy.dto.FileDeleteRequest;
+import io.github.tuddy.dto.FileDeleteResult;
+import io.github.tuddy.dto.FileProcessRequest;
+import io.github.tuddy.dto.FileProcessResult;
 import io.github.tuddy.dto.UploadedFileResponse;
 import io.github.tuddy.security.SecurityUtils;
 import io.github.tuddy.service.FileService;
+import io.github.tuddy.web.Bulkheads;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
 @Tag(name = "파일 관리 API", description = "사용자가 업로드한 파일의 목록을 조회하고 삭제하는 API")
@@ -24,6 +38,7 @@ import lombok.RequiredArgsConstructor;
 public class FileController {
 
     private final FileService fileService;
+    private final Bulkheads bulkheads;
 
     // 현재 로그인한 사용자가 업로드한 모든 파일 목록을 조회
     @Operation(summary = "내 파일 목록 조회", description = "현재 로그인한 사용자가 업로드한 모든 파일의 목록을 최신순으로 조회")
@@ -34,8 +49,27 @@ public class FileController {
         return ResponseEntity.ok(files);
     }
 
+    // 스트리밍 업로드 : multipart 가 아닌 파일 원본 바이트를 본문으로 전송 (Content-Type = 파일 형식)
+    // 수신하는 대로 S3 로 전달하므로 임시 파일이 없고, 클라이언트 업로드와 S3 업로드가 겹쳐 진행됨
+    // 채팅 첨부는 이 API 로 올린 뒤 반환된 id 를 /chat 의 fileId 로 사용
+    @Operation(summary = "파일 스트리밍 업로드", description = "요청 본문(파일 원본)을 임시 파일 없이 S3 로 바로 업로드하고 OCR/인덱싱 작업을 등록. Content-Type 헤더에 파일 형식, filename 파라미터에 파일 이름 지정. sha256 파라미터(선택)를 주면 이미 올린 같은 파일은 전송 없이 기존 파일 반환")
+    @PostMapping("/stream")
+    public WebAsyncTask<ResponseEntity<UploadedFileResponse>> uploadStream(@RequestParam String filename,
+                                                                          @RequestParam(required = false) String sha256,
+                                                                          HttpServletRequest request) throws IOException {
+        Long userId = SecurityUtils.requireUserId();
+        // "application/pdf; charset=..." 처럼 파라미터가 붙어도 타입만 비교
+        MediaType mediaType = request.getContentType() != null ? MediaType.parseMediaType(request.getContentType()) : null;
+        String contentType = mediaType != null ? mediaType.getType() + "/" + mediaType.getSubtype() : null;
+        long contentLength = request.getContentLengthLong();
+        InputStream body = request.getInputStream();
+
+        return bulkheads.upload().submit(() -> ResponseEntity.status(HttpStatus.CREATED)
+                .body(fileService.uploadStream(userId, filename, contentType, contentLength, sha256, body)));
+    }
+
     // 특정 파일을 삭제
-    @Operation(summary = "파일 삭제", description = "특정 파일을 DB와 S3에서 영구적으로 삭제")
+    @Operation(summary = "파일 삭제", description = "특정 파일을 DB와 S3에서 영구적으로 삭제 (S3 객체는 백그라운드에서 삭제)")
     @DeleteMapping("/{fileId}")
     public ResponseEntity<Void> deleteFile(@PathVariable Long fileId) {
         Long userId = SecurityUtils.requireUserId();
@@ -43,13 +77,30 @@ public class FileController {
         return ResponseEntity.noContent().build(); // 성공적으로 삭제 시 204 No Content 응답
     }
 
+    // 여러 파일을 한 번에 삭제 (S3 객체는 백그라운드에서 묶어서 삭제)
+    @Operation(summary = "여러 파일 일괄 삭제", description = "여러 파일을 DB에서 한 번에 삭제하고 파일별 결과를 반환. S3 객체는 삭제 대기열에 등록되어 백그라운드에서 일괄 삭제")
+    @PostMapping(value = "/delete", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<FileDeleteResult>> deleteFiles(@RequestBody @Valid FileDeleteRequest req) {
+        Long userId = SecurityUtils.requireUserId();
+        return ResponseEntity.ok(fileService.deleteFiles(userId, req.fileIds()));
+    }
+
     // 업로드 완료 통지 및 처리 요청
     // 파일 업로드가 완료된 직후 이 API를 호출해야 하며, 작업이 완료(COMPLETED)되어야 채팅에서 해당 파일을 참조 가능
-    @Operation(summary = "파일 처리 및 인덱싱 요청", description = "S3에 업로드된 파일에 대해 OCR 분석 및 벡터 DB 인덱싱 작업을 시작")
+    // 작업은 큐에 등록되고 202 를 바로 반환 : 진행 상태는 파일 목록의 status 로 확인
+    @Operation(summary = "파일 처리 및 인덱싱 요청", description = "S3에 업로드된 파일에 대해 OCR 분석 및 벡터 DB 인덱싱 작업을 등록 (비동기 처리)")
     @PostMapping("/{fileId}/process")
     public ResponseEntity<Void> processFile(@PathVariable Long fileId) {
         Long userId = SecurityUtils.requireUserId();
         fileService.processUploadedFile(userId, fileId);
-        return ResponseEntity.ok().build();
+        return ResponseEntity.accepted().build();
+    }
+
+    // 여러 파일을 한 번에 처리 요청 (강의 자료 묶음 업로드 등)
+    @Operation(summary = "여러 파일 일괄 처리 요청", description = "업로드가 끝난 여러 파일의 OCR/인덱싱 작업을 한 번에 등록하고 파일별 상태를 반환")
+    @PostMapping(value = "/process", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<FileProcessResult>> processFiles(@RequestBody @Valid FileProcessRequest req) {
+        Long userId = SecurityUtils.requireUserId();
+        return ResponseEntity.accepted().body(fileService.processUploadedFiles(userId, req.fileIds()));
     }
-}
\ No newline at end of file
+}
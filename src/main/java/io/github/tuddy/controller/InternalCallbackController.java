@@ -0,0 +1,52 @@
+package io.github.tuddy.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.github.tuddy.dto.OcrCallbackRequest;
+import io.github.tuddy.service.IndexingCallbackService;
+import io.swagger.v3.oas.annotations.Hidden;
+import jakarta.validation.Valid;
+
+// FastAPI -> Spring 내부 콜백 (사용자 JWT 대신 공유 토큰으로 인증, 토큰 미설정 시 모두 거절)
+@Hidden
+@RestController
+@RequestMapping("/internal")
+public class InternalCallbackController {
+
+    public static final String TOKEN_HEADER = "X-Internal-Token";
+
+    private final IndexingCallbackService indexingCallbackService;
+    private final byte[] token;
+
+    public InternalCallbackController(IndexingCallbackService indexingCallbackService,
+                                      @Value("${app.internal.callback-token:}") String token) {
+        this.indexingCallbackService = indexingCallbackService;
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @PostMapping("/ocr/callback")
+    public ResponseEntity<Void> ocrCallback(@RequestHeader(value = TOKEN_HEADER, required = false) String header,
+                                            @RequestBody @Valid OcrCallbackRequest req) {
+        if (!authorized(header)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        indexingCallbackService.apply(req);
+        return ResponseEntity.noContent().build();
+    }
+
+    // 길이/내용에 따른 시간 차이가 나지 않도록 상수 시간 비교
+    private boolean authorized(String header) {
+        return token.length > 0 && header != null
+                && MessageDigest.isEqual(token, header.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,130 @@
+package io.github.tuddy.controller;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.github.tuddy.service.LocalBlobStore;
+import io.swagger.v3.oas.annotations.Hidden;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+// 로컬 저장소(app.storage.type=local)의 서명 URL 처리 : S3 presigned URL 과 같은 역할 (JWT 대신 서명으로 인증)
+// 다운로드는 Tomcat sendfile 로 전송 (파일 -> 소켓을 커널 안에서 복사, 힙 버퍼를 거치지 않음)
+// Content-Type 은 업로드 때 검증/서명한 값만 사용 (파일 이름 확장자로 추측하면 .html 키가 같은 출처에서 실행됨)
+@Hidden
+@RestController
+@RequestMapping(LocalBlobStore.PATH)
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "local")
+@RequiredArgsConstructor
+public class LocalBlobController {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    // 브라우저에서 바로 열어도 스크립트가 실행되지 않는 형식만 inline (SVG 는 스크립트를 담을 수 있어 제외)
+    private static final Set<String> INLINE_TYPES = Set.of("application/pdf", "image/png", "image/jpeg", "image/gif", "image/webp");
+
+    private final LocalBlobStore blobStore;
+
+    @GetMapping
+    public void get(@RequestParam String key,
+                    @RequestParam(required = false) String cacheControl,
+                    @RequestParam long expires,
+                    @RequestParam String signature,
+                    HttpServletRequest request,
+                    HttpServletResponse response) throws IOException {
+        if (!blobStore.verify(new LocalBlobStore.Grant("GET", key, null, 0, -1, null, cacheControl, expires), signature)) {
+            response.sendError(HttpStatus.FORBIDDEN.value());
+            return;
+        }
+        Path file = blobStore.resolve(key);
+        long size;
+        try {
+            size = Files.size(file);
+        } catch (NoSuchFileException e) {
+            response.sendError(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+
+        MediaType contentType = storedType(key);
+        response.setContentType(contentType.toString());
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        if (!INLINE_TYPES.contains(contentType.getType() + "/" + contentType.getSubtype())) {
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                    .filename(file.getFileName().toString(), StandardCharsets.UTF_8).build().toString());
+        }
+        response.setContentLengthLong(size);
+        if (cacheControl != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        }
+
+        // 컨테이너가 sendfile 을 지원하면 본문은 응답 커밋 시 Tomcat 이 직접 전송
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, size);
+            return;
+        }
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            for (long pos = 0; pos < size; ) {
+                pos += in.transferTo(pos, size - pos, out);
+            }
+        }
+    }
+
+    // 단일 업로드(presignPut) 또는 멀티파트 파트 업로드(presignUploadPart, 응답 ETag 를 완료 요청에 사용)
+    @PutMapping
+    public ResponseEntity<Void> put(@RequestParam String key,
+                                    @RequestParam(required = false) String uploadId,
+                                    @RequestParam(defaultValue = "0") int partNumber,
+                                    @RequestParam(defaultValue = "-1") long length,
+                                    @RequestParam(required = false) String contentType,
+                                    @RequestParam long expires,
+                                    @RequestParam String signature,
+                                    HttpServletRequest request) throws IOException {
+        if (!blobStore.verify(new LocalBlobStore.Grant("PUT", key, uploadId, partNumber, length, contentType, null, expires), signature)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        if (uploadId == null) {
+            blobStore.receive(key, contentType, request.getInputStream(), length);
+            return ResponseEntity.ok().build();
+        }
+        String eTag = blobStore.receivePart(key, uploadId, partNumber, request.getInputStream());
+        return ResponseEntity.ok().eTag(eTag).build();
+    }
+
+    // 형식이 저장되지 않았거나 읽을 수 없으면 octet-stream
+    private MediaType storedType(String key) {
+        String stored = blobStore.contentType(key);
+        try {
+            return stored != null ? MediaType.parseMediaType(stored) : MediaType.APPLICATION_OCTET_STREAM;
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package io.github.tuddy.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.github.tuddy.dto.SyncResponse;
+import io.github.tuddy.security.SecurityUtils;
+import io.github.tuddy.service.SyncService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@Tag(name = "동기화 API", description = "세션, 메시지, 파일 변경분을 한 번에 받아오는 API")
+@RestController
+@RequiredArgsConstructor
+public class SyncController {
+
+    private final SyncService syncService;
+
+    @Operation(summary = "델타 동기화", description = "since 커서 이후 생성/변경된 세션, 메시지, 파일을 반환 (첫 동기화는 since 생략). hasMore 가 true 면 응답의 cursor 로 이어서 요청")
+    @GetMapping("/sync")
+    public ResponseEntity<SyncResponse> sync(@RequestParam(required = false) String since) {
+        Long userId = SecurityUtils.requireUserId();
+        return ResponseEntity.ok(syncService.sync(userId, since));
+    }
+}
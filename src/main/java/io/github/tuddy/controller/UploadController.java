@@ -1,16 +1,26 @@
 package io.github.tuddy.controller;
 
+import java.util.List;
 import java.util.Map;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import io.github.tuddy.dto.MultipartCompleteRequest;
+import io.github.tuddy.dto.MultipartPartsRequest;
+import io.github.tuddy.dto.MultipartUploadRequest;
+import io.github.tuddy.dto.PresignGetBatchRequest;
+import io.github.tuddy.dto.PresignedGetResult;
+import io.github.tuddy.dto.UploadedFileResponse;
 import io.github.tuddy.entity.file.UploadedFile;
 import io.github.tuddy.security.AuthUser;
 import io.github.tuddy.security.SecurityUtils;
@@ -19,6 +29,7 @@ import io.github.tuddy.service.S3Service;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
 @Tag(name = "파일 업로드 API", description = "S3 파일 업로드/다운로드를 위한 Presigned URL 발급 API")
@@ -67,6 +78,56 @@ public class UploadController {
         }
     }
 
+    // 파일 목록/썸네일 : 여러 파일의 다운로드 URL 을 한 번에 (본인 파일이 아니면 항목별 error)
+    @Operation(summary = "여러 파일 조회 URL 일괄 생성", description = "여러 S3 key 의 다운로드 URL 을 한 번에 발급. 만료 전까지 같은 URL 을 재사용하므로 브라우저 캐시 가능")
+    @PostMapping("/get/batch")
+    public ResponseEntity<List<PresignedGetResult>> presignGetBatch(@RequestBody @Valid PresignGetBatchRequest req) {
+        Long uid = SecurityUtils.requireUserId();
+        return ResponseEntity.ok(fileService.presignGetAll(uid, req.keys()));
+    }
+
+    // ===== 브라우저 직접 멀티파트 업로드 =====
+    // 1) 시작 -> 2) 파트 URL 발급 -> 3) 파트별 병렬 PUT (응답 ETag 보관) -> 4) 완료 (실패 시 중단)
+    // 네트워크 오류 시 실패한 파트만 URL 재발급 후 재전송
+    @Operation(summary = "멀티파트 업로드 시작", description = "대용량 파일을 파트로 나눠 브라우저에서 병렬 업로드하기 위한 업로드를 시작하고 fileId, 파트 크기/개수를 반환")
+    @PostMapping("/multipart")
+    public ResponseEntity<?> startMultipart(@RequestBody @Valid MultipartUploadRequest req) {
+        Long uid = SecurityUtils.requireUserId();
+        try {
+            return ResponseEntity.ok(fileService.startMultipartUpload(uid, req));
+        } catch (IllegalArgumentException ex) {
+            String msg = ex.getMessage();
+            if (msg != null && msg.startsWith("SIZE_LIMIT")) {
+                return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(Map.of("error", msg));
+            }
+            return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE).body(Map.of("error", msg));
+        }
+    }
+
+    @Operation(summary = "멀티파트 파트 업로드 URL 발급", description = "요청한 파트 번호들의 presigned PUT URL 을 한 번에 발급 (파트 번호 -> URL)")
+    @PostMapping("/multipart/{fileId}/parts")
+    public ResponseEntity<Map<Integer, String>> presignParts(@PathVariable Long fileId,
+                                                             @RequestBody @Valid MultipartPartsRequest req) {
+        Long uid = SecurityUtils.requireUserId();
+        return ResponseEntity.ok(fileService.presignUploadParts(uid, fileId, req.partNumbers()));
+    }
+
+    @Operation(summary = "멀티파트 업로드 완료", description = "업로드한 파트들의 번호와 ETag 로 파일을 완성. 이후 /files/{fileId}/process 로 인덱싱 요청")
+    @PostMapping("/multipart/{fileId}/complete")
+    public ResponseEntity<UploadedFileResponse> completeMultipart(@PathVariable Long fileId,
+                                                                  @RequestBody @Valid MultipartCompleteRequest req) {
+        Long uid = SecurityUtils.requireUserId();
+        return ResponseEntity.ok(fileService.completeMultipartUpload(uid, fileId, req.parts()));
+    }
+
+    @Operation(summary = "멀티파트 업로드 중단", description = "진행 중인 업로드를 취소하고 업로드된 파트와 파일 정보를 삭제")
+    @DeleteMapping("/multipart/{fileId}")
+    public ResponseEntity<Void> abortMultipart(@PathVariable Long fileId) {
+        Long uid = SecurityUtils.requireUserId();
+        fileService.abortMultipartUpload(uid, fileId);
+        return ResponseEntity.noContent().build();
+    }
+
     @Operation(summary = "파일 조회를 위한 Presigned URL 생성", description = "S3에 저장된 파일을 다운로드할 수 있는 1회용 URL을 생성")
     @Parameter(name = "key", description = "S3에 저장된 파일의 전체 경로(key)", required = true)
     @GetMapping("/get")
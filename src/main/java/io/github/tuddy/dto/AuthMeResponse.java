@@ -1,8 +1,16 @@
 package io.github.tuddy.dto;
 
+import io.github.tuddy.entity.user.UserAccount;
+
 public record AuthMeResponse(Long id,
 							 String displayName,
 							 String loginId,
 							 String email,
 							 String provider,
-							 String role) {}
+							 String role) {
+
+	public static AuthMeResponse from(UserAccount u) {
+		return new AuthMeResponse(u.getId(), u.getDisplayName(), u.getLoginId(), u.getEmail(),
+				u.getProvider().name(), u.getRole().name());
+	}
+}
@@ -0,0 +1,10 @@
+package io.github.tuddy.dto;
+
+import java.util.List;
+
+// 첫 화면에 필요한 데이터 묶음 (/auth/me + /chat/sessions + /files 를 한 번에)
+public record BootstrapResponse(
+    AuthMeResponse me,
+    List<ChatSessionResponse> sessions,
+    List<UploadedFileResponse> files
+) {}
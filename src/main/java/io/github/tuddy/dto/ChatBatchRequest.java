@@ -0,0 +1,12 @@
+package io.github.tuddy.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+
+// Client -> Spring Controller
+// 서로 독립적인 여러 질문을 한 번에 전송 (퀴즈 생성 등), 파일 첨부 없이 fileId 로만 RAG 사용
+public record ChatBatchRequest(
+    @NotEmpty List<@Valid ChatProxyRequest> requests
+) {}
@@ -0,0 +1,18 @@
+package io.github.tuddy.dto;
+
+// 배치 요청의 개별 결과 (요청 순서와 동일, 실패한 항목은 error 에 사유 코드)
+// error : ACCESS_DENIED(파일 권한 없음) / RATE_LIMITED(RAG 한도 초과) / BUSY(대기열 포화) / CHAT_FAILED(그 외)
+public record ChatBatchResult(
+    int index,
+    Long sessionId,
+    String answer,
+    String error
+) {
+    public static ChatBatchResult ok(int index, Long sessionId, String answer) {
+        return new ChatBatchResult(index, sessionId, answer, null);
+    }
+
+    public static ChatBatchResult failed(int index, Long sessionId, String error) {
+        return new ChatBatchResult(index, sessionId, null, error);
+    }
+}
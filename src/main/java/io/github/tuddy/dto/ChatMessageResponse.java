@@ -4,20 +4,31 @@ import java.time.LocalDateTime;
 
 import io.github.tuddy.entity.chat.ChatMessage;
 import io.github.tuddy.entity.chat.SenderType;
+import io.github.tuddy.entity.file.FileStatus;
+import io.github.tuddy.entity.file.UploadedFile;
 
 // 특정 대화방을 클릭했을 때 보게 될 개별 메시지들의 정보
 public record ChatMessageResponse(
     Long id,
     SenderType senderType,
     String content,
-    LocalDateTime createdAt
+    LocalDateTime createdAt,
+    Attachment attachment // 첨부 파일이 없으면 null
 ) {
+    // 메시지에 첨부된 파일 요약 (목록 조회 시 fetch join 으로 함께 로딩해야 N+1 없음)
+    public record Attachment(Long id, String originalFilename, FileStatus status) {
+        static Attachment from(UploadedFile file) {
+            return file == null ? null : new Attachment(file.getId(), file.getOriginalFilename(), file.getStatus());
+        }
+    }
+
     public static ChatMessageResponse from(ChatMessage chatMessage) {
         return new ChatMessageResponse(
             chatMessage.getId(),
             chatMessage.getSenderType(),
             chatMessage.getContent(),
-            chatMessage.getCreatedAt()
+            chatMessage.getCreatedAt(),
+            Attachment.from(chatMessage.getUploadedFile())
         );
     }
-}
\ No newline at end of file
+}
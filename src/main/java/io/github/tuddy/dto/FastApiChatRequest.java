@@ -1,5 +1,6 @@
 package io.github.tuddy.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 // Spring -> FastAPI
 // Request Body에 맞게 필드 정의
@@ -7,5 +8,15 @@ public record FastApiChatRequest(
     @JsonProperty("user_id") String userId,
     @JsonProperty("session_id") String sessionId,
     String query,
-    @JsonProperty("n_turns") int nTurns
-) {}
\ No newline at end of file
+    @JsonProperty("n_turns") int nTurns,
+    // 모델 등급 힌트 (fast / full), 없으면 FastAPI 기본 모델
+    @JsonProperty("model_tier") @JsonInclude(JsonInclude.Include.NON_NULL) String modelTier
+) {
+    public FastApiChatRequest(String userId, String sessionId, String query, int nTurns) {
+        this(userId, sessionId, query, nTurns, null);
+    }
+
+    public FastApiChatRequest withModelTier(String modelTier) {
+        return new FastApiChatRequest(userId, sessionId, query, nTurns, modelTier);
+    }
+}
@@ -0,0 +1,23 @@
+package io.github.tuddy.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+// FastAPI -> Spring
+// 배치 OCR 요청의 파일별 처리 결과
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record FastApiOcrBatchResponse(List<Item> results) {
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Item(
+        @JsonProperty("file_key") String fileKey,
+        String status,
+        String error
+    ) {
+        public boolean succeeded() {
+            return "ok".equalsIgnoreCase(status) || "success".equalsIgnoreCase(status);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package io.github.tuddy.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+// Client -> Spring Controller
+// 여러 파일을 한 번에 삭제 요청
+public record FileDeleteRequest(
+    @NotEmpty List<@NotNull Long> fileIds
+) {}
@@ -0,0 +1,7 @@
+package io.github.tuddy.dto;
+
+// 일괄 삭제 요청의 파일별 결과 (요청한 fileIds 순서, 삭제되면 error 가 null)
+public record FileDeleteResult(
+    Long fileId,
+    String error
+) {}
@@ -0,0 +1,12 @@
+package io.github.tuddy.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+// Client -> Spring Controller
+// 업로드가 끝난 여러 파일의 OCR/인덱싱을 한 번에 요청
+public record FileProcessRequest(
+    @NotEmpty List<@NotNull Long> fileIds
+) {}
@@ -0,0 +1,10 @@
+package io.github.tuddy.dto;
+
+import io.github.tuddy.entity.file.FileStatus;
+
+// 배치 처리 요청의 파일별 결과 (요청한 fileIds 순서)
+public record FileProcessResult(
+    Long fileId,
+    FileStatus status,
+    String error
+) {}
@@ -0,0 +1,15 @@
+package io.github.tuddy.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+// 모든 파트 업로드 후 완료 요청 : 파트별 PUT 응답의 ETag 헤더 값 전달
+public record MultipartCompleteRequest(
+    @NotEmpty List<@Valid Part> parts
+) {
+    public record Part(@NotNull Integer partNumber, @NotBlank String eTag) {}
+}
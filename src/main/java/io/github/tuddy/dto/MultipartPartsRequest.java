@@ -0,0 +1,12 @@
+package io.github.tuddy.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+// 업로드 URL 을 발급받을 파트 번호 (1부터, 한 번에 최대 1000개)
+public record MultipartPartsRequest(
+    @NotEmpty @Size(max = 1000) List<@NotNull Integer> partNumbers
+) {}
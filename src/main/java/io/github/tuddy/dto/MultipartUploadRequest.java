@@ -0,0 +1,12 @@
+package io.github.tuddy.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+
+// Client -> Spring Controller
+// 브라우저 직접 멀티파트 업로드 시작
+public record MultipartUploadRequest(
+    @NotBlank String filename,
+    @NotBlank String contentType,
+    @Positive long contentLength
+) {}
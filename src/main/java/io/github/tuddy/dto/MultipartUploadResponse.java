@@ -0,0 +1,9 @@
+package io.github.tuddy.dto;
+
+// 멀티파트 업로드 시작 응답 : partSize 단위로 나눠 partCount 개 파트를 업로드
+public record MultipartUploadResponse(
+    Long fileId,
+    String key,
+    long partSize,
+    int partCount
+) {}
@@ -0,0 +1,19 @@
+package io.github.tuddy.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import jakarta.validation.constraints.NotBlank;
+
+// FastAPI -> Spring (내부 콜백)
+// 파일별 인덱싱 진행/완료/실패 통지
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record OcrCallbackRequest(
+    @JsonProperty("file_key") @NotBlank String fileKey,
+    @NotBlank String status,                      // progress, completed, failed
+    Integer progress,                             // 0 ~ 100 (progress 일 때)
+    @JsonProperty("page_count") Integer pageCount,
+    @JsonProperty("chunk_count") Integer chunkCount,
+    @JsonProperty("duration_ms") Long durationMs,
+    String error
+) {}
@@ -0,0 +1,13 @@
+package io.github.tuddy.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+// Client -> Spring Controller
+// 파일 목록/썸네일 렌더링 시 여러 파일의 다운로드 URL 을 한 번에 요청
+public record PresignGetBatchRequest(
+    @NotEmpty @Size(max = 100) List<@NotBlank String> keys
+) {}
@@ -0,0 +1,15 @@
+package io.github.tuddy.dto;
+
+import java.time.Instant;
+
+// 다운로드 URL 일괄 발급 결과 (본인 파일이 아니면 url 없이 error)
+public record PresignedGetResult(
+    String key,
+    String url,
+    Instant expiresAt,
+    String error
+) {
+    public static PresignedGetResult denied(String key) {
+        return new PresignedGetResult(key, null, null, "File not found");
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.tuddy.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import io.github.tuddy.entity.chat.ChatMessage;
+import io.github.tuddy.entity.chat.SenderType;
+
+// 델타 동기화 응답 : cursor 이후 생성/변경된 세션, 메시지, 파일
+// hasMore 가 true 면 응답의 cursor 로 다시 요청해 이어받음
+public record SyncResponse(
+    List<ChatSessionResponse> sessions,
+    List<Message> messages,
+    List<UploadedFileResponse> files,
+    String cursor,
+    boolean hasMore
+) {
+    // 세션 목록과 함께 내려가므로 소속 세션 id 포함
+    public record Message(
+        Long id,
+        Long sessionId,
+        SenderType senderType,
+        String content,
+        LocalDateTime createdAt,
+        ChatMessageResponse.Attachment attachment
+    ) {
+        public static Message from(ChatMessage m) {
+            ChatMessageResponse r = ChatMessageResponse.from(m);
+            return new Message(r.id(), m.getSession().getId(), r.senderType(), r.content(), r.createdAt(), r.attachment());
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package io.github.tuddy.entity.file;
+
+public enum OcrJobStatus {
+    PENDING, // 대기 (재시도 대기 포함)
+    RUNNING, // 워커가 가져가 FastAPI 처리 중 (locked_until 까지 임대)
+    DONE,    // 인덱싱 완료
+    FAILED   // 최대 재시도 초과
+}
@@ -14,6 +14,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -47,8 +48,46 @@ public class UploadedFile {
     @Builder.Default // 빌더 패턴 사용 시 기본값 적용
     private FileStatus status = FileStatus.PENDING;
 
+    // 인덱싱 결과 (FastAPI 콜백)
+    @Column(name = "page_count")
+    private Integer pageCount;
+
+    @Column(name = "chunk_count")
+    private Integer chunkCount;
+
+    @Column(name = "indexed_at")
+    private LocalDateTime indexedAt;
+
+    @Column(name = "failure_reason", length = 1000)
+    private String failureReason;
+
+    // 파일 내용 SHA-256 : 같은 사용자가 같은 파일을 다시 올리면 기존 파일 재사용
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    // 브라우저 멀티파트 업로드 진행 중일 때의 S3 uploadId (완료/중단 후 null)
+    @Column(name = "upload_id", length = 1024)
+    private String uploadId;
+
+    // 멀티파트 시작 때 선언한 크기와 파트 수 : 이보다 큰 파트 번호 거절, 완료 후 실제 크기와 비교
+    @Column(name = "declared_size")
+    private Long declaredSize;
+
+    @Column(name = "part_count")
+    private Integer partCount;
+
+    // 델타 동기화 커서 기준 (상태 일괄 변경 쿼리에서도 함께 갱신)
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
     @PrePersist
     void prePersist() {
         this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+
+    @PreUpdate
+    void preUpdate() {
+        this.updatedAt = LocalDateTime.now();
     }
 }
\ No newline at end of file
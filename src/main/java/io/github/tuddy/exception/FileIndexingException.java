@@ -0,0 +1,16 @@
+package io.github.tuddy.exception;
+
+import lombok.Getter;
+
+// 채팅에서 선택한 파일이 아직 인덱싱 중 (-> 409)
+// 클라이언트는 SSE file.status 이벤트로 완료를 받은 뒤 다시 요청
+@Getter
+public class FileIndexingException extends RuntimeException {
+
+    private final Long fileId;
+
+    public FileIndexingException(Long fileId) {
+        super("File is still indexing: " + fileId);
+        this.fileId = fileId;
+    }
+}
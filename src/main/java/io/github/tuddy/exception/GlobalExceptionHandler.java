@@ -2,13 +2,17 @@ package io.github.tuddy.exception;
 
 import java.util.Map;
 
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
 import org.springframework.web.multipart.MaxUploadSizeExceededException;
 
+import io.github.tuddy.web.RateLimitProbe;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -36,6 +40,43 @@ public class GlobalExceptionHandler {
                 .body(Map.of("error", "File too large", "message", "파일 크기가 제한을 초과했습니다."));
     }
 
+    // 사용자별 요청 한도 초과 : 남은 한도와 재시도 시각을 RateLimit-* 헤더로 안내
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<Map<String, String>> handleRateLimit(RateLimitExceededException e) {
+        RateLimitProbe probe = e.getProbe();
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header("RateLimit-Limit", String.valueOf(probe.limit()))
+                .header("RateLimit-Remaining", String.valueOf(probe.remaining()))
+                .header("RateLimit-Reset", String.valueOf(probe.resetSeconds()))
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(probe.retryAfterSeconds()))
+                .body(Map.of("error", "Too Many Requests",
+                        "message", "요청 한도를 초과했습니다. " + probe.retryAfterSeconds() + "초 후 다시 시도해주세요."));
+    }
+
+    // 채팅에서 선택한 파일이 아직 인덱싱 중 : 레인 스레드에서 기다리지 않고 바로 응답, 완료는 SSE file.status 로 안내
+    @ExceptionHandler(FileIndexingException.class)
+    public ResponseEntity<Map<String, String>> handleFileIndexing(FileIndexingException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Map.of("error", "File Indexing", "fileId", String.valueOf(e.getFileId()),
+                        "message", "파일을 아직 분석하고 있습니다. 완료되면 다시 질문해주세요."));
+    }
+
+    // 실행 레인(bulkhead) 포화 : 잠시 후 재시도 유도
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<Map<String, String>> handleRejected(TaskRejectedException e) {
+        log.warn("Bulkhead rejected: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(Map.of("error", "Service Busy", "message", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."));
+    }
+
+    @ExceptionHandler(AsyncRequestTimeoutException.class)
+    public ResponseEntity<Map<String, String>> handleAsyncTimeout(AsyncRequestTimeoutException e) {
+        log.warn("Async request timed out");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(Map.of("error", "Timeout", "message", "요청 처리 시간이 초과되었습니다."));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, String>> handleException(Exception e) {
         log.error("Internal Server Error", e);
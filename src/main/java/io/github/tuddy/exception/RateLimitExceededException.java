@@ -0,0 +1,19 @@
+package io.github.tuddy.exception;
+
+import io.github.tuddy.web.RateLimitBudget;
+import io.github.tuddy.web.RateLimitProbe;
+import lombok.Getter;
+
+// 사용자별 요청 한도 초과 (-> 429)
+@Getter
+public class RateLimitExceededException extends RuntimeException {
+
+    private final RateLimitBudget budget;
+    private final RateLimitProbe probe;
+
+    public RateLimitExceededException(RateLimitBudget budget, RateLimitProbe probe) {
+        super("Rate limit exceeded: " + budget);
+        this.budget = budget;
+        this.probe = probe;
+    }
+}
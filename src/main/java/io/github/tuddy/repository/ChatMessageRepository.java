@@ -1,9 +1,12 @@
 package io.github.tuddy.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -14,6 +17,8 @@ import io.github.tuddy.entity.file.UploadedFile;
 
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
 
+    // 첨부 파일(ManyToOne)은 left join 으로 함께 로딩 : 페이지 크기와 무관하게 쿼리 1회
+    @EntityGraph(attributePaths = "uploadedFile")
     Slice<ChatMessage> findAllBySessionIdOrderByCreatedAtDesc(Long sessionId, Pageable pageable);
 
     @Query("SELECT DISTINCT m.uploadedFile FROM ChatMessage m " +
@@ -25,4 +30,12 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
 
     // 해당 세션에 파일 첨부 메세지 있나 확인
     boolean existsBySessionIdAndUploadedFileIsNotNull(Long sessionId);
+
+    // 델타 동기화 : 메시지도 불변이라 id 커서 (세션 id 필요하므로 함께 로딩)
+    @Query("select m from ChatMessage m join fetch m.session s left join fetch m.uploadedFile " +
+           "where s.userAccount.id = :userId and m.id > :afterId and m.createdAt <= :until order by m.id")
+    List<ChatMessage> findCreatedSince(@Param("userId") Long userId,
+                                       @Param("afterId") Long afterId,
+                                       @Param("until") LocalDateTime until,
+                                       Limit limit);
 }
\ No newline at end of file
@@ -1,8 +1,12 @@
 package io.github.tuddy.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import io.github.tuddy.entity.chat.ChatSession;
 
@@ -10,4 +14,15 @@ public interface ChatSessionRepository extends JpaRepository<ChatSession, Long>
 
 	// 기존 메서드 대체: Pageable을 받아 Slice 반환 (무한 스크롤에 최적화)
 	List<ChatSession> findAllByUserAccountIdOrderByCreatedAtDesc(Long userId);
+
+	// 첫 화면용 최근 N개
+	List<ChatSession> findAllByUserAccountIdOrderByCreatedAtDesc(Long userId, Limit limit);
+
+	// 델타 동기화 : 세션은 생성 후 변경되지 않으므로 id 커서
+	@Query("select s from ChatSession s where s.userAccount.id = :userId and s.id > :afterId " +
+	       "and s.createdAt <= :until order by s.id")
+	List<ChatSession> findCreatedSince(@Param("userId") Long userId,
+	                                   @Param("afterId") Long afterId,
+	                                   @Param("until") LocalDateTime until,
+	                                   Limit limit);
 }
\ No newline at end of file
@@ -0,0 +1,55 @@
+package io.github.tuddy.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.github.tuddy.entity.file.OcrJob;
+import io.github.tuddy.entity.file.OcrJobStatus;
+import jakarta.persistence.LockModeType;
+
+public interface OcrJobRepository extends JpaRepository<OcrJob, Long> {
+
+    // 처리할 작업 선점 : 대기 시각이 지난 PENDING, 임대가 만료된 RUNNING(워커 중단 등)
+    // 다른 인스턴스가 잠근 행은 건너뜀 (MySQL 8 SKIP LOCKED), 호출 측 트랜잭션 안에서 실행
+    @Query(value = """
+            SELECT * FROM ocr_jobs
+            WHERE (status = 'PENDING' AND next_attempt_at <= :now)
+               OR (status = 'RUNNING' AND locked_until < :now)
+            ORDER BY next_attempt_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<OcrJob> claim(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // 완료 반영 전 임대 확인 : 선점 때 받은 임대 시각이 그대로인 작업만 행 잠금 후 조회
+    // (처리 중 임대가 만료돼 다른 워커가 다시 선점했다면 locked_until 이 바뀌어 제외됨)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select j from OcrJob j where j.id in :ids and j.status = :status and j.lockedUntil = :lease")
+    List<OcrJob> findLeased(@Param("ids") Collection<Long> ids, @Param("status") OcrJobStatus status,
+                            @Param("lease") LocalDateTime lease);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update OcrJob j set j.status = :status, j.lockedUntil = null where j.id in :ids")
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("status") OcrJobStatus status);
+
+    // 선점했지만 이번에 실행하지 않는 작업을 되돌림 : 시도 횟수 원복, 임대가 그대로인 작업만
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update OcrJob j set j.status = io.github.tuddy.entity.file.OcrJobStatus.PENDING,
+                j.lockedUntil = null, j.attempts = j.attempts - 1
+            where j.id in :ids and j.status = io.github.tuddy.entity.file.OcrJobStatus.RUNNING and j.lockedUntil = :lease
+            """)
+    int release(@Param("ids") Collection<Long> ids, @Param("lease") LocalDateTime lease);
+
+    long countByStatus(OcrJobStatus status);
+}
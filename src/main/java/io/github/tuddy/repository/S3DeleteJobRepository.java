@@ -0,0 +1,48 @@
+package io.github.tuddy.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.github.tuddy.entity.file.S3DeleteJob;
+
+public interface S3DeleteJobRepository extends JpaRepository<S3DeleteJob, Long> {
+
+    // 삭제할 키 선점 : 대기 시각이 지난 행만, 다른 인스턴스가 잠근 행은 건너뜀
+    // 선점한 쪽이 next_attempt_at 을 임대 시각으로 미뤄두므로 중단돼도 임대가 끝나면 다시 대상이 됨
+    @Query(value = """
+            SELECT * FROM s3_delete_jobs
+            WHERE next_attempt_at <= :now
+            ORDER BY next_attempt_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<S3DeleteJob> claim(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // 이미 삭제 대기 중인 키 (정리 작업이 같은 키를 중복 등록하지 않도록)
+    @Query("select j.s3Key from S3DeleteJob j where j.s3Key in :keys")
+    List<String> findQueuedKeys(@Param("keys") Collection<String> keys);
+
+    // 삭제 대기 등록 : 이미 등록된 키는 무시 (uk_s3_delete_job_key)
+    // 여러 인스턴스의 정리 작업이나 같은 파일의 동시 삭제 요청이 겹쳐도 키당 한 행, 트랜잭션도 실패하지 않음
+    default void enqueue(Collection<String> keys) {
+        LocalDateTime now = LocalDateTime.now();
+        keys.forEach(key -> insertIfAbsent(key, now));
+    }
+
+    // INSERT IGNORE 는 길이 초과 등 다른 오류도 경고로 바꾸므로 중복 키만 무시
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO s3_delete_jobs (s3_key, attempts, next_attempt_at, created_at)
+            VALUES (:key, 0, :now, :now)
+            ON DUPLICATE KEY UPDATE s3_key = s3_key
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("key") String key, @Param("now") LocalDateTime now);
+}
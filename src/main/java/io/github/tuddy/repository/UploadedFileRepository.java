@@ -1,17 +1,95 @@
 package io.github.tuddy.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import io.github.tuddy.entity.file.FileStatus;
 import io.github.tuddy.entity.file.UploadedFile;
+import jakarta.persistence.LockModeType;
 
 public interface UploadedFileRepository extends JpaRepository<UploadedFile, Long> {
 
     // 현재 로그인한 사용자가 업로드한 모든 파일을 최신순으로 조회
     List<UploadedFile> findAllByUserAccountIdOrderByCreatedAtDesc(Long userId);
 
+    // 첫 화면용 최근 N개
+    List<UploadedFile> findAllByUserAccountIdOrderByCreatedAtDesc(Long userId, Limit limit);
+
     // 파일 ID와 사용자 ID를 함께 사용하여 본인 소유의 파일이 맞는지 확인
     Optional<UploadedFile> findByIdAndUserAccountId(Long id, Long userId);
-}
\ No newline at end of file
+
+    // 처리 요청 : 상태 확인부터 작업 등록까지 행 잠금
+    // (정리 작업과 사용자 요청, 여러 인스턴스가 동시에 들어와도 OCR 작업은 한 번만 등록)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select f from UploadedFile f where f.id = :id and f.userAccount.id = :userId")
+    Optional<UploadedFile> findForUpdate(@Param("id") Long id, @Param("userId") Long userId);
+
+    // 일괄 처리 요청 : id 순으로 잠가 요청끼리 교착되지 않도록
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select f from UploadedFile f where f.id in :ids and f.userAccount.id = :userId order by f.id")
+    List<UploadedFile> findAllForUpdate(@Param("ids") Collection<Long> ids, @Param("userId") Long userId);
+
+    // 중복 업로드 확인 : 같은 사용자의 같은 내용 파일 (실패한 파일 제외)
+    Optional<UploadedFile> findFirstByUserAccountIdAndContentHashAndStatusNotOrderByIdDesc(
+            Long userId, String contentHash, FileStatus status);
+
+    // FastAPI 콜백은 파일 키로 식별
+    Optional<UploadedFile> findByS3Key(String s3Key);
+
+    // 다운로드 URL 일괄 발급 : 요청한 키 중 본인 소유만 한 번에 확인
+    @Query("select f.s3Key from UploadedFile f where f.userAccount.id = :userId and f.s3Key in :keys")
+    List<String> findOwnedKeys(@Param("userId") Long userId, @Param("keys") Collection<String> keys);
+
+    @Query("select f.status from UploadedFile f where f.id = :id")
+    Optional<FileStatus> findStatusById(@Param("id") Long id);
+
+    // 본인 소유 파일만 일괄 조회 (배치 처리 요청)
+    List<UploadedFile> findAllByIdInAndUserAccountId(Collection<Long> ids, Long userId);
+
+    // 여러 파일의 상태를 한 번의 UPDATE 로 변경 (벌크 쿼리는 @PreUpdate 를 타지 않으므로 updatedAt 직접 갱신)
+    default int updateStatus(Collection<Long> ids, FileStatus status) {
+        return updateStatus(ids, status, LocalDateTime.now());
+    }
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update UploadedFile f set f.status = :status, f.updatedAt = :now where f.id in :ids")
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("status") FileStatus status, @Param("now") LocalDateTime now);
+
+    // 델타 동기화 : (updatedAt, id) 커서 이후 변경분, until 이전 것만 (커밋 순서 역전 대비)
+    @Query("select f from UploadedFile f where f.userAccount.id = :userId and f.updatedAt <= :until " +
+           "and (f.updatedAt > :afterAt or (f.updatedAt = :afterAt and f.id > :afterId)) " +
+           "order by f.updatedAt, f.id")
+    List<UploadedFile> findChangedSince(@Param("userId") Long userId,
+                                        @Param("afterAt") LocalDateTime afterAt,
+                                        @Param("afterId") Long afterId,
+                                        @Param("until") LocalDateTime until,
+                                        Limit limit);
+
+    // 정리 작업 : 오래된 특정 상태 파일을 id 커서로 나눠 조회
+    @Query("select f from UploadedFile f where f.status = :status and f.createdAt < :before and f.id > :afterId order by f.id")
+    List<UploadedFile> findStale(@Param("status") FileStatus status,
+                                 @Param("before") LocalDateTime before,
+                                 @Param("afterId") Long afterId,
+                                 Limit limit);
+
+    // 정리 작업 : S3 목록 한 페이지 중 DB 에 있는 키
+    @Query("select f.s3Key from UploadedFile f where f.s3Key in :keys")
+    List<String> findExistingKeys(@Param("keys") Collection<String> keys);
+
+    // 조회 이후 상태가 바뀐 파일(처리 요청 등)은 지우지 않도록 상태 조건을 함께 검사
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from UploadedFile f where f.id = :id and f.status = :status")
+    int deleteByIdAndStatus(@Param("id") Long id, @Param("status") FileStatus status);
+}
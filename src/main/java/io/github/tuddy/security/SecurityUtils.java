@@ -4,6 +4,8 @@ import org.springframework.security.authentication.InsufficientAuthenticationExc
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import io.github.tuddy.entity.user.UserRole;
+
 public final class SecurityUtils {
   private SecurityUtils() {}
   public static Long requireUserId() {
@@ -17,4 +19,13 @@ public final class SecurityUtils {
 	}
     throw new InsufficientAuthenticationException("unauthenticated");
   }
+
+  // 현재 사용자 역할 (인증 정보가 없으면 USER)
+  public static UserRole currentRole() {
+    Authentication a = SecurityContextHolder.getContext().getAuthentication();
+    if (a != null && a.getAuthorities().stream().anyMatch(g -> "ROLE_ADMIN".equals(g.getAuthority()))) {
+		return UserRole.ADMIN;
+	}
+    return UserRole.USER;
+  }
 }
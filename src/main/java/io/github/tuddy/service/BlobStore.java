@@ -0,0 +1,56 @@
+package io.github.tuddy.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+// 파일 원본 저장소 : app.storage.type 으로 선택 (s3 = S3BlobStore, local = LocalBlobStore)
+// 검증/키 규칙/메트릭/URL 캐시는 S3Service 에서 처리하고, 구현체는 저장과 URL 서명만 담당
+public interface BlobStore {
+
+    record Blob(String key, Instant lastModified, long size) {}
+
+    // truncated = 뒤에 더 있음 (마지막 키를 startAfter 로 이어서 조회)
+    record Page(List<Blob> objects, boolean truncated) {}
+
+    record SignedUrl(String url, Instant expiresAt) {}
+
+    // 서버 업로드 : size < 0 이면 길이를 모르는 스트림, 전송한 파트 수 반환 (한 번에 저장하면 1)
+    int put(String key, String contentType, InputStream in, long size) throws IOException;
+
+    void download(String key, Path target) throws IOException;
+
+    boolean exists(String key);
+
+    // 저장된 객체 크기 (HEAD)
+    long size(String key);
+
+    // startAfter 이후 키부터 키 순서로 maxKeys 개
+    Page list(String prefix, String startAfter, int maxKeys);
+
+    // 실패한 키와 사유 반환 (없는 키는 성공으로 처리)
+    Map<String, String> delete(List<String> keys);
+
+    SignedUrl presignGet(String key, Duration ttl, String cacheControl);
+
+    SignedUrl presignPut(String key, String contentType, long contentLength, Duration ttl);
+
+    // ===== 브라우저 직접 멀티파트 업로드 =====
+
+    String createMultipartUpload(String key, String contentType);
+
+    SignedUrl presignUploadPart(String key, String uploadId, int partNumber, Duration ttl);
+
+    // 파트 번호 -> ETag
+    void completeMultipartUpload(String key, String uploadId, Map<Integer, String> eTags);
+
+    // 이미 끝났거나 없는 업로드는 무시
+    void abortMultipartUpload(String key, String uploadId);
+
+    // 클라이언트 권장 파트 크기
+    int partSize();
+}
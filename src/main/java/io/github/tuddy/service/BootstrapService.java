@@ -0,0 +1,76 @@
+package io.github.tuddy.service;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.tuddy.dto.AuthMeResponse;
+import io.github.tuddy.dto.BootstrapResponse;
+import io.github.tuddy.dto.ChatSessionResponse;
+import io.github.tuddy.dto.UploadedFileResponse;
+import io.github.tuddy.repository.ChatSessionRepository;
+import io.github.tuddy.repository.UploadedFileRepository;
+import io.github.tuddy.repository.UserAccountRepository;
+
+// 첫 화면 데이터를 한 요청에서 모아 반환
+// 세 조회는 서로 독립이라 가상 스레드에서 동시에 실행 (각자 읽기 전용 트랜잭션 = 커넥션 1개씩)
+// -> 요청 1건이 커넥션 풀에서 3개를 동시에 잡음 (풀 크기 산정 시 동시 bootstrap 수 x 3 으로 계산)
+@Service
+public class BootstrapService {
+
+    private final UserAccountRepository userAccountRepository;
+    private final ChatSessionRepository sessionRepository;
+    private final UploadedFileRepository uploadedFileRepository;
+    private final TransactionTemplate readOnly;
+    private final int sessionLimit;
+    private final int fileLimit;
+
+    public BootstrapService(UserAccountRepository userAccountRepository,
+                            ChatSessionRepository sessionRepository,
+                            UploadedFileRepository uploadedFileRepository,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${app.bootstrap.sessions:20}") int sessionLimit,
+                            @Value("${app.bootstrap.files:20}") int fileLimit) {
+        this.userAccountRepository = userAccountRepository;
+        this.sessionRepository = sessionRepository;
+        this.uploadedFileRepository = uploadedFileRepository;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.sessionLimit = Math.max(1, sessionLimit);
+        this.fileLimit = Math.max(1, fileLimit);
+    }
+
+    public BootstrapResponse load(Long userId) {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<AuthMeResponse> me = executor.submit(() -> readOnly.execute(status ->
+                    userAccountRepository.findById(userId).map(AuthMeResponse::from)
+                            .orElseThrow(() -> new AccessDeniedException("User not found"))));
+            Future<List<ChatSessionResponse>> sessions = executor.submit(() -> readOnly.execute(status ->
+                    sessionRepository.findAllByUserAccountIdOrderByCreatedAtDesc(userId, Limit.of(sessionLimit))
+                            .stream().map(ChatSessionResponse::from).toList()));
+            Future<List<UploadedFileResponse>> files = executor.submit(() -> readOnly.execute(status ->
+                    uploadedFileRepository.findAllByUserAccountIdOrderByCreatedAtDesc(userId, Limit.of(fileLimit))
+                            .stream().map(UploadedFileResponse::from).toList()));
+
+            return new BootstrapResponse(me.get(), sessions.get(), files.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Bootstrap interrupted", e);
+        } catch (ExecutionException e) {
+            // 원래 예외(AccessDenied 등)를 그대로 올려 GlobalExceptionHandler 매핑 유지
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IllegalStateException("Bootstrap failed", e.getCause());
+        }
+    }
+}
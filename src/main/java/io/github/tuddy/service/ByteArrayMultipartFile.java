@@ -0,0 +1,51 @@
+package io.github.tuddy.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+
+import org.springframework.web.multipart.MultipartFile;
+
+// 메모리에서 만든 파일 내용을 MultipartFile 로 전달 (전처리한 이미지를 기존 중계 경로에 그대로 사용)
+final class ByteArrayMultipartFile implements MultipartFile {
+
+    private final String name;
+    private final String originalFilename;
+    private final String contentType;
+    private final byte[] content;
+
+    ByteArrayMultipartFile(String name, String originalFilename, String contentType, byte[] content) {
+        this.name = name;
+        this.originalFilename = originalFilename;
+        this.contentType = contentType;
+        this.content = content;
+    }
+
+    @Override
+    public String getName() { return name; }
+
+    @Override
+    public String getOriginalFilename() { return originalFilename; }
+
+    @Override
+    public String getContentType() { return contentType; }
+
+    @Override
+    public boolean isEmpty() { return content.length == 0; }
+
+    @Override
+    public long getSize() { return content.length; }
+
+    @Override
+    public byte[] getBytes() { return content; }
+
+    @Override
+    public InputStream getInputStream() { return new ByteArrayInputStream(content); }
+
+    @Override
+    public void transferTo(File dest) throws IOException {
+        Files.write(dest.toPath(), content);
+    }
+}
@@ -0,0 +1,10 @@
+package io.github.tuddy.service;
+
+import io.github.tuddy.dto.ChatMessageResponse;
+
+// 채팅 메시지 저장 (커밋 후 SSE 로 다른 기기에 전달)
+public record ChatMessageSavedEvent(
+    Long userId,
+    Long sessionId,
+    ChatMessageResponse message
+) {}
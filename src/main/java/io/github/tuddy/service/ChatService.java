@@ -1,8 +1,16 @@
 package io.github.tuddy.service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.security.access.AccessDeniedException;
@@ -13,6 +21,8 @@ import org.springframework.web.multipart.MultipartFile;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.github.tuddy.client.FairAdmissionQueue;
+import io.github.tuddy.dto.ChatBatchResult;
 import io.github.tuddy.dto.ChatMessageResponse;
 import io.github.tuddy.dto.ChatProxyRequest;
 import io.github.tuddy.dto.ChatProxyResponse;
@@ -23,12 +33,20 @@ import io.github.tuddy.dto.UploadedFileResponse;
 import io.github.tuddy.entity.chat.ChatMessage;
 import io.github.tuddy.entity.chat.ChatSession;
 import io.github.tuddy.entity.chat.SenderType;
+import io.github.tuddy.entity.file.FileStatus;
 import io.github.tuddy.entity.file.UploadedFile;
 import io.github.tuddy.entity.user.UserAccount;
+import io.github.tuddy.entity.user.UserRole;
+import io.github.tuddy.exception.FileIndexingException;
+import io.github.tuddy.exception.RateLimitExceededException;
 import io.github.tuddy.repository.ChatMessageRepository;
 import io.github.tuddy.repository.ChatSessionRepository;
 import io.github.tuddy.repository.UploadedFileRepository;
 import io.github.tuddy.repository.UserAccountRepository;
+import io.github.tuddy.security.SecurityUtils;
+import io.github.tuddy.service.routing.ModelTierRouter;
+import io.github.tuddy.web.RateLimitBudget;
+import io.github.tuddy.web.RateLimiter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -45,28 +63,70 @@ public class ChatService {
     private final UploadedFileRepository uploadedFileRepository;
     private final ObjectMapper objectMapper;
     private final TransactionTemplate transactionTemplate;
+    private final RateLimiter rateLimiter;
+    private final FairAdmissionQueue admissionQueue;
+    private final ModelTierRouter tierRouter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ImagePreprocessor imagePreprocessor;
 
     private static final int N_TURNS = 7;
 
+    @Value("${app.chat.batch.max-size:10}")
+    private int batchMaxSize;
+
+    @Value("${app.chat.batch.concurrency:4}")
+    private int batchConcurrency;
+
     public ChatProxyResponse processChat(Long userId, ChatProxyRequest req, List<MultipartFile> files) {
+        return processChat(userId, req, files, false);
+    }
 
-        // 1. [트랜잭션] 세션 조회 또는 생성
-        ChatSession session = transactionTemplate.execute(status -> findOrCreateSession(userId, req));
+    // originalImages : 첨부 이미지를 줄이지 않고 원본 그대로 중계 (작은 글씨 판독 등)
+    public ChatProxyResponse processChat(Long userId, ChatProxyRequest req, List<MultipartFile> files, boolean originalImages) {
+
+        UserRole role = SecurityUtils.currentRole();
+
+        // 1. RAG 대화 여부를 먼저 판단해 요청 한도 확인 (세션 생성/업로드/저장 전에 429)
+        // 새 세션에는 이전 대화가 없으므로 요청한 sessionId 로만 확인 (소유자 검증은 아래 세션 조회에서)
+        boolean hasNewFiles = files != null && !files.isEmpty();
+        boolean hasFileId = req.fileId() != null && req.fileId() != 0;
+        boolean hasSessionId = req.sessionId() != null && req.sessionId() != 0;
+        boolean hasHistory = !hasNewFiles && !hasFileId && hasSessionId
+                && messageRepository.existsBySessionIdAndUploadedFileIsNotNull(req.sessionId());
+        if (hasNewFiles || hasFileId || hasHistory) {
+            rateLimiter.consume(userId, RateLimitBudget.RAG_CHAT);
+        }
 
+        // 1-1. 기존 파일을 선택한 경우 (fileId가 있는 경우) 세션/메시지를 만들기 전에 확인
+        // 아직 인덱싱 중이면 채팅 레인 스레드에서 기다리지 않고 바로 409 (완료는 SSE file.status 이벤트로 받아 다시 요청)
         UploadedFile currentFile = null;
+        if (!hasNewFiles && hasFileId) {
+            currentFile = uploadedFileRepository.findByIdAndUserAccountId(req.fileId(), userId)
+                    .orElseThrow(() -> new AccessDeniedException("File not found or access denied"));
+            if (currentFile.getStatus() == FileStatus.PROCESSING) {
+                throw new FileIndexingException(currentFile.getId());
+            }
+        }
+
+        // 1-2. [트랜잭션] 세션 조회 또는 생성
+        ChatSession session = transactionTemplate.execute(status -> findOrCreateSession(userId, req));
 
         // 2. [수정] 파일 처리 로직 개선
         // Case A: 새로 업로드된 파일이 있는 경우
-        if (files != null && !files.isEmpty()) {
+        if (hasNewFiles) {
             MultipartFile file = files.get(0);
             UploadedFileResponse uploadedDto = fileService.uploadFile(file, userId);
             currentFile = uploadedFileRepository.findById(uploadedDto.id())
                     .orElseThrow(() -> new IllegalStateException("File saved but not found"));
         }
-        // Case B: 기존 파일을 선택해서 보낸 경우 (fileId가 있는 경우)
-        else if (req.fileId() != null && req.fileId() != 0) {
-            currentFile = uploadedFileRepository.findByIdAndUserAccountId(req.fileId(), userId)
-                    .orElseThrow(() -> new AccessDeniedException("File not found or access denied"));
+        // Case B: 기존 파일을 선택해서 보낸 경우는 1-1 에서 조회
+
+        // 2-1. 선택한 파일이 준비되지 않았으면(PENDING/FAILED) 이번 질문에서는 파일 없이 처리
+        boolean fileSkipped = false;
+        if (hasFileId && currentFile.getStatus() != FileStatus.COMPLETED) {
+            log.info("File {} not indexed ({}), answering without it", currentFile.getId(), currentFile.getStatus());
+            fileSkipped = true;
+            hasHistory = messageRepository.existsBySessionIdAndUploadedFileIsNotNull(session.getId());
         }
 
         // 3. [트랜잭션] 사용자 메시지 저장 (파일 정보가 있으면 같이 저장됨)
@@ -87,28 +147,30 @@ public class ChatService {
 
         // 5. [핵심 수정] RAG 모드 라우팅 조건 변경
         // 새 파일이 있거나(files) OR 기존 파일을 선택했거나(currentFile) -> RAG
-        if ((files != null && !files.isEmpty()) || currentFile != null) {
+        if (hasNewFiles || (currentFile != null && !fileSkipped)) {
             log.info("Routing to RAG Chat (Multipart). Session: {}, FileId: {}", session.getId(),
                      (currentFile != null ? currentFile.getId() : "New File"));
 
+            // 이미지는 줄인 사본으로 중계 (S3 에는 원본 저장), 대기열 슬롯을 잡기 전에 처리
+            List<MultipartFile> relayFiles = hasNewFiles && !originalImages ? imagePreprocessor.prepare(files) : files;
+
             // 파일이 없어도(null) currentFile이 있으면 RAG 경로로 보냄 (FastAPI가 세션/벡터DB 참조)
-            botAnswerJson = ragChatService.relayChatWithImages(
+            botAnswerJson = admissionQueue.call(userId, role, () -> ragChatService.relayChatWithImages(
                     ragChatService.getChatPath(),
                     fastApiReq,
-                    files
-            );
+                    relayFiles
+            ));
         } else {
-            // 파일 관련 내용이 전혀 없으면 일반 대화
-            // (단, 이 세션의 과거 기록에 파일이 있었다면 RAG로 보내는 게 좋을 수 있음.
-            //  필요 시 existsBySessionIdAndUploadedFileIsNotNull 체크 추가 가능)
-            boolean hasHistory = messageRepository.existsBySessionIdAndUploadedFileIsNotNull(session.getId());
-
+            // 파일 관련 내용이 전혀 없으면 일반 대화 (과거 기록에 파일이 있었다면 RAG)
             if (hasHistory) {
                 log.info("Routing to RAG Chat (History based). Session: {}", session.getId());
-                botAnswerJson = ragChatService.relayChatWithImages(ragChatService.getChatPath(), fastApiReq, null);
+                botAnswerJson = admissionQueue.call(userId, role,
+                        () -> ragChatService.relayChatWithImages(ragChatService.getChatPath(), fastApiReq, null));
             } else {
                 log.info("Routing to Normal Chat (JSON). Session: {}", session.getId());
-                botAnswerJson = ragChatService.relayNormal(fastApiReq);
+                boolean followUp = req.sessionId() != null && req.sessionId() != 0;
+                botAnswerJson = admissionQueue.call(userId, role,
+                        () -> tierRouter.relay(fastApiReq, followUp, ragChatService::relayNormal));
             }
         }
 
@@ -123,6 +185,120 @@ public class ChatService {
         return new ChatProxyResponse(session.getId(), botAnswerText);
     }
 
+    // 독립적인 여러 질문을 동시에 중계 (배치당 동시 호출 수 제한), 메시지는 한 트랜잭션에서 일괄 저장
+    public List<ChatBatchResult> processBatch(Long userId, List<ChatProxyRequest> requests) {
+        if (requests.size() > batchMaxSize) {
+            throw new IllegalArgumentException("한 번에 최대 " + batchMaxSize + "개까지 요청할 수 있습니다.");
+        }
+        rateLimiter.consume(userId, RateLimitBudget.CHAT, requests.size());
+
+        // 가상 스레드에는 SecurityContext 가 없으므로 미리 확인
+        UserRole role = SecurityUtils.currentRole();
+        List<ChatSession> sessions = transactionTemplate.execute(status -> findOrCreateBatchSessions(userId, requests));
+
+        List<BatchItem> items = new ArrayList<>(requests.size());
+        try (ExecutorService executor = Executors.newFixedThreadPool(
+                Math.max(1, Math.min(batchConcurrency, requests.size())), Thread.ofVirtual().factory())) {
+            List<Future<BatchItem>> futures = new ArrayList<>(requests.size());
+            for (int i = 0; i < requests.size(); i++) {
+                int index = i;
+                futures.add(executor.submit(() -> relayBatchItem(userId, role, index, sessions.get(index), requests.get(index))));
+            }
+            for (Future<BatchItem> f : futures) {
+                items.add(f.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Batch chat interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Batch chat failed", e.getCause());
+        }
+
+        // 성공한 항목의 질문/답변을 요청 순서대로 한 번에 저장
+        List<ChatMessage> messages = new ArrayList<>();
+        for (BatchItem item : items) {
+            if (item.result().error() == null) {
+                messages.add(ChatMessage.builder().session(item.session()).senderType(SenderType.USER)
+                        .content(item.query()).uploadedFile(item.file()).build());
+                messages.add(ChatMessage.builder().session(item.session()).senderType(SenderType.BOT)
+                        .content(item.result().answer()).build());
+            }
+        }
+        if (!messages.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status ->
+                    messageRepository.saveAll(messages).forEach(m -> publishSaved(m.getSession(), m)));
+        }
+        return items.stream().map(BatchItem::result).toList();
+    }
+
+    private BatchItem relayBatchItem(Long userId, UserRole role, int index, ChatSession session, ChatProxyRequest req) {
+        UploadedFile file = null;
+        try {
+            if (req.fileId() != null && req.fileId() != 0) {
+                file = uploadedFileRepository.findByIdAndUserAccountId(req.fileId(), userId)
+                        .orElseThrow(() -> new AccessDeniedException("File not found or access denied"));
+                if (file.getStatus() == FileStatus.PROCESSING) {
+                    throw new FileIndexingException(file.getId());
+                }
+            }
+            var fastApiReq = new FastApiChatRequest(
+                    String.valueOf(userId), String.valueOf(session.getId()), req.query(), N_TURNS);
+
+            String json;
+            boolean fileReady = file != null && file.getStatus() == FileStatus.COMPLETED;
+            if (fileReady || messageRepository.existsBySessionIdAndUploadedFileIsNotNull(session.getId())) {
+                rateLimiter.consume(userId, RateLimitBudget.RAG_CHAT);
+                json = admissionQueue.call(userId, role,
+                        () -> ragChatService.relayChatWithImages(ragChatService.getChatPath(), fastApiReq, null));
+            } else {
+                boolean followUp = req.sessionId() != null && req.sessionId() != 0;
+                json = admissionQueue.call(userId, role,
+                        () -> tierRouter.relay(fastApiReq, followUp, ragChatService::relayNormal));
+            }
+            return new BatchItem(session, req.query(), file, ChatBatchResult.ok(index, session.getId(), parseAnswer(json)));
+        } catch (RuntimeException e) {
+            log.warn("Batch chat item {} failed: {}", index, e.getMessage());
+            return new BatchItem(session, req.query(), file, ChatBatchResult.failed(index, session.getId(), batchErrorCode(e)));
+        }
+    }
+
+    // 세션을 지정하지 않은 항목(sessionId 없음/0)은 배치당 새 세션 하나를 함께 사용 (항목마다 빈 세션이 생기지 않도록)
+    // 같은 세션에 속한 항목도 서로 독립적인 질문이라 동시에 중계하고, 메시지는 요청 순서대로 저장
+    private List<ChatSession> findOrCreateBatchSessions(Long userId, List<ChatProxyRequest> requests) {
+        List<ChatSession> sessions = new ArrayList<>(requests.size());
+        ChatSession shared = null;
+        for (ChatProxyRequest r : requests) {
+            if (r.sessionId() != null && r.sessionId() != 0) {
+                sessions.add(findOrCreateSession(userId, r));
+            } else {
+                if (shared == null) {
+                    shared = findOrCreateSession(userId, r);
+                }
+                sessions.add(shared);
+            }
+        }
+        return sessions;
+    }
+
+    // 항목별 실패 사유는 고정 코드로만 응답 (예외 메시지에 내부 정보가 담길 수 있음)
+    private static String batchErrorCode(RuntimeException e) {
+        if (e instanceof AccessDeniedException) {
+            return "ACCESS_DENIED";
+        }
+        if (e instanceof FileIndexingException) {
+            return "FILE_INDEXING";
+        }
+        if (e instanceof RateLimitExceededException) {
+            return "RATE_LIMITED";
+        }
+        if (e instanceof TaskRejectedException) {
+            return "BUSY";
+        }
+        return "CHAT_FAILED";
+    }
+
+    private record BatchItem(ChatSession session, String query, UploadedFile file, ChatBatchResult result) {}
+
     private ChatSession findOrCreateSession(Long userId, ChatProxyRequest req) {
         if (req.sessionId() != null && req.sessionId() != 0) {
             return sessionRepository.findById(req.sessionId())
@@ -136,8 +312,15 @@ public class ChatService {
     }
 
     private void saveMessage(ChatSession session, SenderType sender, String content, UploadedFile file) {
-        messageRepository.save(ChatMessage.builder()
+        ChatMessage saved = messageRepository.save(ChatMessage.builder()
                 .session(session).senderType(sender).content(content).uploadedFile(file).build());
+        publishSaved(session, saved);
+    }
+
+    // 커밋 후 같은 사용자의 다른 기기(SSE)로 전달
+    private void publishSaved(ChatSession session, ChatMessage message) {
+        eventPublisher.publishEvent(new ChatMessageSavedEvent(
+                session.getUserAccount().getId(), session.getId(), ChatMessageResponse.from(message)));
     }
 
     private String parseAnswer(String jsonResponse) {
@@ -1,17 +1,38 @@
 package io.github.tuddy.service;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import io.github.tuddy.dto.FileDeleteResult;
+import io.github.tuddy.dto.FileProcessResult;
+import io.github.tuddy.dto.MultipartCompleteRequest;
+import io.github.tuddy.dto.MultipartUploadRequest;
+import io.github.tuddy.dto.MultipartUploadResponse;
+import io.github.tuddy.dto.PresignedGetResult;
 import io.github.tuddy.dto.UploadedFileResponse;
 import io.github.tuddy.entity.file.FileStatus;
+import io.github.tuddy.entity.file.OcrJob;
 import io.github.tuddy.entity.file.UploadedFile;
 import io.github.tuddy.entity.user.UserAccount;
+import io.github.tuddy.repository.OcrJobRepository;
+import io.github.tuddy.repository.S3DeleteJobRepository;
 import io.github.tuddy.repository.UploadedFileRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,38 +44,87 @@ public class FileService {
 
     private final UploadedFileRepository uploadedFileRepository;
     private final S3Service s3Service;
-    private final RagChatService ragChatService;
+    private final OcrJobRepository ocrJobRepository;
+    private final S3DeleteJobRepository s3DeleteJobRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
-    @Transactional
+    @Value("${app.files.process.max-files:50}")
+    private int processMaxFiles;
+
+    @Value("${app.files.delete.max-files:1000}")
+    private int deleteMaxFiles;
+
+    // S3 업로드는 트랜잭션 밖에서 수행하고, 메타데이터 저장 + OCR 작업 등록만 짧은 트랜잭션으로 처리
+    // (업로드/OCR 동안 DB 커넥션을 잡고 있지 않음, 인덱싱은 OcrJobWorker 가 비동기로 진행)
+    // 같은 사용자가 같은 내용의 파일을 다시 올리면 S3 저장과 OCR 을 건너뛰고 기존 파일 반환
     public UploadedFileResponse uploadFile(MultipartFile file, Long userId) {
         if (file.isEmpty()) {
 			throw new IllegalArgumentException("Cannot upload empty file");
 		}
 
+        // multipart 는 이미 서버에 받아둔 상태라 S3 전송 전에 해시 계산 (로컬 재읽기)
+        String hash;
+        try (InputStream in = file.getInputStream()) {
+            hash = ContentHash.sha256(in);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read uploaded file", e);
+        }
+        Optional<UploadedFile> duplicate = findDuplicate(userId, hash);
+        if (duplicate.isPresent()) {
+            return UploadedFileResponse.from(duplicate.get());
+        }
+
         // userId를 넘겨주어 'raw/{userId}/' 경로에 저장되도록 함
         String s3Key = s3Service.upload(file, userId);
+        return UploadedFileResponse.from(register(userId, file.getOriginalFilename(), s3Key, hash));
+    }
 
-        UploadedFile uploadedFile = UploadedFile.builder()
-                .userAccount(UserAccount.builder().id(userId).build())
-                .originalFilename(file.getOriginalFilename())
-                .s3Key(s3Key)
-                .status(FileStatus.PROCESSING)
-                .build();
+    // 요청 본문 스트림 업로드 (임시 파일 없이 S3 로 바로 전달), 이후 처리는 uploadFile 과 동일
+    // 해시는 전송하면서 계산 : 클라이언트가 미리 sha256 을 보내면 본문을 받기 전에 중복 확인
+    public UploadedFileResponse uploadStream(Long userId, String filename, String contentType,
+                                             long contentLength, String clientHash, InputStream body) {
+        String expected = ContentHash.normalize(clientHash);
+        if (expected != null) {
+            Optional<UploadedFile> duplicate = findDuplicate(userId, expected);
+            if (duplicate.isPresent()) {
+                return UploadedFileResponse.from(duplicate.get());
+            }
+        }
+
+        MessageDigest digest = ContentHash.newDigest();
+        String s3Key = s3Service.uploadStream(new DigestInputStream(body, digest), filename, contentType, contentLength, userId);
+        String hash = ContentHash.hex(digest);
 
-        UploadedFile savedFile = uploadedFileRepository.save(uploadedFile);
-
-        try {
-            ragChatService.sendOcrRequest(String.valueOf(userId), s3Key);
-            savedFile.setStatus(FileStatus.COMPLETED);
-            uploadedFileRepository.save(savedFile);
-            log.info("File indexed successfully: {}", s3Key);
-        } catch (Exception e) {
-            log.error("AI Indexing failed: {}", s3Key, e);
-            savedFile.setStatus(FileStatus.COMPLETED);
-            uploadedFileRepository.save(savedFile);
+        // 미리 알 수 없었던 중복 : 방금 올린 객체는 지우고 기존 파일 재사용 (저장 공간과 OCR 절약)
+        Optional<UploadedFile> duplicate = findDuplicate(userId, hash);
+        if (duplicate.isPresent()) {
+            transactionTemplate.executeWithoutResult(status -> s3DeleteJobRepository.enqueue(List.of(s3Key)));
+            return UploadedFileResponse.from(duplicate.get());
         }
+        return UploadedFileResponse.from(register(userId, filename, s3Key, hash));
+    }
+
+    private Optional<UploadedFile> findDuplicate(Long userId, String hash) {
+        Optional<UploadedFile> existing = uploadedFileRepository
+                .findFirstByUserAccountIdAndContentHashAndStatusNotOrderByIdDesc(userId, hash, FileStatus.FAILED);
+        existing.ifPresent(f -> log.info("Duplicate upload for user {}, reusing file {}", userId, f.getId()));
+        return existing;
+    }
 
-        return UploadedFileResponse.from(savedFile);
+    private UploadedFile register(Long userId, String filename, String s3Key, String hash) {
+        return transactionTemplate.execute(status -> {
+            UploadedFile uploadedFile = uploadedFileRepository.save(UploadedFile.builder()
+                    .userAccount(UserAccount.builder().id(userId).build())
+                    .originalFilename(filename)
+                    .s3Key(s3Key)
+                    .contentHash(hash)
+                    .status(FileStatus.PROCESSING)
+                    .build());
+            ocrJobRepository.save(OcrJob.of(uploadedFile, userId));
+            publishStatus(uploadedFile, userId);
+            return uploadedFile;
+        });
     }
 
     @Transactional
@@ -68,21 +138,143 @@ public class FileService {
         return uploadedFileRepository.save(file);
     }
 
+    // OCR/인덱싱 작업 등록 (이미 처리 중이면 중복 등록하지 않음)
+    // 정리 작업(UploadReconciler)과 사용자 요청이 겹칠 수 있으므로 파일 행을 잠그고 확인
     @Transactional
     public void processUploadedFile(Long userId, Long fileId) {
-        UploadedFile file = uploadedFileRepository.findByIdAndUserAccountId(fileId, userId)
+        UploadedFile file = uploadedFileRepository.findForUpdate(fileId, userId)
                 .orElseThrow(() -> new AccessDeniedException("File not found"));
 
+        if (file.getUploadId() != null) {
+            throw new IllegalArgumentException("Upload not completed");
+        }
+        if (file.getStatus() == FileStatus.PROCESSING) {
+            return;
+        }
         file.setStatus(FileStatus.PROCESSING);
-        uploadedFileRepository.saveAndFlush(file);
-
-        try {
-            ragChatService.sendOcrRequest(String.valueOf(userId), file.getS3Key());
-            file.setStatus(FileStatus.COMPLETED);
-        } catch (Exception e) {
-            file.setStatus(FileStatus.FAILED);
-            log.error("File processing failed", e);
+        ocrJobRepository.save(OcrJob.of(file, userId));
+        publishStatus(file, userId);
+    }
+
+    // 여러 파일의 작업을 한 번에 등록 : 상태는 한 번의 UPDATE, 작업은 saveAll
+    // 워커가 사용자별로 묶어 FastAPI 배치 요청으로 처리
+    @Transactional
+    public List<FileProcessResult> processUploadedFiles(Long userId, List<Long> fileIds) {
+        if (fileIds.size() > processMaxFiles) {
+            throw new IllegalArgumentException("한 번에 최대 " + processMaxFiles + "개 파일까지 처리할 수 있습니다.");
+        }
+        Map<Long, UploadedFile> owned = new LinkedHashMap<>();
+        uploadedFileRepository.findAllForUpdate(fileIds.stream().distinct().toList(), userId)
+                .forEach(f -> owned.put(f.getId(), f));
+
+        List<UploadedFile> toQueue = owned.values().stream()
+                .filter(f -> f.getStatus() != FileStatus.PROCESSING && f.getUploadId() == null)
+                .toList();
+        if (!toQueue.isEmpty()) {
+            ocrJobRepository.saveAll(toQueue.stream().map(f -> OcrJob.of(f, userId)).toList());
+            uploadedFileRepository.updateStatus(toQueue.stream().map(UploadedFile::getId).toList(), FileStatus.PROCESSING);
+            toQueue.forEach(f -> eventPublisher.publishEvent(
+                    new FileStatusChangedEvent(f.getId(), userId, FileStatus.PROCESSING, null)));
         }
+
+        return fileIds.stream()
+                .map(id -> {
+                    UploadedFile f = owned.get(id);
+                    if (f == null) {
+                        return new FileProcessResult(id, null, "File not found");
+                    }
+                    return f.getUploadId() != null
+                            ? new FileProcessResult(id, f.getStatus(), "Upload not completed")
+                            : new FileProcessResult(id, FileStatus.PROCESSING, null);
+                })
+                .toList();
+    }
+
+    // ===== 브라우저 직접 멀티파트 업로드 (파트별 presigned URL) =====
+    // S3 호출은 트랜잭션 밖에서, 메타데이터 변경만 짧은 트랜잭션으로 처리
+
+    // 시작 : S3 멀티파트 업로드 생성 후 파일(PENDING) 과 uploadId 저장
+    public MultipartUploadResponse startMultipartUpload(Long userId, MultipartUploadRequest req) {
+        String key = s3Service.buildKey(userId, req.filename());
+        String uploadId = s3Service.createMultipartUpload(key, req.contentType(), req.contentLength());
+        long partSize = s3Service.multipartPartSize();
+        int partCount = (int) ((req.contentLength() + partSize - 1) / partSize);
+
+        UploadedFile file = transactionTemplate.execute(status -> uploadedFileRepository.save(UploadedFile.builder()
+                .userAccount(UserAccount.builder().id(userId).build())
+                .originalFilename(req.filename())
+                .s3Key(key)
+                .uploadId(uploadId)
+                .declaredSize(req.contentLength())
+                .partCount(partCount)
+                .status(FileStatus.PENDING)
+                .build()));
+
+        return new MultipartUploadResponse(file.getId(), key, partSize, partCount);
+    }
+
+    // 파트 업로드 URL 발급 : 필요한 파트만 (재시도 시 실패한 파트만 다시 요청)
+    public Map<Integer, String> presignUploadParts(Long userId, Long fileId, List<Integer> partNumbers) {
+        UploadedFile file = transactionTemplate.execute(status -> findUploading(userId, fileId));
+        return s3Service.presignUploadParts(file.getS3Key(), file.getUploadId(), partNumbers, partCount(file));
+    }
+
+    // 완료 : S3 에서 파트 병합 후 uploadId 해제 (이후 /files/{id}/process 로 인덱싱 요청)
+    // 병합된 크기가 선언한 크기와 다르면 객체와 파일을 지우고 실패 (선언보다 큰 파일이 들어오는 것 차단)
+    public UploadedFileResponse completeMultipartUpload(Long userId, Long fileId, List<MultipartCompleteRequest.Part> parts) {
+        Map<Integer, String> eTags = parts.stream().collect(Collectors.toMap(
+                MultipartCompleteRequest.Part::partNumber, MultipartCompleteRequest.Part::eTag,
+                (a, b) -> { throw new IllegalArgumentException("Duplicate part number"); }));
+
+        UploadedFile file = transactionTemplate.execute(status -> findUploading(userId, fileId));
+        long size = s3Service.completeMultipartUpload(file.getS3Key(), file.getUploadId(), eTags, partCount(file));
+        if (file.getDeclaredSize() != null && size != file.getDeclaredSize()) {
+            log.warn("Multipart size mismatch for file {}: declared {}, actual {}", fileId, file.getDeclaredSize(), size);
+            s3Service.deleteObjects(List.of(file.getS3Key()));
+            transactionTemplate.executeWithoutResult(status -> uploadedFileRepository.deleteById(fileId));
+            throw new IllegalArgumentException("Uploaded size does not match the declared size");
+        }
+
+        UploadedFile completed = transactionTemplate.execute(status -> {
+            UploadedFile f = findUploading(userId, fileId);
+            f.setUploadId(null);
+            return f;
+        });
+        return UploadedFileResponse.from(completed);
+    }
+
+    // 중단 : S3 에 올라간 파트 정리 후 파일 메타데이터 삭제
+    public void abortMultipartUpload(Long userId, Long fileId) {
+        UploadedFile file = transactionTemplate.execute(status -> findUploading(userId, fileId));
+        s3Service.abortMultipartUpload(file.getS3Key(), file.getUploadId());
+        transactionTemplate.executeWithoutResult(status -> uploadedFileRepository.deleteById(fileId));
+    }
+
+    // 컬럼 추가 전에 시작된 업로드는 S3 최대 파트 수까지 허용
+    private int partCount(UploadedFile file) {
+        return file.getPartCount() != null ? file.getPartCount() : S3Service.MAX_PARTS;
+    }
+
+    private UploadedFile findUploading(Long userId, Long fileId) {
+        UploadedFile file = uploadedFileRepository.findByIdAndUserAccountId(fileId, userId)
+                .orElseThrow(() -> new AccessDeniedException("File not found"));
+        if (file.getUploadId() == null) {
+            throw new IllegalArgumentException("No multipart upload in progress");
+        }
+        return file;
+    }
+
+    // 여러 파일의 다운로드 URL : 소유 확인은 쿼리 1회, URL 은 캐시 재사용
+    public List<PresignedGetResult> presignGetAll(Long userId, List<String> keys) {
+        List<String> distinct = keys.stream().distinct().toList();
+        Set<String> owned = new HashSet<>(uploadedFileRepository.findOwnedKeys(userId, distinct));
+        return distinct.stream()
+                .map(key -> owned.contains(key) ? s3Service.presignGetResult(key) : PresignedGetResult.denied(key))
+                .toList();
+    }
+
+    private void publishStatus(UploadedFile file, Long userId) {
+        eventPublisher.publishEvent(new FileStatusChangedEvent(file.getId(), userId, file.getStatus(), null));
     }
 
     @Transactional(readOnly = true)
@@ -91,11 +283,31 @@ public class FileService {
                 .stream().map(UploadedFileResponse::from).collect(Collectors.toList());
     }
 
+    // S3 객체는 outbox(s3_delete_jobs)에 키만 기록하고 S3DeleteWorker 가 DeleteObjects 로 묶어 삭제
+    // (트랜잭션이 S3 응답을 기다리지 않고, S3 실패도 유실 없이 재시도)
     @Transactional
     public void deleteFile(Long userId, Long fileId) {
         UploadedFile file = uploadedFileRepository.findByIdAndUserAccountId(fileId, userId)
                 .orElseThrow(() -> new AccessDeniedException("File not found"));
-        s3Service.deleteFile(file.getS3Key());
+        s3DeleteJobRepository.enqueue(List.of(file.getS3Key()));
         uploadedFileRepository.delete(file);
     }
-}
\ No newline at end of file
+
+    // 여러 파일 삭제 : 소유 확인 조회 1회, outbox saveAll, 파일 DELETE 1회 (요청한 fileIds 순서로 결과 반환)
+    @Transactional
+    public List<FileDeleteResult> deleteFiles(Long userId, List<Long> fileIds) {
+        if (fileIds.size() > deleteMaxFiles) {
+            throw new IllegalArgumentException("한 번에 최대 " + deleteMaxFiles + "개 파일까지 삭제할 수 있습니다.");
+        }
+        List<UploadedFile> owned = uploadedFileRepository.findAllByIdInAndUserAccountId(fileIds.stream().distinct().toList(), userId);
+        if (!owned.isEmpty()) {
+            s3DeleteJobRepository.enqueue(owned.stream().map(UploadedFile::getS3Key).toList());
+            uploadedFileRepository.deleteAllInBatch(owned);
+        }
+
+        Set<Long> deleted = owned.stream().map(UploadedFile::getId).collect(Collectors.toSet());
+        return fileIds.stream()
+                .map(id -> new FileDeleteResult(id, deleted.contains(id) ? null : "File not found"))
+                .toList();
+    }
+}
@@ -0,0 +1,11 @@
+package io.github.tuddy.service;
+
+import io.github.tuddy.entity.file.FileStatus;
+
+// 파일 처리 상태 변경 (커밋 후 리스너에서 처리 : 채팅 대기, SSE 전송)
+public record FileStatusChangedEvent(
+    Long fileId,
+    Long userId,
+    FileStatus status,
+    Integer progress  // 진행 중일 때 0 ~ 100, 그 외 null
+) {}
@@ -0,0 +1,296 @@
+package io.github.tuddy.service;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// 채팅 첨부 이미지 전처리 : FastAPI 로 중계하기 전에 긴 변을 max-dimension 이하로 줄이고 다시 인코딩
+// - 휴대폰 사진(8~12MB)을 그대로 보내면 FastAPI 업로드와 비전 모델 전처리가 느려짐 (S3 에는 원본 저장)
+// - 디코딩은 정수배 subsampling 으로 목표 해상도 근처까지만 읽고, 남은 배율만 보간 (메모리/CPU 절약)
+// - 투명도가 없으면 JPEG(quality), 있으면 PNG, 결과가 원본보다 크면 원본 유지
+// - 전용 스레드풀에서만 실행, 대기열이 차거나 시간 초과/실패면 원본 그대로 전송
+// - webp 는 ImageIO reader 플러그인이 있을 때만 처리 (기본 JDK 는 미지원이라 그대로 전송)
+@Slf4j
+@Component
+public class ImagePreprocessor {
+
+    static final Set<String> TYPES = Set.of("image/png", "image/jpeg", "image/webp");
+
+    private final boolean enabled;
+    private final int maxDimension;
+    private final float quality;
+    private final long minBytes;
+    private final Duration timeout;
+    private final ThreadPoolExecutor executor;
+    private final MeterRegistry meterRegistry;
+    private final Timer processTimer;
+    private final DistributionSummary savedBytes;
+
+    public ImagePreprocessor(@Value("${app.images.preprocess.enabled:true}") boolean enabled,
+                             @Value("${app.images.preprocess.max-dimension:2048}") int maxDimension,
+                             @Value("${app.images.preprocess.quality:0.85}") float quality,
+                             @Value("${app.images.preprocess.min-bytes:524288}") long minBytes,
+                             @Value("${app.images.preprocess.threads:2}") int threads,
+                             @Value("${app.images.preprocess.queue:32}") int queue,
+                             @Value("${app.images.preprocess.timeout:PT10S}") Duration timeout,
+                             MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.maxDimension = Math.max(1, maxDimension);
+        this.quality = Math.clamp(quality, 0.1f, 1.0f);
+        this.minBytes = minBytes;
+        this.timeout = timeout;
+        this.executor = new ThreadPoolExecutor(Math.max(1, threads), Math.max(1, threads), 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queue)), Thread.ofPlatform().name("image-", 0).factory());
+        this.meterRegistry = meterRegistry;
+        this.processTimer = Timer.builder("image.preprocess.time").register(this.meterRegistry);
+        this.savedBytes = DistributionSummary.builder("image.preprocess.saved").baseUnit("bytes").register(this.meterRegistry);
+    }
+
+    // 이미지 파일만 줄인 사본으로 바꾼 목록 (순서 유지, 이미지가 아니면 그대로)
+    public List<MultipartFile> prepare(List<MultipartFile> files) {
+        if (!enabled || files == null || files.isEmpty()) {
+            return files;
+        }
+        List<Future<MultipartFile>> futures = new ArrayList<>(files.size());
+        for (MultipartFile file : files) {
+            if (file.isEmpty() || !TYPES.contains(file.getContentType())) {
+                futures.add(CompletableFuture.completedFuture(file));
+                continue;
+            }
+            try {
+                futures.add(executor.submit(() -> process(file)));
+            } catch (RejectedExecutionException e) {
+                count("busy");
+                futures.add(CompletableFuture.completedFuture(file));
+            }
+        }
+
+        long deadline = System.nanoTime() + timeout.toNanos();
+        List<MultipartFile> result = new ArrayList<>(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            Future<MultipartFile> f = futures.get(i);
+            try {
+                result.add(f.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                f.cancel(true);
+                count("timeout");
+                result.add(files.get(i));
+            } catch (ExecutionException e) {
+                log.warn("Image preprocessing failed for {}, sending original", files.get(i).getOriginalFilename(), e.getCause());
+                count("error");
+                result.add(files.get(i));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                result.add(files.get(i));
+            }
+        }
+        return result;
+    }
+
+    MultipartFile process(MultipartFile file) throws IOException {
+        long start = System.nanoTime();
+        byte[] original = file.getBytes();
+        Encoded encoded = encode(original);
+        processTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (encoded == null) {
+            count("unchanged");
+            return file;
+        }
+        count("resized");
+        savedBytes.record(original.length - encoded.data().length);
+        return new ByteArrayMultipartFile(file.getName(),
+                renameExtension(file.getOriginalFilename(), encoded.extension()), encoded.contentType(), encoded.data());
+    }
+
+    record Encoded(byte[] data, String contentType, String extension) {}
+
+    // 줄일 필요가 없거나(작은 이미지) 읽을 수 없는 형식, 다시 인코딩해도 작아지지 않으면 null
+    Encoded encode(byte[] data) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(new ByteArrayInputStream(data))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int longest = Math.max(reader.getWidth(0), reader.getHeight(0));
+                if (longest <= maxDimension && data.length < minBytes) {
+                    return null;
+                }
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, longest / maxDimension);
+                param.setSourceSubsampling(step, step, 0, 0);
+                BufferedImage decoded = reader.read(0, param);
+
+                BufferedImage image = render(decoded, exifOrientation(data));
+                boolean alpha = image.getColorModel().hasAlpha();
+                byte[] out = alpha ? writePng(image) : writeJpeg(image);
+                if (out.length >= data.length) {
+                    return null;
+                }
+                return alpha ? new Encoded(out, "image/png", "png") : new Encoded(out, "image/jpeg", "jpg");
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 축소와 EXIF 회전을 한 번의 그리기로 처리 (재인코딩하면 EXIF 가 빠지므로 회전을 픽셀에 반영)
+    private BufferedImage render(BufferedImage src, int orientation) {
+        double scale = Math.min(1.0, (double) maxDimension / Math.max(src.getWidth(), src.getHeight()));
+        int w = Math.max(1, (int) Math.round(src.getWidth() * scale));
+        int h = Math.max(1, (int) Math.round(src.getHeight() * scale));
+        boolean swap = orientation == 6 || orientation == 8;
+
+        AffineTransform t = new AffineTransform();
+        switch (orientation) {
+            case 3 -> { t.translate(w, h); t.rotate(Math.PI); }
+            case 6 -> { t.translate(h, 0); t.rotate(Math.PI / 2); }
+            case 8 -> { t.translate(0, w); t.rotate(-Math.PI / 2); }
+            default -> { }
+        }
+        t.scale((double) w / src.getWidth(), (double) h / src.getHeight());
+
+        boolean alpha = src.getColorModel().hasAlpha();
+        BufferedImage out = new BufferedImage(swap ? h : w, swap ? w : h,
+                alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = out.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(src, t, null);
+        } finally {
+            g.dispose();
+        }
+        return out;
+    }
+
+    private byte[] writeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(bytes)) {
+            writer.setOutput(out);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return bytes.toByteArray();
+    }
+
+    private byte[] writePng(BufferedImage image) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", bytes);
+        return bytes.toByteArray();
+    }
+
+    // JPEG APP1(Exif) 의 Orientation(0x0112) 값, 없거나 읽을 수 없으면 1 (회전 없음)
+    static int exifOrientation(byte[] d) {
+        if (d.length < 4 || (d[0] & 0xFF) != 0xFF || (d[1] & 0xFF) != 0xD8) {
+            return 1;
+        }
+        int p = 2;
+        while (p + 4 <= d.length && (d[p] & 0xFF) == 0xFF) {
+            int marker = d[p + 1] & 0xFF;
+            int len = u16(d, p + 2, false);
+            if (marker == 0xDA || len < 2) {
+                break; // 이미지 데이터 시작 (SOS), 이후에는 메타데이터 없음
+            }
+            int end = Math.min(d.length, p + 2 + len);
+            if (marker == 0xE1 && end - p >= 18 && new String(d, p + 4, 6, StandardCharsets.ISO_8859_1).equals("Exif\0\0")) {
+                return tiffOrientation(d, p + 10, end);
+            }
+            p += 2 + len;
+        }
+        return 1;
+    }
+
+    private static int tiffOrientation(byte[] d, int tiff, int end) {
+        boolean le = d[tiff] == 'I';
+        long offset = u32(d, tiff + 4, le);
+        if (offset < 8 || tiff + offset + 2 > end) {
+            return 1;
+        }
+        int ifd = (int) (tiff + offset);
+        int entries = u16(d, ifd, le);
+        for (int i = 0; i < entries; i++) {
+            int e = ifd + 2 + i * 12;
+            if (e + 12 > end) {
+                break;
+            }
+            if (u16(d, e, le) == 0x0112) {
+                return u16(d, e + 8, le);
+            }
+        }
+        return 1;
+    }
+
+    private static int u16(byte[] d, int p, boolean le) {
+        int a = d[p] & 0xFF;
+        int b = d[p + 1] & 0xFF;
+        return le ? (b << 8) | a : (a << 8) | b;
+    }
+
+    private static long u32(byte[] d, int p, boolean le) {
+        long hi = u16(d, le ? p + 2 : p, le);
+        long lo = u16(d, le ? p : p + 2, le);
+        return (hi << 16) | lo;
+    }
+
+    private static String renameExtension(String filename, String extension) {
+        if (filename == null || filename.isBlank()) {
+            return "image." + extension;
+        }
+        int dot = filename.lastIndexOf('.');
+        return (dot > 0 ? filename.substring(0, dot) : filename) + "." + extension;
+    }
+
+    private void count(String outcome) {
+        meterRegistry.counter("image.preprocess.results", "outcome", outcome).increment();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,95 @@
+package io.github.tuddy.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.github.tuddy.dto.OcrCallbackRequest;
+import io.github.tuddy.entity.file.FileStatus;
+import io.github.tuddy.entity.file.UploadedFile;
+import io.github.tuddy.repository.UploadedFileRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+// FastAPI 인덱싱 콜백 반영 : 파일 상태/결과 갱신, 지표 기록, 커밋 후 FileStatusChangedEvent 발행
+@Slf4j
+@Service
+public class IndexingCallbackService {
+
+    private final UploadedFileRepository uploadedFileRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    public IndexingCallbackService(UploadedFileRepository uploadedFileRepository,
+                                   ApplicationEventPublisher eventPublisher,
+                                   MeterRegistry meterRegistry) {
+        this.uploadedFileRepository = uploadedFileRepository;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Transactional
+    public void apply(OcrCallbackRequest req) {
+        UploadedFile file = uploadedFileRepository.findByS3Key(req.fileKey())
+                .orElseThrow(() -> new IllegalArgumentException("Unknown file key: " + req.fileKey()));
+
+        switch (req.status().toLowerCase(Locale.ROOT)) {
+            case "progress" -> {
+                // 이미 끝난 파일에 늦게 도착한 진행 통지는 무시
+                if (file.getStatus() != FileStatus.PROCESSING) {
+                    return;
+                }
+            }
+            case "completed" -> {
+                file.setStatus(FileStatus.COMPLETED);
+                file.setPageCount(req.pageCount());
+                file.setChunkCount(req.chunkCount());
+                file.setIndexedAt(LocalDateTime.now());
+                file.setFailureReason(null);
+                record(file, req, "completed");
+            }
+            case "failed" -> {
+                file.setStatus(FileStatus.FAILED);
+                file.setFailureReason(truncate(req.error()));
+                record(file, req, "failed");
+                log.warn("Indexing failed for {}: {}", req.fileKey(), req.error());
+            }
+            default -> throw new IllegalArgumentException("Unknown callback status: " + req.status());
+        }
+
+        eventPublisher.publishEvent(new FileStatusChangedEvent(file.getId(), file.getUserAccount().getId(), file.getStatus(),
+                file.getStatus() == FileStatus.PROCESSING ? req.progress() : null));
+    }
+
+    private void record(UploadedFile file, OcrCallbackRequest req, String outcome) {
+        if (req.durationMs() != null) {
+            Timer.builder("ocr.indexing.duration").tag("outcome", outcome)
+                    .publishPercentiles(0.5, 0.95)
+                    .register(meterRegistry)
+                    .record(Duration.ofMillis(req.durationMs()));
+        }
+        // 업로드 시각부터 콜백까지 (대기열 + 전송 + 인덱싱)
+        if (file.getCreatedAt() != null) {
+            Timer.builder("ocr.indexing.latency").tag("outcome", outcome)
+                    .publishPercentiles(0.5, 0.95)
+                    .register(meterRegistry)
+                    .record(Duration.between(file.getCreatedAt(), LocalDateTime.now()));
+        }
+        if (req.pageCount() != null) {
+            DistributionSummary.builder("ocr.indexing.pages").register(meterRegistry).record(req.pageCount());
+        }
+        if (req.chunkCount() != null) {
+            DistributionSummary.builder("ocr.indexing.chunks").register(meterRegistry).record(req.chunkCount());
+        }
+    }
+
+    private static String truncate(String s) {
+        return s == null || s.length() <= 1000 ? s : s.substring(0, 1000);
+    }
+}
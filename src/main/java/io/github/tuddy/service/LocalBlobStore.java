@@ -0,0 +1,568 @@
+package io.github.tuddy.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URLEncoder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 로컬 파일시스템 저장소 (app.storage.type=local) : AWS 없이 부하 테스트 / 설치형 배포용
+// - 키 = root 아래 상대 경로 (구간별로 ASCII 이름으로 바꿔 저장, JVM 파일명 인코딩과 무관), 쓰기는 같은 디렉터리 임시 파일에 받은 뒤 원자적 rename (읽는 쪽은 완성본만 봄)
+// - 파일 간 복사(내려받기, 멀티파트 합치기)는 FileChannel.transferTo : 커널 안에서 복사
+// - presigned URL 대신 HMAC 서명 URL 발급, LocalBlobController 가 검증 후 전송/수신
+// - 멀티파트 파트는 root/.uploads/{uploadId}/ 에 보관 ('.' 으로 시작하는 경로는 키로 쓸 수 없어 목록에서 제외)
+// - 검증된 Content-Type 은 root/.types/{key} 에 따로 저장 (다운로드 응답 헤더용, 파일 이름 확장자는 믿지 않음)
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "local")
+public class LocalBlobStore implements BlobStore {
+
+    // 서명 URL 경로 (LocalBlobController)
+    public static final String PATH = "/blobs";
+
+    private static final String UPLOADS = ".uploads";
+    private static final String TYPES = ".types";
+    // 멀티파트 작업 폴더 안의 Content-Type 파일 (파트 이름은 숫자로 시작하므로 겹치지 않음)
+    private static final String UPLOAD_TYPE = ".type";
+    private static final String HMAC = "HmacSHA256";
+    private static final long TRANSFER_CHUNK = 8L * 1024 * 1024;
+    // receivePart 가 발급하는 ETag 형식 (CRC32C-크기)
+    private static final Pattern ETAG = Pattern.compile("[0-9a-f]{8}-\\d+");
+    // 그대로 파일 이름으로 쓰는 키 구간, 그 외(한글, 공백 등)는 ENCODED + base64url(UTF-8)
+    // ('~' 는 PLAIN 에 없어 겹치지 않고, 인코딩한 이름은 '.' 으로 시작하지 않음)
+    private static final Pattern PLAIN = Pattern.compile("[A-Za-z0-9._-]+");
+    private static final String ENCODED = "~";
+
+    // 서명 대상 : 같은 URL 로 다른 키/파트/길이/형식/메서드에 쓸 수 없도록 전부 포함
+    public record Grant(String method, String key, String uploadId, int partNumber, long length,
+                        String contentType, String cacheControl, long expires) {
+
+        String canonical() {
+            return String.join("\n", method, key, nullToEmpty(uploadId), String.valueOf(partNumber),
+                    String.valueOf(length), nullToEmpty(contentType), nullToEmpty(cacheControl), String.valueOf(expires));
+        }
+    }
+
+    private final Path root;
+    private final Path uploads;
+    private final Path types;
+    private final String baseUrl;
+    private final byte[] secret;
+    private final int partSize;
+    private final long maxUploadBytes;
+    // 업로드 하나의 최대 파트 수 (파트는 partSize 이하)
+    private final int maxParts;
+
+    public LocalBlobStore(@Value("${app.storage.local.root:./data/blobs}") String root,
+                          @Value("${app.storage.local.base-url:http://localhost:${server.port:8080}}") String baseUrl,
+                          @Value("${app.storage.local.secret:}") String secret,
+                          @Value("${app.s3.multipart.part-size-bytes:8388608}") int partSize,
+                          @Value("${app.s3.max-size-bytes:104857600}") long maxUploadBytes) throws IOException {
+        this.root = Path.of(root).toAbsolutePath().normalize();
+        this.uploads = this.root.resolve(UPLOADS);
+        this.types = this.root.resolve(TYPES);
+        Files.createDirectories(uploads);
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        if (secret.isBlank()) {
+            // 인스턴스별 임의 키 : 재시작하거나 여러 대로 띄우면 이전에 발급한 URL 은 무효
+            this.secret = new byte[32];
+            new SecureRandom().nextBytes(this.secret);
+            log.warn("app.storage.local.secret is not set, signed URLs are valid only on this instance until restart");
+        } else {
+            this.secret = secret.getBytes(StandardCharsets.UTF_8);
+        }
+        this.partSize = Math.max(1, partSize);
+        this.maxUploadBytes = maxUploadBytes;
+        this.maxParts = (int) Math.min(Integer.MAX_VALUE, Math.max(1, (maxUploadBytes + this.partSize - 1) / this.partSize));
+        log.info("Local blob store at {}", this.root);
+    }
+
+    // 키 -> 파일 경로 : 빈 구간, '.' 으로 시작하는 구간(.., .uploads, 임시 파일), 역슬래시는 거절 (root 밖 접근 차단)
+    // 한글 파일 이름도 ASCII 경로가 되므로 sun.jnu.encoding 이 UTF-8 이 아니어도 InvalidPathException 없음
+    public Path resolve(String key) {
+        if (key == null || key.isEmpty() || key.indexOf('\\') >= 0 || key.indexOf('\0') >= 0) {
+            throw new IllegalArgumentException("Invalid key: " + key);
+        }
+        for (String segment : key.split("/", -1)) {
+            if (segment.isEmpty() || segment.startsWith(".")) {
+                throw new IllegalArgumentException("Invalid key: " + key);
+            }
+        }
+        Path path = root.resolve(encodeKey(key)).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("Invalid key: " + key);
+        }
+        return path;
+    }
+
+    @Override
+    public int put(String key, String contentType, InputStream in, long size) throws IOException {
+        writeObject(key, contentType, in, maxUploadBytes, -1);
+        return 1;
+    }
+
+    @Override
+    public void download(String key, Path target) throws IOException {
+        try (FileChannel src = FileChannel.open(resolve(key), StandardOpenOption.READ);
+             FileChannel dst = FileChannel.open(target, StandardOpenOption.WRITE,
+                     StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            copy(src, dst);
+        }
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.isRegularFile(resolve(key));
+    }
+
+    @Override
+    public long size(String key) {
+        try {
+            return Files.size(resolve(key));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 디렉터리를 키 순서로 내려가며 startAfter 이후 키를 모으고 maxKeys + 1 개를 찾으면 중단
+    // (한 번에 메모리에 올리는 것은 디렉터리 하나의 이름 목록과 한 페이지)
+    @Override
+    public Page list(String prefix, String startAfter, int maxKeys) {
+        String keyPrefix = prefix == null ? "" : prefix;
+        String dir = keyPrefix.substring(0, Math.max(0, keyPrefix.lastIndexOf('/')));
+        Path start;
+        try {
+            start = dir.isEmpty() ? root : resolve(dir);
+        } catch (IllegalArgumentException e) {
+            // 키로 쓸 수 없는 prefix : 해당하는 객체가 있을 수 없음
+            return new Page(List.of(), false);
+        }
+        if (!Files.isDirectory(start)) {
+            return new Page(List.of(), false);
+        }
+        List<Blob> page = new ArrayList<>();
+        try {
+            collect(start, keyPrefix, startAfter, maxKeys + 1, page);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        boolean truncated = page.size() > maxKeys;
+        return new Page(truncated ? page.subList(0, maxKeys) : page, truncated);
+    }
+
+    // 하위 디렉터리는 이름 + '/' 로 정렬해야 키 순서와 같음 (예: "a.pdf" < "a/x.pdf", "1/" < "10/")
+    // 정렬은 파일 이름이 아니라 되돌린 키 구간 기준, 더 모을 필요가 없으면 false
+    private boolean collect(Path dir, String keyPrefix, String startAfter, int limit, List<Blob> page) throws IOException {
+        TreeMap<String, Path> names = new TreeMap<>();
+        try (Stream<Path> children = Files.list(dir)) {
+            children.filter(p -> !p.getFileName().toString().startsWith(".")).forEach(p -> {
+                String name;
+                try {
+                    name = decodeSegment(p.getFileName().toString());
+                } catch (IllegalArgumentException e) {
+                    // 저장소가 만들지 않은 이름
+                    return;
+                }
+                names.put(Files.isDirectory(p, LinkOption.NOFOLLOW_LINKS) ? name + "/" : name, p);
+            });
+        } catch (NoSuchFileException e) {
+            // 훑는 도중 삭제된 디렉터리
+            return true;
+        }
+        for (Map.Entry<String, Path> e : names.entrySet()) {
+            Path child = e.getValue();
+            if (e.getKey().endsWith("/")) {
+                if (mayContain(key(child) + "/", keyPrefix, startAfter)
+                        && !collect(child, keyPrefix, startAfter, limit, page)) {
+                    return false;
+                }
+                continue;
+            }
+            String key = key(child);
+            if (!key.startsWith(keyPrefix) || (startAfter != null && key.compareTo(startAfter) <= 0)) {
+                continue;
+            }
+            BasicFileAttributes attrs;
+            try {
+                attrs = Files.readAttributes(child, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+            } catch (NoSuchFileException ex) {
+                continue;
+            }
+            if (attrs.isRegularFile()) {
+                page.add(new Blob(key, attrs.lastModifiedTime().toInstant(), attrs.size()));
+                if (page.size() >= limit) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    // dirKey("raw/1/") 아래에 prefix 와 맞고 startAfter 보다 큰 키가 있을 수 있는지
+    private static boolean mayContain(String dirKey, String keyPrefix, String startAfter) {
+        if (!dirKey.startsWith(keyPrefix) && !keyPrefix.startsWith(dirKey)) {
+            return false;
+        }
+        return startAfter == null || startAfter.startsWith(dirKey) || dirKey.compareTo(startAfter) > 0;
+    }
+
+    @Override
+    public Map<String, String> delete(List<String> keys) {
+        Map<String, String> failed = new LinkedHashMap<>();
+        for (String key : keys) {
+            try {
+                Files.deleteIfExists(resolve(key));
+                Files.deleteIfExists(types.resolve(encodeKey(key)));
+            } catch (IllegalArgumentException e) {
+                // 키로 쓸 수 없는 경로 : 존재할 수 없으므로 삭제된 것으로 처리
+                log.debug("Skipping invalid key {}", key);
+            } catch (IOException e) {
+                failed.put(key, e.toString());
+            }
+        }
+        return failed;
+    }
+
+    @Override
+    public SignedUrl presignGet(String key, Duration ttl, String cacheControl) {
+        resolve(key);
+        return sign(new Grant("GET", key, null, 0, -1, null, cacheControl, expiry(ttl)));
+    }
+
+    @Override
+    public SignedUrl presignPut(String key, String contentType, long contentLength, Duration ttl) {
+        resolve(key);
+        return sign(new Grant("PUT", key, null, 0, contentLength, contentType, null, expiry(ttl)));
+    }
+
+    @Override
+    public String createMultipartUpload(String key, String contentType) {
+        resolve(key);
+        String uploadId = UUID.randomUUID().toString();
+        try {
+            Path dir = Files.createDirectories(uploadDir(uploadId));
+            if (contentType != null) {
+                Files.writeString(dir.resolve(UPLOAD_TYPE), contentType);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return uploadId;
+    }
+
+    @Override
+    public SignedUrl presignUploadPart(String key, String uploadId, int partNumber, Duration ttl) {
+        resolve(key);
+        uploadDir(uploadId);
+        validatePartNumber(partNumber);
+        return sign(new Grant("PUT", key, uploadId, partNumber, -1, null, null, expiry(ttl)));
+    }
+
+    // 파트를 번호 순서로 이어 붙여 키 위치에 완성 (ETag 가 다르면 다른 내용이 올라온 것이므로 거절)
+    // 합친 크기가 업로드 상한을 넘으면 쓰지 않음 (ETag 에 파트 크기가 들어 있어 합치기 전에 확인)
+    @Override
+    public void completeMultipartUpload(String key, String uploadId, Map<Integer, String> eTags) {
+        Path dir = uploadDir(uploadId);
+        if (!Files.isDirectory(dir)) {
+            throw new IllegalArgumentException("No such upload: " + uploadId);
+        }
+        List<Path> parts = new ArrayList<>();
+        long total = 0;
+        for (Map.Entry<Integer, String> e : new TreeMap<>(eTags).entrySet()) {
+            String tag = unquote(e.getValue());
+            Path part = tag != null && ETAG.matcher(tag).matches() ? dir.resolve(partName(e.getKey(), tag)) : null;
+            if (part == null || !Files.isRegularFile(part)) {
+                throw new IllegalArgumentException("Invalid part: " + e.getKey());
+            }
+            parts.add(part);
+            total += Long.parseLong(tag.substring(tag.indexOf('-') + 1));
+        }
+        if (total > maxUploadBytes) {
+            throw new IllegalArgumentException("Upload exceeds " + maxUploadBytes + " bytes");
+        }
+        Path target = resolve(key);
+        try {
+            Path type = dir.resolve(UPLOAD_TYPE);
+            writeType(key, Files.exists(type) ? Files.readString(type) : null);
+            Files.createDirectories(target.getParent());
+            Path tmp = Files.createTempFile(target.getParent(), ".tmp-", null);
+            try {
+                try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+                    for (Path part : parts) {
+                        try (FileChannel in = FileChannel.open(part, StandardOpenOption.READ)) {
+                            copy(in, out);
+                        }
+                    }
+                }
+                Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+            deleteTree(dir);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void abortMultipartUpload(String key, String uploadId) {
+        try {
+            deleteTree(uploadDir(uploadId));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public int partSize() {
+        return partSize;
+    }
+
+    // ===== LocalBlobController =====
+
+    public boolean verify(Grant grant, String signature) {
+        if (signature == null || grant.expires() < Instant.now().getEpochSecond()) {
+            return false;
+        }
+        return MessageDigest.isEqual(mac(grant.canonical()).getBytes(StandardCharsets.US_ASCII),
+                signature.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    // 서명 URL 로 받은 단일 업로드 : 서명한 길이와 다르면 저장하지 않음, 서명한 Content-Type 을 함께 저장
+    public void receive(String key, String contentType, InputStream in, long length) throws IOException {
+        writeObject(key, contentType, in, length >= 0 ? length : maxUploadBytes, length);
+    }
+
+    // 파트 저장 후 ETag(CRC32C-크기) 반환, 같은 번호로 다시 올리면 이전 파트는 삭제
+    // 파트는 partSize 이하, 번호는 maxParts 이하 (작업 폴더 전체가 업로드 상한 + 파트 하나를 넘지 않음)
+    public String receivePart(String key, String uploadId, int partNumber, InputStream in) throws IOException {
+        resolve(key);
+        validatePartNumber(partNumber);
+        Path dir = uploadDir(uploadId);
+        if (!Files.isDirectory(dir)) {
+            throw new IllegalArgumentException("No such upload: " + uploadId);
+        }
+        CheckedInputStream checked = new CheckedInputStream(in, new CRC32C());
+        Path tmp = dir.resolve(".part-" + partNumber + "-" + UUID.randomUUID());
+        write(tmp, checked, partSize, -1);
+        String eTag = HexFormat.of().toHexDigits((int) checked.getChecksum().getValue()) + "-" + Files.size(tmp);
+        try (Stream<Path> old = Files.list(dir)) {
+            for (Path p : old.filter(p -> p.getFileName().toString().startsWith(partNumber + "_")).toList()) {
+                Files.deleteIfExists(p);
+            }
+        }
+        Files.move(tmp, dir.resolve(partName(partNumber, eTag)), StandardCopyOption.ATOMIC_MOVE);
+        return eTag;
+    }
+
+    // 저장된 Content-Type (없으면 null)
+    public String contentType(String key) {
+        resolve(key);
+        try {
+            return Files.readString(types.resolve(encodeKey(key)));
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 형식을 본문보다 먼저 기록 (보이는 파일은 항상 형식이 있음), 본문 저장이 실패하고 이전 파일도 없으면 형식 삭제
+    private void writeObject(String key, String contentType, InputStream in, long maxBytes, long expected) throws IOException {
+        Path target = resolve(key);
+        writeType(key, contentType);
+        try {
+            write(target, in, maxBytes, expected);
+        } catch (IOException | RuntimeException e) {
+            if (!Files.exists(target)) {
+                Files.deleteIfExists(types.resolve(encodeKey(key)));
+            }
+            throw e;
+        }
+    }
+
+    // null 이면 이전 값 삭제
+    private void writeType(String key, String contentType) throws IOException {
+        Path type = types.resolve(encodeKey(key));
+        if (contentType == null) {
+            Files.deleteIfExists(type);
+            return;
+        }
+        Files.createDirectories(type.getParent());
+        Files.writeString(type, contentType);
+    }
+
+    private void validatePartNumber(int partNumber) {
+        if (partNumber < 1 || partNumber > maxParts) {
+            throw new IllegalArgumentException("Invalid part number: " + partNumber);
+        }
+    }
+
+    private SignedUrl sign(Grant grant) {
+        StringBuilder url = new StringBuilder(baseUrl).append(PATH)
+                .append("?key=").append(encode(grant.key()));
+        if (grant.uploadId() != null) {
+            url.append("&uploadId=").append(grant.uploadId()).append("&partNumber=").append(grant.partNumber());
+        }
+        if (grant.length() >= 0) {
+            url.append("&length=").append(grant.length());
+        }
+        if (grant.contentType() != null) {
+            url.append("&contentType=").append(encode(grant.contentType()));
+        }
+        if (grant.cacheControl() != null) {
+            url.append("&cacheControl=").append(encode(grant.cacheControl()));
+        }
+        url.append("&expires=").append(grant.expires()).append("&signature=").append(mac(grant.canonical()));
+        return new SignedUrl(url.toString(), Instant.ofEpochSecond(grant.expires()));
+    }
+
+    private String mac(String data) {
+        try {
+            Mac mac = Mac.getInstance(HMAC);
+            mac.init(new SecretKeySpec(secret, HMAC));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(mac.doFinal(data.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 같은 디렉터리의 임시 파일에 받은 뒤 rename, expected >= 0 이면 길이 확인
+    private void write(Path target, InputStream in, long maxBytes, long expected) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path tmp = Files.createTempFile(target.getParent(), ".tmp-", null);
+        try {
+            long written = 0;
+            try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.WRITE);
+                 ReadableByteChannel src = Channels.newChannel(new SizeLimitedInputStream(in, maxBytes))) {
+                long n;
+                while ((n = out.transferFrom(src, written, TRANSFER_CHUNK)) > 0) {
+                    written += n;
+                }
+            }
+            if (expected >= 0 && written != expected) {
+                throw new IllegalArgumentException("Content length mismatch: expected " + expected + ", got " + written);
+            }
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private static void copy(FileChannel src, FileChannel dst) throws IOException {
+        long size = src.size();
+        for (long pos = 0; pos < size; ) {
+            pos += src.transferTo(pos, size - pos, dst);
+        }
+    }
+
+    private Path uploadDir(String uploadId) {
+        try {
+            if (!UUID.fromString(uploadId).toString().equals(uploadId)) {
+                throw new IllegalArgumentException("Invalid upload id: " + uploadId);
+            }
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("Invalid upload id: " + uploadId);
+        }
+        return uploads.resolve(uploadId);
+    }
+
+    private static void deleteTree(Path dir) throws IOException {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path p : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(p);
+            }
+        }
+    }
+
+    // 파일 경로 -> 키 (resolve 의 역)
+    private String key(Path file) {
+        Path relative = root.relativize(file);
+        StringBuilder key = new StringBuilder();
+        for (Path segment : relative) {
+            if (!key.isEmpty()) {
+                key.append('/');
+            }
+            key.append(decodeSegment(segment.toString()));
+        }
+        return key.toString();
+    }
+
+    private static String encodeKey(String key) {
+        return Arrays.stream(key.split("/", -1)).map(LocalBlobStore::encodeSegment).collect(Collectors.joining("/"));
+    }
+
+    private static String encodeSegment(String segment) {
+        return PLAIN.matcher(segment).matches() ? segment
+                : ENCODED + Base64.getUrlEncoder().withoutPadding().encodeToString(segment.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 잘못된 base64 면 IllegalArgumentException
+    private static String decodeSegment(String name) {
+        return name.startsWith(ENCODED)
+                ? new String(Base64.getUrlDecoder().decode(name.substring(ENCODED.length())), StandardCharsets.UTF_8) : name;
+    }
+
+    private static String partName(int partNumber, String eTag) {
+        return partNumber + "_" + eTag;
+    }
+
+    private static String unquote(String eTag) {
+        return eTag != null && eTag.length() >= 2 && eTag.startsWith("\"") && eTag.endsWith("\"")
+                ? eTag.substring(1, eTag.length() - 1) : eTag;
+    }
+
+    private static long expiry(Duration ttl) {
+        return Instant.now().plus(ttl).getEpochSecond();
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static String nullToEmpty(String s) {
+        return s == null ? "" : s;
+    }
+}
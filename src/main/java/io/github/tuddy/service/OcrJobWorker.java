@@ -0,0 +1,251 @@
+package io.github.tuddy.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.tuddy.entity.file.FileStatus;
+import io.github.tuddy.entity.file.OcrJob;
+import io.github.tuddy.entity.file.OcrJobStatus;
+import io.github.tuddy.repository.OcrJobRepository;
+import io.github.tuddy.repository.UploadedFileRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// ocr_jobs outbox 워커
+// 주기적으로 작업을 선점(SKIP LOCKED)해 사용자별로 묶고, 묶음당 FastAPI 배치 요청 1회
+// 텍스트 레이어가 있는 문서는 TextFastPath 로 OCR 없이 인덱싱 (스캔 페이지만 OCR)
+// FastAPI 동시 요청 수는 max-in-flight 로 제한, 실패는 지수 백오프로 재시도 후 FAILED
+// 인덱싱 완료 여부는 FastAPI 콜백(/internal/ocr/callback)으로 반영
+@Slf4j
+@Component
+public class OcrJobWorker {
+
+    private final OcrJobRepository ocrJobRepository;
+    private final UploadedFileRepository uploadedFileRepository;
+    private final RagChatService ragChatService;
+    private final TextFastPath textFastPath;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    private final boolean enabled;
+    private final int maxInFlight;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+    private final boolean awaitCallback;
+
+    private final ExecutorService executor;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public OcrJobWorker(OcrJobRepository ocrJobRepository,
+                        UploadedFileRepository uploadedFileRepository,
+                        RagChatService ragChatService,
+                        TextFastPath textFastPath,
+                        TransactionTemplate transactionTemplate,
+                        ApplicationEventPublisher eventPublisher,
+                        MeterRegistry meterRegistry,
+                        @Value("${app.ocr.worker.enabled:true}") boolean enabled,
+                        @Value("${app.ocr.worker.max-in-flight:4}") int maxInFlight,
+                        @Value("${rag.api.ocr-batch-size:20}") int batchSize,
+                        @Value("${app.ocr.worker.max-attempts:5}") int maxAttempts,
+                        @Value("${app.ocr.worker.backoff.initial:PT10S}") Duration initialBackoff,
+                        @Value("${app.ocr.worker.backoff.max:PT10M}") Duration maxBackoff,
+                        @Value("${app.ocr.worker.lease:PT15M}") Duration lease,
+                        @Value("${app.ocr.callback.enabled:true}") boolean awaitCallback,
+                        @Value("${app.internal.callback-token:}") String callbackToken) {
+        this.ocrJobRepository = ocrJobRepository;
+        this.uploadedFileRepository = uploadedFileRepository;
+        this.ragChatService = ragChatService;
+        this.textFastPath = textFastPath;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.batchSize = Math.max(1, batchSize);
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.lease = lease;
+        // 토큰이 없으면 콜백이 모두 거절되므로(401) 기다리지 않고 접수 성공 시 바로 COMPLETED
+        this.awaitCallback = awaitCallback && !callbackToken.isBlank();
+        if (awaitCallback && callbackToken.isBlank()) {
+            log.warn("app.ocr.callback.enabled is set but app.internal.callback-token is empty; marking files COMPLETED without callbacks");
+        }
+        this.executor = Executors.newFixedThreadPool(this.maxInFlight, Thread.ofPlatform().name("ocr-worker-", 0).factory());
+        this.meterRegistry.gauge("ocr.jobs.inflight", inFlight);
+    }
+
+    @Scheduled(fixedDelayString = "${app.ocr.worker.poll-interval:PT2S}")
+    public void poll() {
+        if (!enabled) {
+            return;
+        }
+        int free = maxInFlight - inFlight.get();
+        if (free <= 0) {
+            return;
+        }
+
+        List<OcrJob> claimed = claim(free * batchSize);
+        if (claimed.isEmpty()) {
+            return;
+        }
+
+        // 사용자별로 묶어 batch-size 단위로 분할 (묶음 1개 = FastAPI 요청 1회 = 슬롯 1개)
+        List<List<OcrJob>> chunks = new ArrayList<>();
+        Map<Long, List<OcrJob>> byUser = claimed.stream()
+                .collect(Collectors.groupingBy(OcrJob::getUserId, LinkedHashMap::new, Collectors.toList()));
+        for (List<OcrJob> jobs : byUser.values()) {
+            for (int from = 0; from < jobs.size(); from += batchSize) {
+                chunks.add(new ArrayList<>(jobs.subList(from, Math.min(from + batchSize, jobs.size()))));
+            }
+        }
+
+        // 빈 슬롯 수만큼만 실행, 나머지는 바로 되돌림 (로컬 큐에서 기다리다 임대가 만료되면 다른 인스턴스가 중복 OCR)
+        if (chunks.size() > free) {
+            release(chunks.subList(free, chunks.size()));
+        }
+        for (List<OcrJob> chunk : chunks.subList(0, Math.min(free, chunks.size()))) {
+            inFlight.incrementAndGet();
+            executor.execute(() -> {
+                try {
+                    run(chunk);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    // 한 번의 선점에서 나온 작업이라 임대 시각이 모두 같음, 다음 poll 에서 다시 선점
+    private void release(List<List<OcrJob>> chunks) {
+        List<OcrJob> jobs = chunks.stream().flatMap(List::stream).toList();
+        int released = ocrJobRepository.release(jobs.stream().map(OcrJob::getId).toList(), jobs.get(0).getLockedUntil());
+        meterRegistry.counter("ocr.jobs", "outcome", "released").increment(released);
+    }
+
+    List<OcrJob> claim(int limit) {
+        return transactionTemplate.execute(status -> {
+            // DATETIME(6) 에 그대로 저장되도록 마이크로초 단위로 자름 (완료 시 임대 시각을 같은 값으로 비교)
+            LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+            List<OcrJob> jobs = ocrJobRepository.claim(now, limit);
+            for (OcrJob job : jobs) {
+                job.setStatus(OcrJobStatus.RUNNING);
+                job.setAttempts(job.getAttempts() + 1);
+                job.setLockedUntil(now.plus(lease));
+            }
+            return jobs;
+        });
+    }
+
+    void run(List<OcrJob> chunk) {
+        Long userId = chunk.get(0).getUserId();
+        // 텍스트 레이어가 있는 문서는 추출한 텍스트로 먼저 처리하고, 나머지만 OCR 배치로
+        Map<String, Boolean> indexed = new HashMap<>();
+        List<String> ocrKeys = new ArrayList<>();
+        for (OcrJob job : chunk) {
+            if (textFastPath.tryIndex(job)) {
+                indexed.put(job.getS3Key(), true);
+            } else {
+                ocrKeys.add(job.getS3Key());
+            }
+        }
+        if (!ocrKeys.isEmpty()) {
+            try {
+                indexed.putAll(ragChatService.sendOcrBatch(String.valueOf(userId), ocrKeys));
+            } catch (RuntimeException e) {
+                log.error("OCR batch failed for user {}", userId, e);
+            }
+        }
+        transactionTemplate.execute(status -> {
+            complete(chunk, indexed);
+            return null;
+        });
+    }
+
+    private void complete(List<OcrJob> chunk, Map<String, Boolean> indexed) {
+        // 묶음은 한 번의 선점에서 나오므로 임대 시각이 모두 같음
+        List<OcrJob> leased = ocrJobRepository.findLeased(chunk.stream().map(OcrJob::getId).toList(),
+                OcrJobStatus.RUNNING, chunk.get(0).getLockedUntil());
+        if (leased.size() < chunk.size()) {
+            // 임대 만료 후 다른 워커가 다시 가져간 작업 : 결과는 그 워커가 반영
+            log.warn("OCR job lease lost for {} of {} jobs", chunk.size() - leased.size(), chunk.size());
+            meterRegistry.counter("ocr.jobs", "outcome", "lease_lost").increment(chunk.size() - leased.size());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<OcrJob> done = new ArrayList<>();
+        List<OcrJob> failed = new ArrayList<>();
+
+        for (OcrJob job : leased) {
+            if (Boolean.TRUE.equals(indexed.get(job.getS3Key()))) {
+                done.add(job);
+            } else if (job.getAttempts() >= maxAttempts) {
+                failed.add(job);
+            } else {
+                job.setStatus(OcrJobStatus.PENDING);
+                job.setLockedUntil(null);
+                job.setNextAttemptAt(now.plus(backoff(job.getAttempts())));
+                job.setLastError("OCR indexing failed (attempt " + job.getAttempts() + ")");
+                ocrJobRepository.save(job);
+                meterRegistry.counter("ocr.jobs", "outcome", "retry").increment();
+            }
+        }
+
+        if (!done.isEmpty()) {
+            ocrJobRepository.updateStatus(done.stream().map(OcrJob::getId).toList(), OcrJobStatus.DONE);
+            // 콜백 모드 : FastAPI 는 요청 접수만 확인한 것이므로 파일은 PROCESSING 유지 (완료는 콜백에서)
+            if (!awaitCallback) {
+                uploadedFileRepository.updateStatus(done.stream().map(OcrJob::getFileId).toList(), FileStatus.COMPLETED);
+                done.forEach(j -> publishStatus(j, FileStatus.COMPLETED));
+            }
+            meterRegistry.counter("ocr.jobs", "outcome", "done").increment(done.size());
+        }
+        if (!failed.isEmpty()) {
+            ocrJobRepository.updateStatus(failed.stream().map(OcrJob::getId).toList(), OcrJobStatus.FAILED);
+            uploadedFileRepository.updateStatus(failed.stream().map(OcrJob::getFileId).toList(), FileStatus.FAILED);
+            failed.forEach(j -> publishStatus(j, FileStatus.FAILED));
+            meterRegistry.counter("ocr.jobs", "outcome", "failed").increment(failed.size());
+            log.warn("OCR jobs failed permanently: {}", failed.stream().map(OcrJob::getS3Key).toList());
+        }
+    }
+
+    private void publishStatus(OcrJob job, FileStatus status) {
+        eventPublisher.publishEvent(new FileStatusChangedEvent(job.getFileId(), job.getUserId(), status, null));
+    }
+
+    // initial * 2^(n-1), 상한 max, ±20% jitter (동시에 실패한 작업이 한꺼번에 재시도하지 않도록)
+    Duration backoff(int attempts) {
+        long base = initialBackoff.toMillis() << Math.min(attempts - 1, 20);
+        long capped = Math.min(base, maxBackoff.toMillis());
+        double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+        return Duration.ofMillis((long) (capped * jitter));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        // 처리 중이던 작업은 임대(lease)가 끝나면 다른 인스턴스가 다시 가져감
+        executor.shutdown();
+    }
+}
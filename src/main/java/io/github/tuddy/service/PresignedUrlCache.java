@@ -0,0 +1,54 @@
+package io.github.tuddy.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+// presigned GET URL 재사용 캐시
+// - 만료 margin 전까지 같은 URL 을 돌려줌 : 서명 비용 절감 + URL 이 같으므로 브라우저 캐시 적중
+// - 크기 상한 도달 시 만료(재사용 불가) 항목부터 정리, 그래도 가득 차면 캐시 없이 서명만
+final class PresignedUrlCache {
+
+    record Entry(String url, Instant expiresAt) {}
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Duration reuseMargin;
+    private final int maxEntries;
+
+    PresignedUrlCache(Duration reuseMargin, int maxEntries) {
+        this.reuseMargin = reuseMargin;
+        this.maxEntries = maxEntries;
+    }
+
+    Entry get(String key, Instant now, Function<String, Entry> signer) {
+        Entry cached = entries.get(key);
+        if (cached != null && reusable(cached, now)) {
+            return cached;
+        }
+        Entry fresh = signer.apply(key);
+        if (entries.size() >= maxEntries) {
+            evictExpired(now);
+        }
+        if (entries.size() < maxEntries || cached != null) {
+            entries.put(key, fresh);
+        }
+        return fresh;
+    }
+
+    void evictExpired(Instant now) {
+        entries.values().removeIf(e -> !reusable(e, now));
+    }
+
+    void invalidate(String key) {
+        entries.remove(key);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private boolean reusable(Entry e, Instant now) {
+        return now.isBefore(e.expiresAt().minus(reuseMargin));
+    }
+}
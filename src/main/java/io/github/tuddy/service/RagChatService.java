@@ -1,19 +1,29 @@
 package io.github.tuddy.service;
 
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.http.MediaType;
 import org.springframework.http.client.MultipartBodyBuilder;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientResponseException;
 import org.springframework.web.multipart.MultipartFile;
 
+import io.github.tuddy.client.HedgingExecutor;
+import io.github.tuddy.client.LoadBalancingInterceptor;
+import io.github.tuddy.client.RagRoute;
 import io.github.tuddy.dto.FastApiChatRequest;
+import io.github.tuddy.dto.FastApiOcrBatchResponse;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -24,15 +34,30 @@ public class RagChatService {
     private final String chatPath;
     private final String normalPath;
     private final String ocrPath;
+    private final String ocrBatchPath;
+    private final String fastPath;
+    private final String textPath;
+    private final HedgingExecutor hedging;
+
+    // 텍스트 인덱싱 경로가 없는 FastAPI(404/405) 면 이후로는 시도하지 않음
+    private volatile boolean textPathUnsupported;
 
     public RagChatService(@Qualifier("ragRestClient") RestClient client,
                           @Value("${rag.api.chat-path:/rag/chat}") String chatPath,
                           @Value("${rag.api.normal-path:/normal/chat}") String normalPath,
-                          @Value("${rag.api.ocr-path:/rag/vectordb/ocr-and-add-from-s3}") String ocrPath) {
+                          @Value("${rag.api.ocr-path:/rag/vectordb/ocr-and-add-from-s3}") String ocrPath,
+                          @Value("${rag.api.ocr-batch-path:/rag/vectordb/ocr-and-add-from-s3/batch}") String ocrBatchPath,
+                          @Value("${rag.api.fast-path:}") String fastPath,
+                          @Value("${rag.api.text-path:}") String textPath,
+                          HedgingExecutor hedging) {
         this.client = client;
         this.chatPath = chatPath;
         this.normalPath = normalPath;
         this.ocrPath = ocrPath;
+        this.ocrBatchPath = ocrBatchPath;
+        this.fastPath = fastPath;
+        this.textPath = textPath;
+        this.hedging = hedging;
     }
 
     public String getChatPath() { return this.chatPath; }
@@ -45,62 +70,171 @@ public class RagChatService {
 
     // [Normal Chat] 파일이 없을 때 (Multipart Only - No File)
     // 수정: FastAPI가 Form 데이터를 요구하므로 JSON 대신 Multipart로 전송
+    // 부수효과 없는 호출이므로 hedging 대상 (rag.api.hedge.enabled)
+    // 실패도 예외로 전달해야 hedging 이 나머지 요청의 결과를 기다림 -> 에러 JSON 변환은 execute 이후
+    // FAST 등급이고 rag.api.fast-path 가 있으면 빠른 모델 경로로 전송
     public String relayNormal(FastApiChatRequest req) {
-        return sendMultipartRequest(normalPath, req, null);
+        String path = "fast".equals(req.modelTier()) && !fastPath.isBlank() ? fastPath : normalPath;
+        try {
+            return hedging.execute(RagRoute.NORMAL, () -> postMultipart(path, req, null));
+        } catch (Exception e) {
+            return toErrorJson(e);
+        }
     }
 
     // 공통 요청 메서드 (중복 제거)
     private String sendMultipartRequest(String path, FastApiChatRequest req, List<MultipartFile> files) {
         try {
-            MultipartBodyBuilder builder = new MultipartBodyBuilder();
+            return postMultipart(path, req, files);
+        } catch (Exception e) {
+            return toErrorJson(e);
+        }
+    }
 
-            // FastAPI Form(...) 필드 매핑
-            builder.part("user_id", req.userId());
-            builder.part("query", req.query());
-            builder.part("n_turns", String.valueOf(req.nTurns()));
+    // 실패(연결 오류, 4xx/5xx)는 예외로 던짐
+    private String postMultipart(String path, FastApiChatRequest req, List<MultipartFile> files) {
+        MultipartBodyBuilder builder = new MultipartBodyBuilder();
 
-            if (req.sessionId() != null) {
-                builder.part("session_id", req.sessionId());
-            }
+        // FastAPI Form(...) 필드 매핑
+        builder.part("user_id", req.userId());
+        builder.part("query", req.query());
+        builder.part("n_turns", String.valueOf(req.nTurns()));
 
-            // 파일이 있는 경우에만 추가
-            if (files != null && !files.isEmpty()) {
-                for (MultipartFile file : files) {
-                    builder.part("files", file.getResource());
-                }
+        if (req.sessionId() != null) {
+            builder.part("session_id", req.sessionId());
+        }
+        if (req.modelTier() != null) {
+            builder.part("model_tier", req.modelTier());
+        }
+
+        // 파일이 있는 경우에만 추가
+        if (files != null && !files.isEmpty()) {
+            for (MultipartFile file : files) {
+                builder.part("files", file.getResource());
             }
+        }
+
+        return client.post().uri(path)
+                .contentType(MediaType.MULTIPART_FORM_DATA)
+                .headers(h -> {
+                    // 레플리카 session affinity 용
+                    if (req.sessionId() != null) {
+                        h.set(LoadBalancingInterceptor.SESSION_HEADER, req.sessionId());
+                    }
+                })
+                .body(builder.build())
+                .retrieve()
+                .body(String.class);
+    }
+
+    private String toErrorJson(Exception e) {
+        if (e instanceof RestClientResponseException re) {
+            log.error("AI Server Error [{}]: {}", re.getStatusCode(), re.getResponseBodyAsString());
+            return makeErrorJson(re.getResponseBodyAsString());
+        }
+        log.error("AI Connection Error", e);
+        return makeErrorJson(e.getMessage());
+    }
 
-            return client.post().uri(path)
+    // [OCR] 파일 업로드 시 인덱싱 요청 (실패는 로그만 남김)
+    public void sendOcrRequest(String userId, String fileKey) {
+        try {
+            requestOcr(userId, fileKey);
+        } catch (Exception e) {
+            log.error("OCR Request Failed", e);
+        }
+    }
+
+    // [OCR] 인덱싱 요청, 실패 시 예외 (재시도 판단은 호출 측)
+    public void requestOcr(String userId, String fileKey) {
+        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+        body.add("user_id", userId);
+        body.add("file_key", fileKey);
+
+        client.post().uri(ocrPath)
+                .contentType(MediaType.MULTIPART_FORM_DATA)
+                .body(body)
+                .retrieve()
+                .toBodilessEntity();
+        log.info("OCR Request Sent: {}", fileKey);
+    }
+
+    // [OCR] 같은 사용자의 여러 파일을 한 번의 요청으로 인덱싱, 파일 키별 성공 여부 반환
+    // 배치 경로를 지원하지 않는 FastAPI(404/405)면 파일별 요청으로 대체
+    public Map<String, Boolean> sendOcrBatch(String userId, List<String> fileKeys) {
+        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+        body.add("user_id", userId);
+        fileKeys.forEach(k -> body.add("file_keys", k));
+
+        Map<String, Boolean> results = new LinkedHashMap<>();
+        try {
+            FastApiOcrBatchResponse res = client.post().uri(ocrBatchPath)
                     .contentType(MediaType.MULTIPART_FORM_DATA)
-                    .body(builder.build())
+                    .body(body)
                     .retrieve()
-                    .body(String.class);
-
-        } catch (RestClientResponseException e) {
-            log.error("AI Server Error [{}]: {}", e.getStatusCode(), e.getResponseBodyAsString());
-            return makeErrorJson(e.getResponseBodyAsString());
+                    .body(FastApiOcrBatchResponse.class);
+            if (res != null && res.results() != null) {
+                for (FastApiOcrBatchResponse.Item item : res.results()) {
+                    results.put(item.fileKey(), item.succeeded());
+                    if (!item.succeeded()) {
+                        log.warn("OCR failed for {}: {}", item.fileKey(), item.error());
+                    }
+                }
+            }
+            log.info("OCR Batch Request Sent: {} files", fileKeys.size());
+        } catch (HttpClientErrorException.NotFound | HttpClientErrorException.MethodNotAllowed e) {
+            log.warn("OCR batch path not supported, falling back to per-file requests");
+            for (String k : fileKeys) {
+                try {
+                    requestOcr(userId, k);
+                    results.put(k, true);
+                } catch (Exception ex) {
+                    log.error("OCR Request Failed: {}", k, ex);
+                    results.put(k, false);
+                }
+            }
         } catch (Exception e) {
-            log.error("AI Connection Error", e);
-            return makeErrorJson(e.getMessage());
+            log.error("OCR Batch Request Failed", e);
         }
+        // 응답에 빠진 키는 실패로 간주
+        fileKeys.forEach(k -> results.putIfAbsent(k, false));
+        return results;
     }
 
-    // [OCR] 파일 업로드 시 인덱싱 요청
-    public void sendOcrRequest(String userId, String fileKey) {
+    public boolean supportsTextIndex() {
+        return !textPath.isBlank() && !textPathUnsupported;
+    }
+
+    // [텍스트 인덱싱] JVM 에서 추출한 텍스트(페이지 구분 \f)로 인덱싱 요청 (OCR 생략)
+    // ocr_pages : 텍스트가 없는 스캔 페이지 번호(1부터), FastAPI 가 해당 페이지만 OCR
+    // 실패하면 false (호출 측이 OCR 경로로 대체)
+    public boolean sendTextIndex(String userId, String fileKey, Path textFile, List<Integer> ocrPages) {
+        if (!supportsTextIndex()) {
+            return false;
+        }
         MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
         body.add("user_id", userId);
         body.add("file_key", fileKey);
+        if (!ocrPages.isEmpty()) {
+            body.add("ocr_pages", ocrPages.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        }
+        body.add("text", new FileSystemResource(textFile));
 
         try {
-            client.post().uri(ocrPath)
+            client.post().uri(textPath)
                     .contentType(MediaType.MULTIPART_FORM_DATA)
                     .body(body)
                     .retrieve()
                     .toBodilessEntity();
-            log.info("OCR Request Sent: {}", fileKey);
+            log.info("Text Index Request Sent: {} (OCR pages {})", fileKey, ocrPages);
+            return true;
+        } catch (HttpClientErrorException.NotFound | HttpClientErrorException.MethodNotAllowed e) {
+            log.warn("Text index path not supported, using OCR for all files");
+            textPathUnsupported = true;
         } catch (Exception e) {
-            log.error("OCR Request Failed", e);
+            log.error("Text Index Request Failed: {}", fileKey, e);
         }
+        return false;
     }
 
     private String makeErrorJson(String msg) {
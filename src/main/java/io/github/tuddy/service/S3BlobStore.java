@@ -0,0 +1,216 @@
+package io.github.tuddy.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.NoSuchUploadException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedUploadPartRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.UploadPartPresignRequest;
+
+// S3 저장소 (기본값, app.storage.type=s3)
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3BlobStore implements BlobStore {
+
+    private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+    private final String bucket;
+    private final S3MultipartUploader multipartUploader;
+    private final long multipartThreshold;
+
+    public S3BlobStore(S3Client s3Client,
+                       S3Presigner s3Presigner,
+                       @Value("${app.aws.s3.bucket}") String bucket,
+                       @Value("${app.s3.multipart.threshold-bytes:16777216}") long multipartThreshold,
+                       @Value("${app.s3.multipart.part-size-bytes:8388608}") int partSize,
+                       @Value("${app.s3.multipart.concurrency:4}") int partConcurrency) {
+        this.s3Client = s3Client;
+        this.s3Presigner = s3Presigner;
+        this.bucket = bucket;
+        this.multipartUploader = new S3MultipartUploader(s3Client, partSize, partConcurrency);
+        this.multipartThreshold = Math.max(S3MultipartUploader.MIN_PART_SIZE, multipartThreshold);
+    }
+
+    @Override
+    public int put(String key, String contentType, InputStream in, long size) throws IOException {
+        if (size >= 0 && size < multipartThreshold) {
+            s3Client.putObject(PutObjectRequest.builder().bucket(bucket).key(key).contentType(contentType).build(),
+                    RequestBody.fromInputStream(in, size));
+            return 1;
+        }
+        if (size >= 0) {
+            // 대용량 : 파트 병렬 업로드 (단일 스트림/커넥션 병목 회피)
+            return multipartUploader.upload(bucket, key, contentType, in);
+        }
+        // 길이 모름 : 첫 파트 크기만큼 먼저 읽어보고 그 안에 끝나면 단일 PUT, 아니면 이어서 멀티파트
+        byte[] head = in.readNBytes(multipartUploader.partSize());
+        if (head.length < multipartUploader.partSize()) {
+            s3Client.putObject(PutObjectRequest.builder().bucket(bucket).key(key).contentType(contentType).build(),
+                    RequestBody.fromBytes(head));
+            return 1;
+        }
+        return multipartUploader.upload(bucket, key, contentType,
+                new SequenceInputStream(new ByteArrayInputStream(head), in));
+    }
+
+    @Override
+    public void download(String key, Path target) throws IOException {
+        try (InputStream in = s3Client.getObject(GetObjectRequest.builder().bucket(bucket).key(key).build())) {
+            Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    @Override
+    public boolean exists(String key) {
+        try {
+            s3Client.headObject(HeadObjectRequest.builder().bucket(bucket).key(key).build());
+            return true;
+        } catch (S3Exception e) {
+            // HEAD 는 본문이 없어 NoSuchKey 대신 404 상태로만 오는 경우가 있음
+            if (e.statusCode() == 404) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public long size(String key) {
+        return s3Client.headObject(HeadObjectRequest.builder().bucket(bucket).key(key).build()).contentLength();
+    }
+
+    @Override
+    public Page list(String prefix, String startAfter, int maxKeys) {
+        ListObjectsV2Response res = s3Client.listObjectsV2(ListObjectsV2Request.builder()
+                .bucket(bucket).prefix(prefix).startAfter(startAfter).maxKeys(maxKeys).build());
+        return new Page(res.contents().stream().map(o -> new Blob(o.key(), o.lastModified(), o.size())).toList(),
+                Boolean.TRUE.equals(res.isTruncated()));
+    }
+
+    // DeleteObjects 한 번 (요청당 최대 1000개, 나누기는 호출 측에서)
+    @Override
+    public Map<String, String> delete(List<String> keys) {
+        DeleteObjectsResponse res = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                .bucket(bucket)
+                .delete(Delete.builder()
+                        .objects(keys.stream().map(k -> ObjectIdentifier.builder().key(k).build()).toList())
+                        .quiet(true) // 실패한 키만 응답에 포함
+                        .build())
+                .build());
+        Map<String, String> failed = new LinkedHashMap<>();
+        for (S3Error error : res.errors()) {
+            failed.put(error.key(), error.code() + ": " + error.message());
+        }
+        return failed;
+    }
+
+    @Override
+    public SignedUrl presignGet(String key, Duration ttl, String cacheControl) {
+        PresignedGetObjectRequest presigned = s3Presigner.presignGetObject(GetObjectPresignRequest.builder()
+                .signatureDuration(ttl)
+                .getObjectRequest(GetObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .responseCacheControl(cacheControl)
+                        .build())
+                .build());
+        return new SignedUrl(presigned.url().toString(), presigned.expiration());
+    }
+
+    @Override
+    public SignedUrl presignPut(String key, String contentType, long contentLength, Duration ttl) {
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(ttl)
+                .putObjectRequest(PutObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .contentType(contentType)
+                        .contentLength(contentLength)
+                        .build())
+                .build());
+        return new SignedUrl(presigned.url().toString(), presigned.expiration());
+    }
+
+    @Override
+    public String createMultipartUpload(String key, String contentType) {
+        return s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucket).key(key).contentType(contentType).build()).uploadId();
+    }
+
+    @Override
+    public SignedUrl presignUploadPart(String key, String uploadId, int partNumber, Duration ttl) {
+        PresignedUploadPartRequest presigned = s3Presigner.presignUploadPart(UploadPartPresignRequest.builder()
+                .signatureDuration(ttl)
+                .uploadPartRequest(UploadPartRequest.builder()
+                        .bucket(bucket).key(key).uploadId(uploadId).partNumber(partNumber).build())
+                .build());
+        return new SignedUrl(presigned.url().toString(), presigned.expiration());
+    }
+
+    // S3 는 파트 번호 오름차순을 요구
+    @Override
+    public void completeMultipartUpload(String key, String uploadId, Map<Integer, String> eTags) {
+        List<CompletedPart> parts = new TreeMap<>(eTags).entrySet().stream()
+                .map(e -> CompletedPart.builder().partNumber(e.getKey()).eTag(e.getValue()).build())
+                .toList();
+        s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                .bucket(bucket).key(key).uploadId(uploadId)
+                .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                .build());
+    }
+
+    @Override
+    public void abortMultipartUpload(String key, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket).key(key).uploadId(uploadId).build());
+        } catch (NoSuchUploadException e) {
+            log.debug("Multipart upload already gone: {} ({})", uploadId, key);
+        }
+    }
+
+    @Override
+    public int partSize() {
+        return multipartUploader.partSize();
+    }
+}
@@ -0,0 +1,130 @@
+package io.github.tuddy.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.tuddy.entity.file.S3DeleteJob;
+import io.github.tuddy.repository.S3DeleteJobRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+// s3_delete_jobs outbox 워커
+// 대기 중인 키를 batch-size(최대 1000)개씩 선점해 DeleteObjects 1회로 삭제
+// 실패한 키만 지수 백오프로 다시 미룸 (삭제는 멱등이라 횟수 제한 없이 재시도, 오래 실패하면 경고 로그)
+@Slf4j
+@Component
+public class S3DeleteWorker {
+
+    private final S3DeleteJobRepository deleteJobRepository;
+    private final S3Service s3Service;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxBatchesPerPoll;
+    private final int warnAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+
+    public S3DeleteWorker(S3DeleteJobRepository deleteJobRepository,
+                          S3Service s3Service,
+                          TransactionTemplate transactionTemplate,
+                          MeterRegistry meterRegistry,
+                          @Value("${app.s3.delete.worker.enabled:true}") boolean enabled,
+                          @Value("${app.s3.delete.worker.batch-size:1000}") int batchSize,
+                          @Value("${app.s3.delete.worker.max-batches-per-poll:10}") int maxBatchesPerPoll,
+                          @Value("${app.s3.delete.worker.warn-attempts:5}") int warnAttempts,
+                          @Value("${app.s3.delete.worker.backoff.initial:PT30S}") Duration initialBackoff,
+                          @Value("${app.s3.delete.worker.backoff.max:PT1H}") Duration maxBackoff,
+                          @Value("${app.s3.delete.worker.lease:PT5M}") Duration lease) {
+        this.deleteJobRepository = deleteJobRepository;
+        this.s3Service = s3Service;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.batchSize = Math.clamp(batchSize, 1, S3Service.MAX_DELETE_KEYS);
+        this.maxBatchesPerPoll = Math.max(1, maxBatchesPerPoll);
+        this.warnAttempts = warnAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.lease = lease;
+    }
+
+    // 한 번에 가득 찬 배치가 나오면 밀린 것으로 보고 이어서 처리 (poll 당 max-batches-per-poll 까지)
+    @Scheduled(fixedDelayString = "${app.s3.delete.worker.poll-interval:PT5S}")
+    public void poll() {
+        if (!enabled) {
+            return;
+        }
+        for (int i = 0; i < maxBatchesPerPoll; i++) {
+            List<S3DeleteJob> claimed = claim(batchSize);
+            if (claimed.isEmpty()) {
+                return;
+            }
+            run(claimed);
+            if (claimed.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    // 선점 : 시도 횟수 증가, next_attempt_at 을 임대 시각으로 (다른 인스턴스가 중복 처리하지 않도록)
+    List<S3DeleteJob> claim(int limit) {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<S3DeleteJob> jobs = deleteJobRepository.claim(now, limit);
+            for (S3DeleteJob job : jobs) {
+                job.setAttempts(job.getAttempts() + 1);
+                job.setNextAttemptAt(now.plus(lease));
+            }
+            return jobs;
+        });
+    }
+
+    // S3 호출은 트랜잭션 밖에서, 결과 반영만 짧은 트랜잭션으로
+    void run(List<S3DeleteJob> jobs) {
+        Map<String, String> failed = s3Service.deleteObjects(jobs.stream().map(S3DeleteJob::getS3Key).toList());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> done = new ArrayList<>();
+            for (S3DeleteJob job : jobs) {
+                String error = failed.get(job.getS3Key());
+                if (error == null) {
+                    done.add(job.getId());
+                    continue;
+                }
+                job.setNextAttemptAt(now.plus(backoff(job.getAttempts())));
+                job.setLastError(error.length() > 1000 ? error.substring(0, 1000) : error);
+                deleteJobRepository.save(job);
+                if (job.getAttempts() >= warnAttempts) {
+                    log.warn("S3 delete still failing after {} attempts: {} ({})", job.getAttempts(), job.getS3Key(), error);
+                }
+            }
+            if (!done.isEmpty()) {
+                deleteJobRepository.deleteAllByIdInBatch(done);
+            }
+            meterRegistry.counter("s3.delete.jobs", "outcome", "done").increment(done.size());
+            meterRegistry.counter("s3.delete.jobs", "outcome", "retry").increment(jobs.size() - done.size());
+        });
+    }
+
+    // initial * 2^(n-1), 상한 max, ±20% jitter
+    Duration backoff(int attempts) {
+        long base = initialBackoff.toMillis() << Math.min(attempts - 1, 20);
+        long capped = Math.min(base, maxBackoff.toMillis());
+        double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+        return Duration.ofMillis((long) (capped * jitter));
+    }
+}
@@ -0,0 +1,127 @@
+package io.github.tuddy.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+// 대용량 파일 멀티파트 업로드 : 파트를 순서대로 읽어 가상 스레드에서 병렬 전송
+// - 동시에 올리는 파트 수(concurrency)만큼만 메모리에 보관 (최대 concurrency * partSize)
+// - 한 파트라도 실패하면 나머지 취소 후 AbortMultipartUpload (미완료 파트 과금 방지)
+@Slf4j
+final class S3MultipartUploader {
+
+    // S3 최소 파트 크기 (마지막 파트 제외)
+    static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    private final S3Client s3Client;
+    private final int partSize;
+    private final int concurrency;
+
+    S3MultipartUploader(S3Client s3Client, int partSize, int concurrency) {
+        this.s3Client = s3Client;
+        this.partSize = Math.max(MIN_PART_SIZE, partSize);
+        this.concurrency = Math.max(1, concurrency);
+    }
+
+    int partSize() {
+        return partSize;
+    }
+
+    // 업로드한 파트 수 반환
+    int upload(String bucket, String key, String contentType, InputStream in) throws IOException {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucket).key(key).contentType(contentType).build()).uploadId();
+
+        Semaphore permits = new Semaphore(concurrency);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Future<CompletedPart>> futures = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            try {
+                int partNumber = 1;
+                while (failure.get() == null) {
+                    permits.acquire();
+                    byte[] part = in.readNBytes(partSize);
+                    if (part.length == 0 && partNumber > 1) {
+                        permits.release();
+                        break;
+                    }
+                    int n = partNumber++;
+                    futures.add(executor.submit(() -> {
+                        try {
+                            return uploadPart(bucket, key, uploadId, n, part);
+                        } catch (RuntimeException e) {
+                            failure.compareAndSet(null, e);
+                            throw e;
+                        } finally {
+                            permits.release();
+                        }
+                    }));
+                    if (part.length < partSize) {
+                        break;
+                    }
+                }
+
+                List<CompletedPart> parts = new ArrayList<>(futures.size());
+                for (Future<CompletedPart> f : futures) {
+                    parts.add(f.get());
+                }
+                s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                        .bucket(bucket).key(key).uploadId(uploadId)
+                        .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                        .build());
+                return parts.size();
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                abort(bucket, key, uploadId, futures);
+                throw new IOException("Multipart upload interrupted", e);
+            } catch (ExecutionException e) {
+                abort(bucket, key, uploadId, futures);
+                if (e.getCause() instanceof RuntimeException re) {
+                    throw re;
+                }
+                throw new IOException("Multipart upload failed", e.getCause());
+            } catch (IOException | RuntimeException e) {
+                abort(bucket, key, uploadId, futures);
+                throw e;
+            }
+        }
+    }
+
+    private CompletedPart uploadPart(String bucket, String key, String uploadId, int partNumber, byte[] data) {
+        String eTag = s3Client.uploadPart(UploadPartRequest.builder()
+                        .bucket(bucket).key(key).uploadId(uploadId)
+                        .partNumber(partNumber).contentLength((long) data.length).build(),
+                RequestBody.fromBytes(data)).eTag();
+        return CompletedPart.builder().partNumber(partNumber).eTag(eTag).build();
+    }
+
+    private void abort(String bucket, String key, String uploadId, List<Future<CompletedPart>> futures) {
+        futures.forEach(f -> f.cancel(true));
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket).key(key).uploadId(uploadId).build());
+        } catch (Exception e) {
+            // 정리 실패는 버킷 lifecycle(미완료 멀티파트 만료) 규칙에 맡김
+            log.warn("Failed to abort multipart upload {} ({})", uploadId, key, e);
+        }
+    }
+}
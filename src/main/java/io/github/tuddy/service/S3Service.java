@@ -1,43 +1,66 @@
 package io.github.tuddy.service;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 import org.springframework.web.multipart.MultipartFile;
 
+import io.github.tuddy.dto.PresignedGetResult;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
-import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
-import software.amazon.awssdk.services.s3.model.GetObjectRequest;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
-import software.amazon.awssdk.services.s3.presigner.S3Presigner;
-import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
-import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
+// 파일 저장 진입점 : 형식/크기 검증, 키 규칙, 메트릭, 다운로드 URL 캐시
+// 실제 저장/서명은 BlobStore (S3 또는 로컬 파일시스템, app.storage.type)
 @Slf4j
 @Service
 public class S3Service {
 
-    private final S3Client s3Client;
-    private final S3Presigner s3Presigner;
-    private final String bucket;
+    // S3 멀티파트 업로드 최대 파트 수
+    static final int MAX_PARTS = 10_000;
+    // DeleteObjects 요청당 최대 키 수
+    static final int MAX_DELETE_KEYS = 1000;
+    // 업로드 URL 유효 시간
+    private static final Duration PUT_TTL = Duration.ofMinutes(15);
+
+    private final BlobStore blobStore;
     private final List<String> allowedTypes; // [추가] 허용 타입 목록
+    private final long maxUploadBytes;
+    private final Duration presignTtl;
+    private final long presignReuseSeconds;
+    private final PresignedUrlCache presignedGetCache;
+    private final MeterRegistry meterRegistry;
 
-    public S3Service(S3Client s3Client,
-                     S3Presigner s3Presigner,
-                     @Value("${app.aws.s3.bucket}") String bucket,
-                     @Value("#{'${app.s3.allowed-types}'.split(',')}") List<String> allowedTypes) {
-        this.s3Client = s3Client;
-        this.s3Presigner = s3Presigner;
-        this.bucket = bucket;
+    public S3Service(BlobStore blobStore,
+                     @Value("#{'${app.s3.allowed-types}'.split(',')}") List<String> allowedTypes,
+                     @Value("${app.s3.max-size-bytes:104857600}") long maxUploadBytes,
+                     @Value("${app.s3.presign.ttl:PT15M}") Duration presignTtl,
+                     @Value("${app.s3.presign.reuse-margin:PT5M}") Duration presignReuseMargin,
+                     @Value("${app.s3.presign.cache-size:10000}") int presignCacheSize,
+                     MeterRegistry meterRegistry) {
+        this.blobStore = blobStore;
         this.allowedTypes = allowedTypes;
+        this.maxUploadBytes = maxUploadBytes;
+        this.presignTtl = presignTtl;
+        this.presignReuseSeconds = Math.max(0, presignTtl.minus(presignReuseMargin).toSeconds());
+        this.presignedGetCache = new PresignedUrlCache(presignReuseMargin, presignCacheSize);
+        this.meterRegistry = meterRegistry;
     }
 
     /**
@@ -64,19 +87,57 @@ public class S3Service {
         // 기존 구조와 동일하게 'raw/{userId}/' 경로 사용
         String s3Key = "raw/" + userId + "/" + UUID.randomUUID() + "_" + originalFilename;
 
+        long size = file.getSize();
+        long start = System.nanoTime();
+        try (InputStream in = file.getInputStream()) {
+            int parts = blobStore.put(s3Key, file.getContentType(), in, size);
+            log.info("Direct Upload Success: {} ({} parts)", s3Key, parts);
+            recordUpload(parts > 1 ? "multipart" : "single", size, System.nanoTime() - start);
+            return s3Key;
+
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to upload file", e);
+        }
+    }
+
+    /**
+     * 스트리밍 업로드 : 요청 본문을 그대로 저장소로 전달 (multipart 파싱/임시 파일 없이 수신과 전송이 겹침)
+     * 크기 제한은 읽는 도중 확인 : 초과 시 MaxUploadSizeExceededException (진행 중인 멀티파트는 abort)
+     */
+    public String uploadStream(InputStream body, String filename, String contentType, long contentLength, Long userId) {
+        validateFileType(contentType);
+        if (contentLength > maxUploadBytes) {
+            throw new MaxUploadSizeExceededException(maxUploadBytes);
+        }
+
+        String s3Key = buildKey(userId, filename);
+        SizeLimitedInputStream counted = new SizeLimitedInputStream(body, maxUploadBytes);
+        long start = System.nanoTime();
         try {
-            PutObjectRequest putOb = PutObjectRequest.builder()
-                    .bucket(bucket)
-                    .key(s3Key)
-                    .contentType(file.getContentType())
-                    .build();
-
-            s3Client.putObject(putOb, RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
-            log.info("S3 Direct Upload Success: {}", s3Key);
+            // 빈 본문은 저장 전에 거절
+            PushbackInputStream in = new PushbackInputStream(counted);
+            int first = in.read();
+            if (first < 0) {
+                throw new IllegalArgumentException("Cannot upload empty file");
+            }
+            in.unread(first);
+            // Content-Length 는 클라이언트 값이라 믿지 않고 길이 모름으로 전달
+            int parts = blobStore.put(s3Key, contentType, in, -1);
+            log.info("Streaming Upload Success: {} ({} parts)", s3Key, parts);
+            recordUpload(parts > 1 ? "stream-multipart" : "stream-single", counted.count(), System.nanoTime() - start);
             return s3Key;
 
         } catch (IOException e) {
-            throw new RuntimeException("Failed to upload file to S3", e);
+            throw new RuntimeException("Failed to upload file", e);
+        }
+    }
+
+    // 업로드별 소요 시간 / 처리량(bytes/s)
+    private void recordUpload(String mode, long bytes, long nanos) {
+        Timer.builder("s3.upload").tag("mode", mode).register(meterRegistry).record(nanos, TimeUnit.NANOSECONDS);
+        if (nanos > 0) {
+            DistributionSummary.builder("s3.upload.throughput").baseUnit("bytes/s").tag("mode", mode)
+                    .register(meterRegistry).record(bytes * 1e9 / nanos);
         }
     }
 
@@ -98,19 +159,7 @@ public class S3Service {
             throw new IllegalArgumentException("SIZE_LIMIT_EXCEEDED");
         }
 
-        PutObjectRequest objectRequest = PutObjectRequest.builder()
-                .bucket(bucket)
-                .key(key)
-                .contentType(contentType)
-                .contentLength(contentLength)
-                .build();
-
-        PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
-                .signatureDuration(Duration.ofMinutes(15))
-                .putObjectRequest(objectRequest)
-                .build();
-
-        String url = s3Presigner.presignPutObject(presignRequest).url().toString();
+        String url = blobStore.presignPut(key, contentType, contentLength, PUT_TTL).url();
 
         Map<String, Object> res = new HashMap<>();
         res.put("url", url);
@@ -118,28 +167,101 @@ public class S3Service {
         return res;
     }
 
-    public String presignGet(String key) {
-        GetObjectRequest objectRequest = GetObjectRequest.builder()
-                .bucket(bucket)
-                .key(key)
-                .build();
+    // ===== 브라우저 직접 멀티파트 업로드 (파트별 presigned URL) =====
 
-        GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
-                .signatureDuration(Duration.ofMinutes(15))
-                .getObjectRequest(objectRequest)
-                .build();
+    // 업로드 시작 : 크기/형식 검증 후 멀티파트 업로드 생성, uploadId 반환
+    public String createMultipartUpload(String key, String contentType, long contentLength) {
+        validateFileType(contentType);
+        if (contentLength > maxUploadBytes) {
+            throw new IllegalArgumentException("SIZE_LIMIT_EXCEEDED");
+        }
+        return blobStore.createMultipartUpload(key, contentType);
+    }
 
-        return s3Presigner.presignGetObject(presignRequest).url().toString();
+    // 클라이언트 권장 파트 크기 (서버 업로드와 동일)
+    public int multipartPartSize() {
+        return blobStore.partSize();
     }
 
-    public void deleteFile(String s3Key) {
-        if (s3Key == null || s3Key.isBlank()) {
-            return;
+    // 요청한 파트 번호들의 업로드 URL 을 한 번에 발급 (실패한 파트만 다시 발급받아 재시도 가능)
+    // partCount = 시작 때 선언한 크기로 계산한 파트 수, 그보다 큰 번호는 발급하지 않음
+    public Map<Integer, String> presignUploadParts(String key, String uploadId, Collection<Integer> partNumbers, int partCount) {
+        Map<Integer, String> urls = new LinkedHashMap<>();
+        for (Integer partNumber : partNumbers) {
+            validatePartNumber(partNumber, partCount);
+            urls.put(partNumber, blobStore.presignUploadPart(key, uploadId, partNumber, PUT_TTL).url());
         }
-        try {
-            s3Client.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(s3Key).build());
-        } catch (Exception e) {
-            log.error("Failed to delete file from S3: {}", s3Key, e);
+        return urls;
+    }
+
+    // 파트 번호 -> ETag, 병합된 객체 크기(HEAD) 반환
+    public long completeMultipartUpload(String key, String uploadId, Map<Integer, String> eTags, int partCount) {
+        eTags.keySet().forEach(partNumber -> validatePartNumber(partNumber, partCount));
+        blobStore.completeMultipartUpload(key, uploadId, eTags);
+        return blobStore.size(key);
+    }
+
+    private void validatePartNumber(Integer partNumber, int partCount) {
+        if (partNumber == null || partNumber < 1 || partNumber > Math.min(partCount, MAX_PARTS)) {
+            throw new IllegalArgumentException("Invalid part number: " + partNumber);
+        }
+    }
+
+    public void abortMultipartUpload(String key, String uploadId) {
+        blobStore.abortMultipartUpload(key, uploadId);
+    }
+
+    public String presignGet(String key) {
+        return presignGetResult(key).url();
+    }
+
+    // 캐시된 URL 이 만료 margin 전이면 그대로 재사용 (같은 URL -> 브라우저 캐시 적중)
+    public PresignedGetResult presignGetResult(String key) {
+        PresignedUrlCache.Entry e = presignedGetCache.get(key, Instant.now(), this::signGet);
+        return new PresignedGetResult(key, e.url(), e.expiresAt(), null);
+    }
+
+    private PresignedUrlCache.Entry signGet(String key) {
+        // URL 재사용 기간 동안 객체 응답도 브라우저에 캐시
+        BlobStore.SignedUrl signed = blobStore.presignGet(key, presignTtl, "private, max-age=" + presignReuseSeconds);
+        return new PresignedUrlCache.Entry(signed.url(), signed.expiresAt());
+    }
+
+    @Scheduled(fixedDelayString = "${app.s3.presign.evict-interval:PT5M}")
+    public void evictExpiredPresignedUrls() {
+        presignedGetCache.evictExpired(Instant.now());
+    }
+
+    // 서버에서 내용을 읽어야 하는 작업(텍스트 추출 등)용 : 객체를 로컬 파일로 내려받음
+    public void download(String key, Path target) throws IOException {
+        blobStore.download(key, target);
+    }
+
+    // 정리 작업용 목록 조회 : startAfter 이후 키부터 키 순서로 maxKeys 개 (키 자체가 커서라 중단 후 이어서 조회 가능)
+    public BlobStore.Page listObjects(String prefix, String startAfter, int maxKeys) {
+        return blobStore.list(prefix, startAfter, maxKeys);
+    }
+
+    public boolean exists(String key) {
+        return blobStore.exists(key);
+    }
+
+    // 여러 객체를 MAX_DELETE_KEYS 개씩 나눠 삭제, 실패한 키와 사유 반환
+    // 없는 키는 성공으로 처리하므로 재시도해도 안전
+    public Map<String, String> deleteObjects(List<String> keys) {
+        Map<String, String> failed = new LinkedHashMap<>();
+        for (int from = 0; from < keys.size(); from += MAX_DELETE_KEYS) {
+            List<String> chunk = keys.subList(from, Math.min(from + MAX_DELETE_KEYS, keys.size()));
+            chunk.forEach(presignedGetCache::invalidate);
+            try {
+                failed.putAll(blobStore.delete(chunk));
+            } catch (Exception e) {
+                log.warn("DeleteObjects failed for {} keys", chunk.size(), e);
+                chunk.forEach(k -> failed.put(k, String.valueOf(e.getMessage())));
+            }
         }
+        meterRegistry.counter("s3.delete", "outcome", "deleted").increment(keys.size() - failed.size());
+        meterRegistry.counter("s3.delete", "outcome", "failed").increment(failed.size());
+        return failed;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,44 @@
+package io.github.tuddy.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+// /sync 커서 : 세션·메시지는 id, 파일은 (updatedAt, id) 위치
+// 클라이언트에는 불투명 문자열로만 노출
+record SyncCursor(long sessionId, long messageId, LocalDateTime fileUpdatedAt, long fileId) {
+
+    static final LocalDateTime ORIGIN = LocalDateTime.of(1970, 1, 1, 0, 0);
+    static final SyncCursor START = new SyncCursor(0, 0, ORIGIN, 0);
+
+    private static final String VERSION = "v1";
+
+    static SyncCursor parse(String value) {
+        if (value == null || value.isBlank()) {
+            return START;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8).split(":");
+            if (parts.length != 5 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("Invalid sync cursor");
+            }
+            // 초 단위 epoch + 마이크로초 (DATETIME(6) 정밀도)
+            long micros = Long.parseLong(parts[3]);
+            LocalDateTime at = LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                    (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+            return new SyncCursor(Long.parseLong(parts[1]), Long.parseLong(parts[2]), at, Long.parseLong(parts[4]));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new IllegalArgumentException("Invalid sync cursor", e);
+        }
+    }
+
+    String encode() {
+        long micros = ChronoUnit.MICROS.between(ORIGIN, fileUpdatedAt);
+        String raw = String.join(":", VERSION, Long.toString(sessionId), Long.toString(messageId),
+                Long.toString(micros), Long.toString(fileId));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
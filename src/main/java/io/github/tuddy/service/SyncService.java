@@ -0,0 +1,75 @@
+package io.github.tuddy.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.github.tuddy.dto.ChatSessionResponse;
+import io.github.tuddy.dto.SyncResponse;
+import io.github.tuddy.dto.UploadedFileResponse;
+import io.github.tuddy.entity.chat.ChatMessage;
+import io.github.tuddy.entity.chat.ChatSession;
+import io.github.tuddy.entity.file.UploadedFile;
+import io.github.tuddy.repository.ChatMessageRepository;
+import io.github.tuddy.repository.ChatSessionRepository;
+import io.github.tuddy.repository.UploadedFileRepository;
+import lombok.RequiredArgsConstructor;
+
+// 앱 시작 시 세션 목록 / 메시지 / 파일 목록을 한 번에 받아가는 델타 동기화
+@Service
+@RequiredArgsConstructor
+public class SyncService {
+
+    private final ChatSessionRepository sessionRepository;
+    private final ChatMessageRepository messageRepository;
+    private final UploadedFileRepository uploadedFileRepository;
+
+    // 종류별 최대 건수 (넘으면 hasMore = true, 다음 커서로 이어받기)
+    @Value("${app.sync.max-items:200}")
+    private int maxItems = 200;
+
+    // 방금 기록된 행은 다음 동기화로 미룸 : id/시각 순서와 커밋 순서가 어긋나 커서가 건너뛰는 것 방지
+    @Value("${app.sync.settle:PT2S}")
+    private Duration settle = Duration.ofSeconds(2);
+
+    @Transactional(readOnly = true)
+    public SyncResponse sync(Long userId, String since) {
+        SyncCursor from = SyncCursor.parse(since);
+        LocalDateTime until = LocalDateTime.now().minus(settle);
+        int limit = Math.max(1, maxItems);
+        Limit fetch = Limit.of(limit + 1);
+
+        List<ChatSession> sessions = sessionRepository.findCreatedSince(userId, from.sessionId(), until, fetch);
+        List<ChatMessage> messages = messageRepository.findCreatedSince(userId, from.messageId(), until, fetch);
+        List<UploadedFile> files = uploadedFileRepository.findChangedSince(
+                userId, from.fileUpdatedAt(), from.fileId(), until, fetch);
+
+        boolean hasMore = sessions.size() > limit || messages.size() > limit || files.size() > limit;
+        sessions = head(sessions, limit);
+        messages = head(messages, limit);
+        files = head(files, limit);
+
+        // 종류별로 마지막으로 내려준 위치까지만 진행 (빈 경우 기존 위치 유지)
+        SyncCursor next = new SyncCursor(
+                sessions.isEmpty() ? from.sessionId() : sessions.get(sessions.size() - 1).getId(),
+                messages.isEmpty() ? from.messageId() : messages.get(messages.size() - 1).getId(),
+                files.isEmpty() ? from.fileUpdatedAt() : files.get(files.size() - 1).getUpdatedAt(),
+                files.isEmpty() ? from.fileId() : files.get(files.size() - 1).getId());
+
+        return new SyncResponse(
+                sessions.stream().map(ChatSessionResponse::from).toList(),
+                messages.stream().map(SyncResponse.Message::from).toList(),
+                files.stream().map(UploadedFileResponse::from).toList(),
+                next.encode(),
+                hasMore);
+    }
+
+    private static <T> List<T> head(List<T> list, int limit) {
+        return list.size() > limit ? list.subList(0, limit) : list;
+    }
+}
@@ -0,0 +1,230 @@
+package io.github.tuddy.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+
+// 문서의 텍스트 레이어 추출 (PDF / DOCX / PPTX)
+// - 페이지(슬라이드) 단위로 읽어 바로 파일에 쓰므로 메모리는 페이지 하나 분량 (PDF 는 PDFBox 임시 파일 캐시)
+// - 페이지 구분은 \f, 글자 수가 min-chars-per-page 미만인 페이지는 스캔 페이지로 보고 번호만 모음
+// - DOCX 는 페이지 정보가 없어 문서 전체를 한 페이지로 취급
+final class TextExtractor {
+
+    static final Set<String> EXTENSIONS = Set.of("pdf", "docx", "pptx");
+
+    private static final Pattern SLIDE = Pattern.compile("ppt/slides/slide(\\d+)\\.xml");
+    private static final XMLInputFactory XML = XMLInputFactory.newFactory();
+
+    static {
+        // 문서 안의 DTD/외부 엔티티는 읽지 않음 (XXE)
+        XML.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        XML.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    // scannedPages : 1부터 시작하는 페이지 번호
+    record Result(int pages, List<Integer> scannedPages, long chars) {
+
+        // 대부분 텍스트가 있는 문서만 (스캔 페이지 비율이 maxScannedRatio 이하)
+        boolean textBased(double maxScannedRatio) {
+            return pages > 0 && chars > 0 && scannedPages.size() <= pages * maxScannedRatio;
+        }
+    }
+
+    private final int minCharsPerPage;
+    private final long maxChars;
+
+    TextExtractor(int minCharsPerPage, long maxChars) {
+        this.minCharsPerPage = minCharsPerPage;
+        this.maxChars = maxChars;
+    }
+
+    // 파일 키의 확장자 (지원하지 않으면 null)
+    static String extension(String key) {
+        int dot = key.lastIndexOf('.');
+        if (dot < 0) {
+            return null;
+        }
+        String ext = key.substring(dot + 1).toLowerCase(Locale.ROOT);
+        return EXTENSIONS.contains(ext) ? ext : null;
+    }
+
+    // out 에 텍스트를 쓰고 페이지 정보 반환, 추출할 수 없는 문서(복사 금지 PDF 등)면 null
+    // 추출 결과가 max-chars 를 넘으면 IOException
+    Result extract(String extension, Path source, Path out) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(out, StandardCharsets.UTF_8)) {
+            PageSink sink = new PageSink(writer);
+            boolean extracted = switch (extension) {
+                case "pdf" -> extractPdf(source, sink);
+                case "docx" -> extractDocx(source, sink);
+                case "pptx" -> extractPptx(source, sink);
+                default -> false;
+            };
+            return extracted ? sink.result() : null;
+        } catch (XMLStreamException e) {
+            throw new IOException("Malformed document XML", e);
+        }
+    }
+
+    private boolean extractPdf(Path source, PageSink sink) throws IOException {
+        try (PDDocument doc = Loader.loadPDF(source.toFile(), IOUtils.createTempFileOnlyStreamCache())) {
+            if (!doc.getCurrentAccessPermission().canExtractContent()) {
+                return false;
+            }
+            PDFTextStripper stripper = new PDFTextStripper();
+            int pages = doc.getNumberOfPages();
+            for (int i = 1; i <= pages; i++) {
+                stripper.setStartPage(i);
+                stripper.setEndPage(i);
+                sink.beginPage();
+                sink.append(stripper.getText(doc));
+                sink.endPage();
+            }
+            return true;
+        }
+    }
+
+    private boolean extractDocx(Path source, PageSink sink) throws IOException, XMLStreamException {
+        try (ZipFile zip = new ZipFile(source.toFile())) {
+            ZipEntry body = zip.getEntry("word/document.xml");
+            if (body == null) {
+                return false;
+            }
+            sink.beginPage();
+            try (InputStream in = zip.getInputStream(body)) {
+                readText(in, sink);
+            }
+            sink.endPage();
+            return true;
+        }
+    }
+
+    // 슬라이드 파일 번호 순서 (presentation.xml 의 순서와 대부분 같음)
+    private boolean extractPptx(Path source, PageSink sink) throws IOException, XMLStreamException {
+        try (ZipFile zip = new ZipFile(source.toFile())) {
+            List<ZipEntry> slides = new ArrayList<>();
+            zip.stream().filter(e -> SLIDE.matcher(e.getName()).matches()).forEach(slides::add);
+            if (slides.isEmpty()) {
+                return false;
+            }
+            slides.sort(Comparator.comparingInt(TextExtractor::slideNumber));
+            for (ZipEntry slide : slides) {
+                sink.beginPage();
+                try (InputStream in = zip.getInputStream(slide)) {
+                    readText(in, sink);
+                }
+                sink.endPage();
+            }
+            return true;
+        }
+    }
+
+    private static int slideNumber(ZipEntry e) {
+        Matcher m = SLIDE.matcher(e.getName());
+        return m.matches() ? Integer.parseInt(m.group(1)) : Integer.MAX_VALUE;
+    }
+
+    // WordprocessingML(w:t, w:p) / DrawingML(a:t, a:p) 공통 : 텍스트 요소 내용만, 문단 끝은 줄바꿈
+    private static void readText(InputStream in, PageSink sink) throws XMLStreamException, IOException {
+        XMLStreamReader r = XML.createXMLStreamReader(in);
+        try {
+            boolean inText = false;
+            while (r.hasNext()) {
+                switch (r.next()) {
+                    case XMLStreamConstants.START_ELEMENT -> {
+                        String name = r.getLocalName();
+                        if ("t".equals(name)) {
+                            inText = true;
+                        } else if ("tab".equals(name)) {
+                            sink.append("\t");
+                        } else if ("br".equals(name)) {
+                            sink.append("\n");
+                        }
+                    }
+                    case XMLStreamConstants.END_ELEMENT -> {
+                        String name = r.getLocalName();
+                        if ("t".equals(name)) {
+                            inText = false;
+                        } else if ("p".equals(name)) {
+                            sink.append("\n");
+                        }
+                    }
+                    case XMLStreamConstants.CHARACTERS -> {
+                        if (inText) {
+                            sink.append(r.getText());
+                        }
+                    }
+                    default -> { }
+                }
+            }
+        } finally {
+            r.close();
+        }
+    }
+
+    // 페이지별 글자 수를 세면서 바로 파일에 기록
+    private final class PageSink {
+
+        private final Writer writer;
+        private final List<Integer> scanned = new ArrayList<>();
+        private int pages;
+        private long chars;
+        private int pageChars;
+
+        PageSink(Writer writer) {
+            this.writer = writer;
+        }
+
+        void beginPage() throws IOException {
+            if (pages > 0) {
+                writer.write('\f');
+            }
+            pages++;
+            pageChars = 0;
+        }
+
+        void append(String text) throws IOException {
+            for (int i = 0; i < text.length(); i++) {
+                if (!Character.isWhitespace(text.charAt(i))) {
+                    pageChars++;
+                }
+            }
+            chars += text.length();
+            if (chars > maxChars) {
+                throw new IOException("Extracted text exceeds " + maxChars + " chars");
+            }
+            writer.write(text);
+        }
+
+        void endPage() {
+            if (pageChars < minCharsPerPage) {
+                scanned.add(pages);
+            }
+        }
+
+        Result result() {
+            return new Result(pages, List.copyOf(scanned), chars);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package io.github.tuddy.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.github.tuddy.entity.file.OcrJob;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+// OCR 앞단의 텍스트 추출 경로 (OcrJobWorker 에서 파일별로 먼저 시도)
+// 텍스트 레이어가 있는 PDF/DOCX/PPTX 는 JVM 에서 추출한 텍스트로 인덱싱 요청하고 OCR 은 스캔 페이지만
+// 스캔 페이지 비율이 max-scanned-ratio 를 넘거나, 추출/요청이 실패하면 false -> 기존 OCR 경로
+@Slf4j
+@Component
+public class TextFastPath {
+
+    private final S3Service s3Service;
+    private final RagChatService ragChatService;
+    private final TextExtractor extractor;
+    private final MeterRegistry meterRegistry;
+    private final Timer extractTimer;
+
+    private final boolean enabled;
+    private final double maxScannedRatio;
+
+    public TextFastPath(S3Service s3Service,
+                        RagChatService ragChatService,
+                        MeterRegistry meterRegistry,
+                        @Value("${app.ocr.text-extraction.enabled:true}") boolean enabled,
+                        @Value("${app.ocr.text-extraction.min-chars-per-page:20}") int minCharsPerPage,
+                        @Value("${app.ocr.text-extraction.max-scanned-ratio:0.5}") double maxScannedRatio,
+                        @Value("${app.ocr.text-extraction.max-chars:20000000}") long maxChars) {
+        this.s3Service = s3Service;
+        this.ragChatService = ragChatService;
+        this.extractor = new TextExtractor(minCharsPerPage, maxChars);
+        this.meterRegistry = meterRegistry;
+        this.extractTimer = Timer.builder("ocr.fastpath.time").register(this.meterRegistry);
+        this.enabled = enabled;
+        this.maxScannedRatio = maxScannedRatio;
+    }
+
+    // 텍스트 경로로 인덱싱 요청을 보냈으면 true (예외를 던지지 않음)
+    public boolean tryIndex(OcrJob job) {
+        String ext = TextExtractor.extension(job.getS3Key());
+        if (!enabled || ext == null || !ragChatService.supportsTextIndex()) {
+            return false;
+        }
+        Path source = null;
+        Path text = null;
+        try {
+            source = Files.createTempFile("extract-", "." + ext);
+            text = Files.createTempFile("extract-", ".txt");
+            s3Service.download(job.getS3Key(), source);
+
+            long start = System.nanoTime();
+            TextExtractor.Result result = extractor.extract(ext, source, text);
+            extractTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (result == null || !result.textBased(maxScannedRatio)) {
+                count("ocr");
+                return false;
+            }
+
+            boolean sent = ragChatService.sendTextIndex(String.valueOf(job.getUserId()), job.getS3Key(), text, result.scannedPages());
+            if (sent) {
+                count("text");
+                meterRegistry.counter("ocr.fastpath.pages", "kind", "text").increment(result.pages() - result.scannedPages().size());
+                meterRegistry.counter("ocr.fastpath.pages", "kind", "scanned").increment(result.scannedPages().size());
+            } else {
+                count("error");
+            }
+            return sent;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Text extraction failed for {}, falling back to OCR", job.getS3Key(), e);
+            count("error");
+            return false;
+        } finally {
+            deleteQuietly(source);
+            deleteQuietly(text);
+        }
+    }
+
+    private void count(String outcome) {
+        meterRegistry.counter("ocr.fastpath", "outcome", outcome).increment();
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete temp file {}", path, e);
+        }
+    }
+}
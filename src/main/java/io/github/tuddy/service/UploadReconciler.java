@@ -0,0 +1,226 @@
+package io.github.tuddy.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.tuddy.entity.file.FileStatus;
+import io.github.tuddy.entity.file.UploadedFile;
+import io.github.tuddy.repository.S3DeleteJobRepository;
+import io.github.tuddy.repository.UploadedFileRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+// 업로드 정리 작업 : DB 와 S3 가 어긋난 파일을 주기적으로 맞춤
+// 1) 오래된 PENDING 파일 (presigned 업로드 후 처리 요청이 없거나, 업로드 자체를 안 한 경우)
+//    - 진행 중 멀티파트 : 업로드 중단(abort) 후 행 삭제
+//    - S3 에 객체 있음 : 업로드는 끝났으므로 OCR/인덱싱 작업 등록
+//    - S3 에 객체 없음 : 행 삭제
+// 2) DB 행이 없는 S3 객체 (업로드 후 DB 저장 실패 등) : s3_delete_jobs 에 등록해 S3DeleteWorker 가 삭제
+// 둘 다 키/id 커서로 한 페이지씩만 읽고, S3 요청은 초당 s3-requests-per-second 로 제한
+// 한 번 실행은 max-duration 안에서 끝내고 다음 실행에서 커서부터 이어감 (수백만 개도 메모리는 페이지 하나)
+@Slf4j
+@Component
+public class UploadReconciler {
+
+    private final UploadedFileRepository uploadedFileRepository;
+    private final S3DeleteJobRepository deleteJobRepository;
+    private final S3Service s3Service;
+    private final FileService fileService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final boolean enabled;
+    private final String prefix;
+    private final int pageSize;
+    private final Duration objectGrace;
+    private final Duration pendingTtl;
+    private final Duration maxDuration;
+    private final long requestIntervalNanos;
+
+    // 다음 실행에서 이어갈 위치 (null / 0 = 처음부터)
+    private volatile String objectCursor;
+    private volatile long pendingCursor;
+    private volatile Instant lastStartedAt;
+    private volatile Instant lastFinishedAt;
+    private long nextRequestAt;
+    private final Map<String, AtomicLong> totals = new ConcurrentHashMap<>();
+
+    public UploadReconciler(UploadedFileRepository uploadedFileRepository,
+                            S3DeleteJobRepository deleteJobRepository,
+                            S3Service s3Service,
+                            FileService fileService,
+                            TransactionTemplate transactionTemplate,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.reconcile.enabled:true}") boolean enabled,
+                            @Value("${app.reconcile.prefix:raw/}") String prefix,
+                            @Value("${app.reconcile.page-size:1000}") int pageSize,
+                            @Value("${app.reconcile.object-grace:PT6H}") Duration objectGrace,
+                            @Value("${app.reconcile.pending-ttl:P1D}") Duration pendingTtl,
+                            @Value("${app.reconcile.max-duration:PT10M}") Duration maxDuration,
+                            @Value("${app.reconcile.s3-requests-per-second:20}") int s3RequestsPerSecond) {
+        this.uploadedFileRepository = uploadedFileRepository;
+        this.deleteJobRepository = deleteJobRepository;
+        this.s3Service = s3Service;
+        this.fileService = fileService;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.prefix = prefix;
+        // ListObjectsV2 는 요청당 최대 1000개
+        this.pageSize = Math.clamp(pageSize, 1, 1000);
+        this.objectGrace = objectGrace;
+        this.pendingTtl = pendingTtl;
+        this.maxDuration = maxDuration;
+        this.requestIntervalNanos = 1_000_000_000L / Math.max(1, s3RequestsPerSecond);
+    }
+
+    // 시간 예산의 절반은 PENDING 정리, 남은 시간은 S3 객체 정리 (한쪽이 밀려도 다른 쪽이 멈추지 않도록)
+    @Scheduled(fixedDelayString = "${app.reconcile.interval:PT1H}", initialDelayString = "${app.reconcile.initial-delay:PT5M}")
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        lastStartedAt = Instant.now();
+        try {
+            sweepPending(start + maxDuration.toNanos() / 2);
+            sweepObjects(start + maxDuration.toNanos());
+        } catch (RuntimeException e) {
+            log.error("Upload reconciliation failed (pending cursor {}, object cursor {})", pendingCursor, objectCursor, e);
+        } finally {
+            lastFinishedAt = Instant.now();
+        }
+    }
+
+    void sweepPending(long deadline) {
+        // presigned URL 만료(TTL)보다 충분히 지난 것만 : 이 시점 이후로는 새로 업로드될 수 없음
+        LocalDateTime before = LocalDateTime.now().minus(pendingTtl);
+        while (System.nanoTime() < deadline) {
+            List<UploadedFile> page = uploadedFileRepository.findStale(FileStatus.PENDING, before, pendingCursor, Limit.of(pageSize));
+            for (UploadedFile file : page) {
+                if (System.nanoTime() >= deadline) {
+                    return;
+                }
+                try {
+                    reconcilePending(file);
+                } catch (RuntimeException e) {
+                    // 한 파일 실패로 전체가 멈추지 않도록 건너뛰고 다음 주기에 다시 시도
+                    log.warn("Failed to reconcile pending file {} ({})", file.getId(), file.getS3Key(), e);
+                    count("errors", 1);
+                }
+                pendingCursor = file.getId();
+            }
+            if (page.size() < pageSize) {
+                pendingCursor = 0;
+                count("pending_sweeps", 1);
+                return;
+            }
+        }
+    }
+
+    private void reconcilePending(UploadedFile file) {
+        count("pending_scanned", 1);
+        if (file.getUploadId() != null) {
+            pace();
+            s3Service.abortMultipartUpload(file.getS3Key(), file.getUploadId());
+            count("multipart_aborted", uploadedFileRepository.deleteByIdAndStatus(file.getId(), FileStatus.PENDING));
+            return;
+        }
+        pace();
+        if (s3Service.exists(file.getS3Key())) {
+            // 업로드는 끝났지만 처리 요청(/files/{id}/process)이 오지 않은 경우 : 대신 작업 등록
+            fileService.processUploadedFile(file.getUserAccount().getId(), file.getId());
+            count("pending_repaired", 1);
+        } else {
+            count("pending_deleted", uploadedFileRepository.deleteByIdAndStatus(file.getId(), FileStatus.PENDING));
+        }
+    }
+
+    void sweepObjects(long deadline) {
+        // 서버 업로드는 S3 저장 후 DB 에 기록하므로, 최근 객체는 아직 행이 없을 수 있어 grace 이전 것만 대상
+        Instant before = Instant.now().minus(objectGrace);
+        while (System.nanoTime() < deadline) {
+            pace();
+            BlobStore.Page page = s3Service.listObjects(prefix, objectCursor, pageSize);
+            List<BlobStore.Blob> objects = page.objects();
+            count("objects_scanned", objects.size());
+
+            List<String> candidates = objects.stream()
+                    .filter(o -> o.lastModified().isBefore(before))
+                    .map(BlobStore.Blob::key)
+                    .toList();
+            if (!candidates.isEmpty()) {
+                count("orphans_queued", transactionTemplate.execute(status -> queueOrphans(candidates)));
+            }
+
+            if (!page.truncated() || objects.isEmpty()) {
+                objectCursor = null;
+                count("object_sweeps", 1);
+                return;
+            }
+            objectCursor = objects.get(objects.size() - 1).key();
+        }
+    }
+
+    // DB 에도 없고 삭제 대기열에도 없는 키만 등록 (페이지당 조회 2회 + 등록)
+    // 다른 인스턴스가 같은 페이지를 동시에 정리해도 enqueue 가 이미 등록된 키는 무시
+    private int queueOrphans(List<String> keys) {
+        Set<String> known = new HashSet<>(uploadedFileRepository.findExistingKeys(keys));
+        known.addAll(deleteJobRepository.findQueuedKeys(keys));
+        List<String> orphans = keys.stream()
+                .filter(k -> !known.contains(k))
+                .toList();
+        if (!orphans.isEmpty()) {
+            deleteJobRepository.enqueue(orphans);
+            log.info("Queued {} orphaned S3 objects for deletion (from {})", orphans.size(), orphans.get(0));
+        }
+        return orphans.size();
+    }
+
+    // S3 요청 간격 유지 (실행은 스케줄러 스레드 하나에서만 진행)
+    private void pace() {
+        long now = System.nanoTime();
+        long wait = nextRequestAt - now;
+        if (wait > 0) {
+            LockSupport.parkNanos(wait);
+        }
+        nextRequestAt = Math.max(now, nextRequestAt) + requestIntervalNanos;
+    }
+
+    private void count(String outcome, long n) {
+        if (n <= 0) {
+            return;
+        }
+        totals.computeIfAbsent(outcome, k -> new AtomicLong()).addAndGet(n);
+        meterRegistry.counter("upload.reconcile", "outcome", outcome).increment(n);
+    }
+
+    // /actuator/uploadreconcile 용 : 마지막 실행 시각, 목록 조회 진행 여부, 기동 후 누적 건수
+    // 커서는 S3 키/파일 id 라 노출하지 않음 (필요하면 실패 로그에서 확인)
+    public Map<String, Object> snapshot() {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("enabled", enabled);
+        m.put("lastStartedAt", lastStartedAt);
+        m.put("lastFinishedAt", lastFinishedAt);
+        m.put("objectSweepInProgress", objectCursor != null);
+        Map<String, Long> counts = new LinkedHashMap<>();
+        totals.forEach((k, v) -> counts.put(k, v.get()));
+        m.put("totals", counts);
+        return m;
+    }
+}
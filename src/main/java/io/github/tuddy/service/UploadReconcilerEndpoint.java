@@ -0,0 +1,23 @@
+package io.github.tuddy.service;
+
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+// GET /actuator/uploadreconcile : 업로드 정리 작업의 마지막 실행 시각, 목록 조회 진행 여부, 누적 처리 건수 (관리자만)
+@Component
+@Endpoint(id = "uploadreconcile")
+@RequiredArgsConstructor
+public class UploadReconcilerEndpoint {
+
+    private final UploadReconciler reconciler;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return reconciler.snapshot();
+    }
+}
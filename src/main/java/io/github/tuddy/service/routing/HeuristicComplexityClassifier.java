@@ -0,0 +1,49 @@
+package io.github.tuddy.service.routing;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 길이, 언어, 키워드, 대화 이력 기반 규칙 분류
+// 짧고 단순한 질문만 FAST, 조금이라도 복잡해 보이면 FULL (애매하면 품질 우선)
+// 다른 분류기를 쓰려면 해당 구현을 @Primary 빈으로 등록
+@Component
+public class HeuristicComplexityClassifier implements QueryComplexityClassifier {
+
+    private final int fastMaxChars;
+    private final List<String> fullKeywords;
+    private final boolean fullOnFollowUp;
+
+    public HeuristicComplexityClassifier(@Value("${app.routing.fast-max-chars:40}") int fastMaxChars,
+                                         @Value("#{'${app.routing.full-keywords:증명,풀이,유도,비교,분석,설명해,요약,코드,prove,derive,explain,compare,analyze,summarize,code}'.split(',')}") List<String> fullKeywords,
+                                         @Value("${app.routing.full-on-follow-up:false}") boolean fullOnFollowUp) {
+        this.fastMaxChars = fastMaxChars;
+        this.fullKeywords = fullKeywords.stream()
+                .map(k -> k.trim().toLowerCase(Locale.ROOT))
+                .filter(k -> !k.isEmpty())
+                .toList();
+        this.fullOnFollowUp = fullOnFollowUp;
+    }
+
+    @Override
+    public ModelTier classify(QueryFeatures f) {
+        if (f.length() > fastMaxChars || f.questionCount() > 1 || f.hasFormula()) {
+            return ModelTier.FULL;
+        }
+        if ("other".equals(f.language()) && f.length() > 0) {
+            return ModelTier.FULL;
+        }
+        if (fullOnFollowUp && f.followUp()) {
+            return ModelTier.FULL;
+        }
+        String lower = f.query().toLowerCase(Locale.ROOT);
+        for (String keyword : fullKeywords) {
+            if (lower.contains(keyword)) {
+                return ModelTier.FULL;
+            }
+        }
+        return ModelTier.FAST;
+    }
+}
@@ -0,0 +1,7 @@
+package io.github.tuddy.service.routing;
+
+// FastAPI 모델 등급 힌트 (model_tier)
+public enum ModelTier {
+    FAST,  // 인사, 짧은 단답형 질문 : 작은 모델
+    FULL   // 풀이/증명/비교 등 여러 단계 추론이 필요한 질문 : 기본 모델
+}
@@ -0,0 +1,54 @@
+package io.github.tuddy.service.routing;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.github.tuddy.dto.FastApiChatRequest;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// 일반 대화 요청에 model_tier 를 붙여 중계하고 등급별 지연 기록 (rag.chat.tier)
+@Component
+public class ModelTierRouter {
+
+    private final boolean enabled;
+    private final QueryComplexityClassifier classifier;
+    private final MeterRegistry meterRegistry;
+
+    public ModelTierRouter(@Value("${app.routing.enabled:true}") boolean enabled,
+                           QueryComplexityClassifier classifier,
+                           MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.classifier = classifier;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public ModelTier classify(FastApiChatRequest req, boolean followUp) {
+        return classifier.classify(QueryFeatures.of(req.query(), followUp));
+    }
+
+    public <T> T relay(FastApiChatRequest req, boolean followUp, Function<FastApiChatRequest, T> call) {
+        if (!enabled) {
+            return call.apply(req);
+        }
+        ModelTier tier = classify(req, followUp);
+        long start = System.nanoTime();
+        String outcome = "success";
+        try {
+            return call.apply(req.withModelTier(tier.name().toLowerCase()));
+        } catch (RuntimeException e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            Timer.builder("rag.chat.tier")
+                    .tag("tier", tier.name().toLowerCase())
+                    .tag("outcome", outcome)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
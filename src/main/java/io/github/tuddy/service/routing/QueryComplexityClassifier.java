@@ -0,0 +1,7 @@
+package io.github.tuddy.service.routing;
+
+// 질문 난이도 분류기 (기본 구현 : HeuristicComplexityClassifier)
+public interface QueryComplexityClassifier {
+
+    ModelTier classify(QueryFeatures features);
+}
@@ -0,0 +1,36 @@
+package io.github.tuddy.service.routing;
+
+// 분류에 쓰는 질문 특징 (외부 호출 없이 문자열만으로 계산)
+public record QueryFeatures(
+    String query,
+    int length,
+    String language,    // ko, en, other
+    int questionCount,  // 물음표/줄 단위로 센 하위 질문 수
+    boolean hasFormula, // 수식, 코드 기호 포함 여부
+    boolean followUp    // 기존 세션에 이어지는 질문
+) {
+    public static QueryFeatures of(String query, boolean followUp) {
+        String q = query == null ? "" : query.strip();
+        int hangul = 0;
+        int latin = 0;
+        int questions = 0;
+        int lines = 1;
+        boolean formula = false;
+        for (int i = 0; i < q.length(); i++) {
+            char c = q.charAt(i);
+            if (c >= '가' && c <= '힣') {
+                hangul++;
+            } else if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+                latin++;
+            } else if (c == '?') {
+                questions++;
+            } else if (c == '\n') {
+                lines++;
+            } else if (c == '=' || c == '^' || c == '{' || c == '}' || c == '\\' || c == '∫' || c == '∑' || c == '√') {
+                formula = true;
+            }
+        }
+        String language = hangul >= latin ? (hangul > 0 ? "ko" : "other") : "en";
+        return new QueryFeatures(q, q.length(), language, Math.max(questions, lines), formula, followUp);
+    }
+}
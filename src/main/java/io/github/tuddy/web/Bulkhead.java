@@ -0,0 +1,56 @@
+package io.github.tuddy.web;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+// 엔드포인트 그룹 전용 실행 레인 : 크기가 제한된 스레드풀 + 대기열
+// 요청은 async 로 넘겨 Tomcat 워커를 즉시 반납하고, 대기열까지 차면 TaskRejectedException (-> 503)
+public class Bulkhead {
+
+    private final String name;
+    private final ThreadPoolTaskExecutor executor;
+    private final long timeoutMillis;
+
+    public Bulkhead(String name, int threads, int queueCapacity, Duration timeout, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.timeoutMillis = timeout.toMillis();
+
+        Counter rejected = Counter.builder("bulkhead.rejected")
+                .tag("lane", name)
+                .register(meterRegistry);
+
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("lane-" + name + "-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler((r, pool) -> {
+            rejected.increment();
+            throw new RejectedExecutionException("Bulkhead '" + name + "' is full");
+        });
+        executor.initialize();
+
+        // 활성 스레드, 대기열 길이, 완료 건수 등
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), "bulkhead." + name, Tags.of("lane", name))
+                .bindTo(meterRegistry);
+    }
+
+    public <T> WebAsyncTask<T> submit(Callable<T> task) {
+        return new WebAsyncTask<>(timeoutMillis, executor, task);
+    }
+
+    public String getName() { return name; }
+
+    void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,41 @@
+package io.github.tuddy.web;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// 엔드포인트별 실행 레인
+// - chat   : FastAPI 중계 (/chat) - 느려져도 이 레인만 포화
+//            대기는 FairAdmissionQueue 가 담당 (레인 자체 대기열 없음, 스레드 = 동시 호출 수 + 최대 대기 수)
+// - upload : 파일 업로드 (OCR/인덱싱은 OcrJobWorker 가 별도 처리)
+// 인증, 목록 조회, actuator 등 가벼운 요청은 Tomcat 워커에서 그대로 처리되므로 고갈되지 않음
+@Component
+public class Bulkheads implements DisposableBean {
+
+    private final Bulkhead chat;
+    private final Bulkhead upload;
+
+    public Bulkheads(@Value("${app.bulkhead.chat.threads:64}") int chatThreads,
+                     @Value("${app.bulkhead.chat.queue:0}") int chatQueue,
+                     @Value("${app.bulkhead.chat.timeout:PT3M}") Duration chatTimeout,
+                     @Value("${app.bulkhead.upload.threads:8}") int uploadThreads,
+                     @Value("${app.bulkhead.upload.queue:16}") int uploadQueue,
+                     @Value("${app.bulkhead.upload.timeout:PT15M}") Duration uploadTimeout,
+                     MeterRegistry registry) {
+        this.chat = new Bulkhead("chat", chatThreads, chatQueue, chatTimeout, registry);
+        this.upload = new Bulkhead("upload", uploadThreads, uploadQueue, uploadTimeout, registry);
+    }
+
+    public Bulkhead chat() { return chat; }
+    public Bulkhead upload() { return upload; }
+
+    @Override
+    public void destroy() {
+        chat.shutdown();
+        upload.shutdown();
+    }
+}
@@ -0,0 +1,8 @@
+package io.github.tuddy.web;
+
+// 사용자별 요청 한도 구분
+public enum RateLimitBudget {
+    CHAT,      // 일반 대화 요청
+    RAG_CHAT,  // 파일/RAG 기반 대화 (FastAPI 비용이 큼)
+    UPLOAD     // 파일 업로드 (Presigned URL 발급 포함)
+}
@@ -0,0 +1,80 @@
+package io.github.tuddy.web;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.github.tuddy.security.AuthUser;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+// JwtAuthenticationFilter 다음에 위치 : 인증된 uid 기준으로 채팅/업로드 요청 수 제한
+// RAG 대화 한도는 라우팅이 결정되는 ChatService 에서 확인
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RateLimitBudget budget = resolveBudget(request);
+        Long userId = budget != null ? currentUserId() : null;
+        if (userId == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        RateLimitProbe probe = rateLimiter.tryConsume(userId, budget);
+        if (probe != null) {
+            writeHeaders(response, probe);
+            if (!probe.allowed()) {
+                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                response.setCharacterEncoding("UTF-8");
+                response.getWriter().write("{\"error\":\"Too Many Requests\",\"message\":\"요청 한도를 초과했습니다. "
+                        + probe.retryAfterSeconds() + "초 후 다시 시도해주세요.\"}");
+                return;
+            }
+        }
+        chain.doFilter(request, response);
+    }
+
+    public static void writeHeaders(HttpServletResponse response, RateLimitProbe probe) {
+        response.setHeader("RateLimit-Limit", String.valueOf(probe.limit()));
+        response.setHeader("RateLimit-Remaining", String.valueOf(probe.remaining()));
+        response.setHeader("RateLimit-Reset", String.valueOf(probe.resetSeconds()));
+        if (!probe.allowed()) {
+            response.setHeader("Retry-After", String.valueOf(probe.retryAfterSeconds()));
+        }
+    }
+
+    private RateLimitBudget resolveBudget(HttpServletRequest request) {
+        if (!"POST".equals(request.getMethod())) {
+            return null;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.equals("/chat")) {
+            return RateLimitBudget.CHAT;
+        }
+        if (path.equals("/s3/put") || path.equals("/s3/multipart") || path.equals("/files/stream")) {
+            return RateLimitBudget.UPLOAD;
+        }
+        return null;
+    }
+
+    private Long currentUserId() {
+        Authentication a = SecurityContextHolder.getContext().getAuthentication();
+        if (a != null && a.getPrincipal() instanceof AuthUser au) {
+            return au.getId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,10 @@
+package io.github.tuddy.web;
+
+// 토큰 버킷 소모 결과 : RateLimit-* 응답 헤더에 그대로 사용
+public record RateLimitProbe(
+    boolean allowed,
+    long limit,
+    long remaining,
+    long resetSeconds,
+    long retryAfterSeconds
+) {}
@@ -0,0 +1,105 @@
+package io.github.tuddy.web;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.github.tuddy.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+// 사용자(uid)별 토큰 버킷 보관소
+// 가득 찬(idle) 버킷은 주기적으로 제거하고, 상한을 넘으면 새 사용자는 제한 없이 통과(fail-open)
+@Slf4j
+@Component
+public class RateLimiter {
+
+    private final Map<RateLimitBudget, Limit> limits = new EnumMap<>(RateLimitBudget.class);
+    private final Map<RateLimitBudget, ConcurrentHashMap<Long, TokenBucket>> buckets = new EnumMap<>(RateLimitBudget.class);
+    private final boolean enabled;
+    private final int maxBuckets;
+    private final MeterRegistry meterRegistry;
+
+    public RateLimiter(@Value("${app.ratelimit.enabled:true}") boolean enabled,
+                       @Value("${app.ratelimit.max-buckets:100000}") int maxBuckets,
+                       @Value("${app.ratelimit.chat.capacity:30}") long chatCapacity,
+                       @Value("${app.ratelimit.chat.period:PT1M}") Duration chatPeriod,
+                       @Value("${app.ratelimit.rag-chat.capacity:10}") long ragCapacity,
+                       @Value("${app.ratelimit.rag-chat.period:PT1M}") Duration ragPeriod,
+                       @Value("${app.ratelimit.upload.capacity:20}") long uploadCapacity,
+                       @Value("${app.ratelimit.upload.period:PT10M}") Duration uploadPeriod,
+                       MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.maxBuckets = maxBuckets;
+        this.meterRegistry = meterRegistry;
+        limits.put(RateLimitBudget.CHAT, new Limit(chatCapacity, chatPeriod.toNanos()));
+        limits.put(RateLimitBudget.RAG_CHAT, new Limit(ragCapacity, ragPeriod.toNanos()));
+        limits.put(RateLimitBudget.UPLOAD, new Limit(uploadCapacity, uploadPeriod.toNanos()));
+        for (RateLimitBudget b : RateLimitBudget.values()) {
+            buckets.put(b, new ConcurrentHashMap<>());
+        }
+    }
+
+    // 제한 대상이 아니거나 비활성화 상태면 null
+    public RateLimitProbe tryConsume(Long userId, RateLimitBudget budget) {
+        return tryConsume(userId, budget, 1);
+    }
+
+    public RateLimitProbe tryConsume(Long userId, RateLimitBudget budget, int cost) {
+        if (!enabled || userId == null) {
+            return null;
+        }
+        long now = System.nanoTime();
+        ConcurrentHashMap<Long, TokenBucket> map = buckets.get(budget);
+        TokenBucket bucket = map.get(userId);
+        if (bucket == null) {
+            if (map.size() >= maxBuckets) {
+                evictIdle(map, now);
+                if (map.size() >= maxBuckets) {
+                    log.warn("Rate limit bucket storage full ({}), allowing request", budget);
+                    return null;
+                }
+            }
+            Limit limit = limits.get(budget);
+            bucket = map.computeIfAbsent(userId, k -> new TokenBucket(limit.capacity(), limit.periodNanos(), now));
+        }
+        RateLimitProbe probe = bucket.tryConsume(now, cost);
+        if (!probe.allowed()) {
+            meterRegistry.counter("ratelimit.rejected", "budget", budget.name().toLowerCase()).increment();
+        }
+        return probe;
+    }
+
+    // 서비스 계층용 : 한도 초과 시 예외 (-> 429)
+    public void consume(Long userId, RateLimitBudget budget) {
+        consume(userId, budget, 1);
+    }
+
+    public void consume(Long userId, RateLimitBudget budget, int cost) {
+        RateLimitProbe probe = tryConsume(userId, budget, cost);
+        if (probe != null && !probe.allowed()) {
+            throw new RateLimitExceededException(budget, probe);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.ratelimit.evict-interval:PT1M}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        buckets.values().forEach(map -> evictIdle(map, now));
+    }
+
+    private void evictIdle(ConcurrentHashMap<Long, TokenBucket> map, long now) {
+        map.values().removeIf(b -> b.isIdle(now));
+    }
+
+    public int size(RateLimitBudget budget) {
+        return buckets.get(budget).size();
+    }
+
+    private record Limit(long capacity, long periodNanos) {}
+}
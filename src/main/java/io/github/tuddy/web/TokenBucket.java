@@ -0,0 +1,51 @@
+package io.github.tuddy.web;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// lock-free 토큰 버킷 (GCRA : 이론적 도착 시각 tat 하나만 CAS 로 갱신)
+// period 동안 capacity 개, 최대 capacity 개까지 몰아서 사용 가능
+public class TokenBucket {
+
+    private final long capacity;
+    private final long periodNanos;
+    private final long intervalNanos;
+    private final AtomicLong tat;
+
+    public TokenBucket(long capacity, long periodNanos, long nowNanos) {
+        this.capacity = capacity;
+        this.periodNanos = periodNanos;
+        this.intervalNanos = periodNanos / capacity;
+        this.tat = new AtomicLong(nowNanos);
+    }
+
+    public RateLimitProbe tryConsume(long nowNanos) {
+        return tryConsume(nowNanos, 1);
+    }
+
+    // 여러 토큰을 한 번에 소모 (배치 요청) : 전부 가능할 때만 차감
+    public RateLimitProbe tryConsume(long nowNanos, int cost) {
+        while (true) {
+            long current = tat.get();
+            long next = Math.max(current, nowNanos) + intervalNanos * cost;
+            long ahead = next - nowNanos;
+            if (ahead > periodNanos) {
+                long wait = ahead - periodNanos;
+                return new RateLimitProbe(false, capacity, 0,
+                        toSeconds(Math.max(current, nowNanos) - nowNanos), toSeconds(wait));
+            }
+            if (tat.compareAndSet(current, next)) {
+                long remaining = (periodNanos - ahead) / intervalNanos;
+                return new RateLimitProbe(true, capacity, remaining, toSeconds(ahead), 0);
+            }
+        }
+    }
+
+    // 버킷이 가득 찬 상태 = 새로 만든 것과 동일하므로 제거 가능
+    public boolean isIdle(long nowNanos) {
+        return tat.get() <= nowNanos;
+    }
+
+    private static long toSeconds(long nanos) {
+        return (nanos + 999_999_999L) / 1_000_000_000L;
+    }
+}
@@ -0,0 +1,190 @@
+package io.github.tuddy.web;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.github.tuddy.service.ChatMessageSavedEvent;
+import io.github.tuddy.service.FileStatusChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+// 사용자별 SSE 연결 관리 및 이벤트 전달
+// - 연결은 async servlet(SseEmitter) 이라 대기 중에는 스레드를 점유하지 않음
+// - 연결마다 버퍼를 두고 전송은 가상 스레드에서 처리 : 느린 클라이언트가 발행자를 막지 않음
+// - 버퍼가 넘치면 연결을 끊음 (클라이언트는 재연결 후 /sync 등으로 다시 맞춤)
+@Slf4j
+@Component
+public class UserEventHub implements DisposableBean {
+
+    private final Map<Long, Set<Connection>> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger total = new AtomicInteger();
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+    private final long timeoutMillis;
+    private final int bufferSize;
+    private final int maxPerUser;
+    private final MeterRegistry meterRegistry;
+
+    public UserEventHub(@Value("${app.events.timeout:PT30M}") Duration timeout,
+                        @Value("${app.events.buffer-size:64}") int bufferSize,
+                        @Value("${app.events.max-per-user:5}") int maxPerUser,
+                        MeterRegistry meterRegistry) {
+        this.timeoutMillis = timeout.toMillis();
+        this.bufferSize = bufferSize;
+        this.maxPerUser = maxPerUser;
+        this.meterRegistry = meterRegistry;
+        this.meterRegistry.gauge("sse.connections", total);
+    }
+
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Connection c = new Connection(userId, emitter, bufferSize);
+        Set<Connection> set = connections.compute(userId, (k, existing) -> {
+            Set<Connection> s = existing != null ? existing : ConcurrentHashMap.newKeySet();
+            s.add(c);
+            return s;
+        });
+        total.incrementAndGet();
+
+        emitter.onCompletion(() -> remove(c));
+        emitter.onTimeout(() -> remove(c));
+        emitter.onError(e -> remove(c));
+
+        // 사용자당 연결 수 제한 : 가장 오래된 연결부터 정리
+        while (set.size() > maxPerUser) {
+            set.stream().min(Comparator.comparingLong(Connection::openedAt)).ifPresent(this::close);
+        }
+
+        offer(c, new Event("ready", Map.of("userId", userId)));
+        return emitter;
+    }
+
+    public void publish(Long userId, String type, Object data) {
+        Set<Connection> set = connections.get(userId);
+        if (set == null) {
+            return;
+        }
+        meterRegistry.counter("sse.events", "type", type).increment();
+        for (Connection c : set) {
+            offer(c, new Event(type, data));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFileStatusChanged(FileStatusChangedEvent e) {
+        publish(e.userId(), "file.status", e);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChatMessageSaved(ChatMessageSavedEvent e) {
+        publish(e.userId(), "chat.message", e);
+    }
+
+    // 프록시/로드밸런서 idle timeout 방지
+    @Scheduled(fixedDelayString = "${app.events.heartbeat:PT15S}")
+    public void heartbeat() {
+        connections.values().forEach(set -> set.forEach(c -> offer(c, Event.HEARTBEAT)));
+    }
+
+    public int connectionCount() {
+        return total.get();
+    }
+
+    private void offer(Connection c, Event event) {
+        if (!c.buffer.offer(event)) {
+            meterRegistry.counter("sse.dropped").increment();
+            log.debug("SSE buffer full for user {}, closing connection", c.userId);
+            close(c);
+            return;
+        }
+        if (c.draining.compareAndSet(false, true)) {
+            sender.execute(() -> drain(c));
+        }
+    }
+
+    private void drain(Connection c) {
+        try {
+            while (true) {
+                Event e;
+                while ((e = c.buffer.poll()) != null) {
+                    c.emitter.send(e.toBuilder());
+                }
+                c.draining.set(false);
+                // draining 해제 직전에 들어온 이벤트가 있으면 이어서 처리
+                if (c.buffer.isEmpty() || !c.draining.compareAndSet(false, true)) {
+                    return;
+                }
+            }
+        } catch (IOException | IllegalStateException ex) {
+            // 클라이언트가 끊었거나 이미 완료된 연결
+            remove(c);
+        }
+    }
+
+    private void close(Connection c) {
+        if (remove(c)) {
+            c.emitter.complete();
+        }
+    }
+
+    private boolean remove(Connection c) {
+        Set<Connection> set = connections.get(c.userId);
+        if (set != null && set.remove(c)) {
+            total.decrementAndGet();
+            connections.computeIfPresent(c.userId, (k, s) -> s.isEmpty() ? null : s);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void destroy() {
+        connections.values().forEach(set -> set.forEach(c -> c.emitter.complete()));
+        sender.shutdown();
+    }
+
+    private record Event(String name, Object data) {
+        static final Event HEARTBEAT = new Event(null, null);
+
+        SseEmitter.SseEventBuilder toBuilder() {
+            if (name == null) {
+                return SseEmitter.event().comment("ping");
+            }
+            return SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON);
+        }
+    }
+
+    private static final class Connection {
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<Event> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final long openedAt = System.nanoTime();
+
+        private Connection(Long userId, SseEmitter emitter, int bufferSize) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        long openedAt() {
+            return openedAt;
+        }
+    }
+}
@@ -0,0 +1,3 @@
+-- 브라우저 직접 멀티파트 업로드 진행 중인 S3 uploadId (완료/중단 시 NULL)
+ALTER TABLE uploaded_files
+ADD COLUMN upload_id VARCHAR(1024) NULL;
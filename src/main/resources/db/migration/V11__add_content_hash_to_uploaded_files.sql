@@ -0,0 +1,5 @@
+-- 업로드 중복 제거 : 파일 내용 SHA-256 (서버 경유 업로드만 기록, presigned 업로드는 NULL)
+ALTER TABLE uploaded_files
+ADD COLUMN content_hash CHAR(64) NULL;
+
+CREATE INDEX idx_uploaded_file_hash ON uploaded_files (user_id, content_hash);
@@ -0,0 +1,12 @@
+-- S3 객체 삭제 outbox : 파일 삭제 트랜잭션에서 키만 기록, 워커가 DeleteObjects(최대 1000개)로 묶어 삭제
+-- 파일 행은 이미 지워진 뒤이므로 uploaded_files FK 없음
+CREATE TABLE s3_delete_jobs (
+    id                  BIGINT AUTO_INCREMENT PRIMARY KEY,
+    s3_key              VARCHAR(512) NOT NULL,
+    attempts            INT          NOT NULL DEFAULT 0,
+    next_attempt_at     DATETIME(6)  NOT NULL,
+    last_error          VARCHAR(1000) NULL,
+    created_at          DATETIME     NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+CREATE INDEX idx_s3_delete_job_claim ON s3_delete_jobs (next_attempt_at);
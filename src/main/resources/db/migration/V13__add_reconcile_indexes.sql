@@ -0,0 +1,3 @@
+-- 업로드 정리 작업 : 오래된 PENDING 파일을 id 커서로 조회, S3 목록의 키가 삭제 대기 중인지 확인
+CREATE INDEX idx_uploaded_file_status ON uploaded_files (status, id);
+CREATE INDEX idx_s3_delete_job_key ON s3_delete_jobs (s3_key);
@@ -0,0 +1,3 @@
+-- 임대가 만료된 RUNNING 작업 선점(claim 의 두 번째 조건)과 완료 시 임대 확인용
+-- claim 은 (status, next_attempt_at) 인덱스와 합쳐 index merge 로 조회
+CREATE INDEX idx_ocr_job_lease ON ocr_jobs (status, locked_until);
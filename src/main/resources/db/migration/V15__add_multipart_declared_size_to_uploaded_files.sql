@@ -0,0 +1,4 @@
+-- 브라우저 멀티파트 업로드 : 시작 때 선언한 크기와 파트 수 (파트 번호 상한, 완료 후 크기 확인)
+ALTER TABLE uploaded_files
+    ADD COLUMN declared_size BIGINT NULL,
+    ADD COLUMN part_count INT NULL;
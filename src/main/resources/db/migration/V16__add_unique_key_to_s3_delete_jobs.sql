@@ -0,0 +1,6 @@
+-- 여러 인스턴스의 정리 작업/동시 삭제 요청이 같은 키를 중복 등록하지 않도록 s3_key 유니크
+-- 등록은 ON DUPLICATE KEY 로 이미 있는 키를 무시, 기존 중복은 가장 먼저 등록된 행만 남김
+DELETE j FROM s3_delete_jobs j
+JOIN s3_delete_jobs k ON j.s3_key = k.s3_key AND j.id > k.id;
+
+CREATE UNIQUE INDEX uk_s3_delete_job_key ON s3_delete_jobs (s3_key);
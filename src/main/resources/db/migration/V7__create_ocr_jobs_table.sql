@@ -0,0 +1,16 @@
+-- OCR/인덱싱 작업 outbox : 파일 저장과 같은 트랜잭션에서 기록, 워커가 SKIP LOCKED 로 가져가 처리
+CREATE TABLE ocr_jobs (
+    id                  BIGINT AUTO_INCREMENT PRIMARY KEY,
+    file_id             BIGINT       NOT NULL,
+    user_id             BIGINT       NOT NULL,
+    s3_key              VARCHAR(512) NOT NULL,
+    status              VARCHAR(20)  NOT NULL,
+    attempts            INT          NOT NULL DEFAULT 0,
+    next_attempt_at     DATETIME(6)  NOT NULL,
+    locked_until        DATETIME(6)  NULL,
+    last_error          VARCHAR(1000) NULL,
+    created_at          DATETIME     NOT NULL,
+    CONSTRAINT fk_ocr_job_file FOREIGN KEY (file_id) REFERENCES uploaded_files (id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+CREATE INDEX idx_ocr_job_claim ON ocr_jobs (status, next_attempt_at);
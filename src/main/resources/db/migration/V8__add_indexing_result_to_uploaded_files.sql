@@ -0,0 +1,6 @@
+-- FastAPI 인덱싱 완료 콜백 결과
+ALTER TABLE uploaded_files
+ADD COLUMN page_count      INT           NULL,
+ADD COLUMN chunk_count     INT           NULL,
+ADD COLUMN indexed_at      DATETIME(6)   NULL,
+ADD COLUMN failure_reason  VARCHAR(1000) NULL;
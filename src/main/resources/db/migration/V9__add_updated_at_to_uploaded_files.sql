@@ -0,0 +1,10 @@
+-- 델타 동기화(/sync) : 파일은 상태가 바뀌므로 변경 시각 + id 로 커서 진행
+ALTER TABLE uploaded_files
+ADD COLUMN updated_at DATETIME(6) NULL;
+
+UPDATE uploaded_files SET updated_at = created_at;
+
+ALTER TABLE uploaded_files
+MODIFY COLUMN updated_at DATETIME(6) NOT NULL;
+
+CREATE INDEX idx_uploaded_file_sync ON uploaded_files (user_id, updated_at, id);
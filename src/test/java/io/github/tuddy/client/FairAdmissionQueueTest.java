@@ -0,0 +1,68 @@
+package io.github.tuddy.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+
+import io.github.tuddy.entity.user.UserRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class FairAdmissionQueueTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @DisplayName("요청을 많이 쌓은 사용자가 있어도 사용자 간 번갈아 입장")
+    @Test
+    void 사용자별_라운드로빈() throws Exception {
+        FairAdmissionQueue queue = queue(1, Duration.ofSeconds(5));
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> threads = new ArrayList<>();
+
+        queue.acquire(0L, UserRole.USER); // 자리를 점유해 대기열을 만듦
+        threads.add(enqueue(queue, 1L, "A", order, 1));
+        threads.add(enqueue(queue, 1L, "A", order, 2));
+        threads.add(enqueue(queue, 1L, "A", order, 3));
+        threads.add(enqueue(queue, 2L, "B", order, 4));
+
+        queue.release();
+        for (Thread t : threads) {
+            t.join(5000);
+        }
+
+        assertThat(order).containsExactly("A", "B", "A", "A");
+        assertThat(queue.queued()).isZero();
+    }
+
+    @DisplayName("대기 시간 초과 시 거절하고 대기열에서 제거")
+    @Test
+    void 대기_시간_초과() {
+        FairAdmissionQueue queue = queue(1, Duration.ofMillis(50));
+        queue.acquire(0L, UserRole.USER);
+
+        assertThatThrownBy(() -> queue.call(1L, UserRole.USER, () -> "unused"))
+                .isInstanceOf(TaskRejectedException.class);
+        assertThat(queue.queued()).isZero();
+        assertThat(registry.counter("rag.fairqueue.rejected", "reason", "timeout").count()).isEqualTo(1.0);
+    }
+
+    private Thread enqueue(FairAdmissionQueue queue, Long userId, String label, List<String> order, int expectedQueued)
+            throws InterruptedException {
+        Thread t = Thread.ofVirtual().start(() -> queue.call(userId, UserRole.USER, () -> order.add(label)));
+        while (queue.queued() < expectedQueued) {
+            Thread.sleep(5);
+        }
+        return t;
+    }
+
+    private FairAdmissionQueue queue(int concurrency, Duration timeout) {
+        return new FairAdmissionQueue(true, concurrency, 16, timeout, 1, 2, registry);
+    }
+}
@@ -0,0 +1,120 @@
+package io.github.tuddy.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class HedgingExecutorTest {
+
+    private RagRouteTimeouts timeouts;
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        timeouts = new RagRouteTimeouts("/rag/chat", "/normal/chat", "/ocr",
+                Duration.ofSeconds(60), Duration.ofSeconds(30), Duration.ofSeconds(90), Duration.ofMinutes(10),
+                false, 0.99, 3.0, Duration.ofSeconds(5), 100, 1000);
+        // 평소 응답 50ms
+        for (int i = 0; i < 100; i++) {
+            timeouts.record(RagRoute.NORMAL, 50);
+        }
+        registry = new SimpleMeterRegistry();
+    }
+
+    private HedgingExecutor create(double budgetPercent) {
+        return new HedgingExecutor(true, List.of("normal"), 0.95, Duration.ofMillis(50), 50, budgetPercent,
+                timeouts, registry);
+    }
+
+    @DisplayName("첫 요청이 느리면 hedge 요청의 응답을 사용")
+    @Test
+    void 느린_요청_hedge_승리() {
+        HedgingExecutor hedging = create(100);
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = hedging.execute(RagRoute.NORMAL, () -> {
+            if (calls.incrementAndGet() == 1) {
+                sleep(2000);
+                return "slow";
+            }
+            return "fast";
+        });
+
+        assertThat(result).isEqualTo("fast");
+        assertThat(registry.counter("rag.hedge.fired", "route", "normal").count()).isEqualTo(1.0);
+        assertThat(registry.counter("rag.hedge.won", "route", "normal").count()).isEqualTo(1.0);
+    }
+
+    @DisplayName("hedge 요청이 실패하면 원 요청의 응답을 기다림")
+    @Test
+    void hedge_실패시_원_요청_사용() {
+        HedgingExecutor hedging = create(100);
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = hedging.execute(RagRoute.NORMAL, () -> {
+            if (calls.incrementAndGet() == 1) {
+                sleep(300);
+                return "slow";
+            }
+            throw new IllegalStateException("503");
+        });
+
+        assertThat(result).isEqualTo("slow");
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @DisplayName("지연 기준 안에 응답하면 hedge 하지 않음")
+    @Test
+    void 빠른_요청_hedge_없음() {
+        HedgingExecutor hedging = create(100);
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = hedging.execute(RagRoute.NORMAL, () -> {
+            calls.incrementAndGet();
+            return "ok";
+        });
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @DisplayName("예산이 없으면 hedge 하지 않고 원 요청을 기다림")
+    @Test
+    void 예산_소진시_hedge_없음() {
+        HedgingExecutor hedging = create(0);
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = hedging.execute(RagRoute.NORMAL, () -> {
+            calls.incrementAndGet();
+            sleep(200);
+            return "slow";
+        });
+
+        assertThat(result).isEqualTo("slow");
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(registry.counter("rag.hedge.budget_exhausted", "route", "normal").count()).isEqualTo(1.0);
+    }
+
+    @DisplayName("대상 경로가 아니면 그대로 실행")
+    @Test
+    void 대상_아닌_경로_직접_실행() {
+        HedgingExecutor hedging = create(100);
+        assertThat(hedging.execute(RagRoute.OCR, () -> "direct")).isEqualTo("direct");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.tuddy.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RagReplicaPoolTest {
+
+    private static final String URLS = "http://rag-1:8000, http://rag-2:8000/, http://rag-3:8000";
+
+    private RagReplicaPool create(String strategy) {
+        return new RagReplicaPool(URLS, strategy, 1.25, 3, Duration.ofSeconds(30), new SimpleMeterRegistry());
+    }
+
+    @DisplayName("least-outstanding : 진행 중 요청이 가장 적은 레플리카 선택")
+    @Test
+    void least_outstanding_선택() {
+        RagReplicaPool pool = create("least-outstanding");
+        RagReplica r1 = pool.getReplicas().get(0);
+        RagReplica r3 = pool.getReplicas().get(2);
+
+        r1.acquire();
+        r1.acquire();
+        r3.acquire();
+
+        assertThat(pool.choose(null)).isSameAs(pool.getReplicas().get(1));
+        assertThat(pool.primaryBaseUrl()).isEqualTo("http://rag-1:8000");
+    }
+
+    @DisplayName("session-affinity : 같은 세션은 같은 레플리카, 과부하 시 다음 레플리카로")
+    @Test
+    void session_affinity_bounded_load() {
+        RagReplicaPool pool = create("session-affinity");
+
+        RagReplica first = pool.choose("session-42");
+        for (int i = 0; i < 10; i++) {
+            assertThat(pool.choose("session-42")).isSameAs(first);
+        }
+
+        // 해당 레플리카에 요청이 몰리면 다른 레플리카로 넘김
+        for (int i = 0; i < 5; i++) {
+            first.acquire();
+        }
+        assertThat(pool.choose("session-42")).isNotSameAs(first);
+    }
+
+    @DisplayName("연속 실패 시 격리되고, 성공하면 실패 횟수 초기화")
+    @Test
+    void passive_ejection() {
+        RagReplicaPool pool = create("least-outstanding");
+        RagReplica r1 = pool.getReplicas().get(0);
+
+        pool.onFailure(r1);
+        pool.onFailure(r1);
+        assertThat(r1.isEjected(System.currentTimeMillis())).isFalse();
+
+        pool.onFailure(r1);
+        assertThat(r1.isEjected(System.currentTimeMillis())).isTrue();
+        for (int i = 0; i < 20; i++) {
+            assertThat(pool.choose(null)).isNotSameAs(r1);
+        }
+
+        pool.onSuccess(r1, 1_000_000);
+        assertThat(r1.getConsecutiveFailures()).isZero();
+    }
+}
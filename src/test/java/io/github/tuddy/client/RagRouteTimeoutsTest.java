@@ -0,0 +1,106 @@
+package io.github.tuddy.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RagRouteTimeoutsTest {
+
+    private RagRouteTimeouts create(boolean adaptive) {
+        return new RagRouteTimeouts("/rag/chat", "/normal/chat", "/rag/vectordb/ocr-and-add-from-s3",
+                Duration.ofSeconds(60), Duration.ofSeconds(30), Duration.ofSeconds(90), Duration.ofMinutes(10),
+                adaptive, 0.99, 3.0, Duration.ofSeconds(5), 100, 1000);
+    }
+
+    @DisplayName("경로별 분류 및 설정 타임아웃 적용")
+    @Test
+    void 경로별_타임아웃_적용() {
+        RagRouteTimeouts timeouts = create(false);
+
+        assertThat(timeouts.resolve("/normal/chat")).isEqualTo(RagRoute.NORMAL);
+        assertThat(timeouts.resolve("/api/rag/chat")).isEqualTo(RagRoute.RAG);
+        assertThat(timeouts.resolve("/rag/vectordb/ocr-and-add-from-s3")).isEqualTo(RagRoute.OCR);
+        assertThat(timeouts.resolve("/")).isEqualTo(RagRoute.DEFAULT);
+
+        assertThat(timeouts.timeoutFor(RagRoute.NORMAL)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(timeouts.timeoutFor(RagRoute.OCR)).isEqualTo(Duration.ofMinutes(10));
+    }
+
+    @DisplayName("adaptive 모드 : p99 x factor 로 단축, 최소값 이하로는 내려가지 않음")
+    @Test
+    void adaptive_모드_타임아웃_단축() {
+        RagRouteTimeouts timeouts = create(true);
+
+        // Given : 1초 응답 200건
+        for (int i = 0; i < 200; i++) {
+            timeouts.record(RagRoute.NORMAL, 1000);
+        }
+
+        // Then : 1s x 3 = 3s 이지만 최소 5s 로 고정
+        assertThat(timeouts.timeoutFor(RagRoute.NORMAL)).isEqualTo(Duration.ofSeconds(5));
+
+        // Given : 8초 응답이 윈도우를 채우면 24s 로 증가
+        for (int i = 0; i < 1000; i++) {
+            timeouts.record(RagRoute.NORMAL, 8000);
+        }
+        assertThat(timeouts.timeoutFor(RagRoute.NORMAL)).isEqualTo(Duration.ofSeconds(24));
+
+        // 다른 경로는 영향 없음
+        assertThat(timeouts.timeoutFor(RagRoute.OCR)).isEqualTo(Duration.ofMinutes(10));
+    }
+
+    @DisplayName("adaptive 모드 : 설정값을 넘지 않음")
+    @Test
+    void adaptive_모드_설정값_상한() {
+        RagRouteTimeouts timeouts = create(true);
+
+        for (int i = 0; i < 200; i++) {
+            timeouts.record(RagRoute.NORMAL, 20_000);
+        }
+
+        assertThat(timeouts.timeoutFor(RagRoute.NORMAL)).isEqualTo(Duration.ofSeconds(30));
+    }
+
+    @DisplayName("adaptive 모드 : 단축 후 지연이 늘어 타임아웃이 나면 다시 늘어남")
+    @Test
+    void adaptive_모드_타임아웃_회복() {
+        RagRouteTimeouts timeouts = create(true);
+
+        // Given : 1초 응답 200건 -> 최소 5s 까지 단축
+        for (int i = 0; i < 200; i++) {
+            timeouts.record(RagRoute.NORMAL, 1000);
+        }
+        assertThat(timeouts.timeoutFor(RagRoute.NORMAL)).isEqualTo(Duration.ofSeconds(5));
+
+        // When : 응답이 8초로 늘어 5s 에서 타임아웃 20건 -> p99 가 5s 에 닿아 15s 로 증가
+        for (int i = 0; i < 20; i++) {
+            timeouts.recordTimeout(RagRoute.NORMAL);
+        }
+        assertThat(timeouts.timeoutFor(RagRoute.NORMAL)).isEqualTo(Duration.ofSeconds(15));
+
+        // Then : 이제 8초 응답이 성공하고 윈도우를 채우면 24s
+        for (int i = 0; i < 1000; i++) {
+            timeouts.record(RagRoute.NORMAL, 8000);
+        }
+        assertThat(timeouts.timeoutFor(RagRoute.NORMAL)).isEqualTo(Duration.ofSeconds(24));
+    }
+
+    @DisplayName("adaptive 모드 : 타임아웃이 계속되면 설정값까지 회복")
+    @Test
+    void adaptive_모드_설정값까지_회복() {
+        RagRouteTimeouts timeouts = create(true);
+        for (int i = 0; i < 200; i++) {
+            timeouts.record(RagRoute.NORMAL, 1000);
+        }
+
+        // 5s -> 15s -> 30s(상한)
+        for (int i = 0; i < 40; i++) {
+            timeouts.recordTimeout(RagRoute.NORMAL);
+        }
+
+        assertThat(timeouts.timeoutFor(RagRoute.NORMAL)).isEqualTo(Duration.ofSeconds(30));
+    }
+}
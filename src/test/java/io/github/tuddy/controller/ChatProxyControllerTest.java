@@ -4,10 +4,13 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.nio.charset.StandardCharsets;
@@ -27,10 +30,13 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.github.tuddy.config.SecurityConfig;
+import io.github.tuddy.dto.ChatBatchRequest;
+import io.github.tuddy.dto.ChatBatchResult;
 import io.github.tuddy.dto.ChatMessageResponse;
 import io.github.tuddy.dto.ChatProxyRequest;
 import io.github.tuddy.dto.ChatProxyResponse;
@@ -41,9 +47,12 @@ import io.github.tuddy.security.jwt.JwtTokenProvider;
 import io.github.tuddy.security.oauth.CustomOAuth2UserService;
 import io.github.tuddy.security.oauth.OAuth2LoginSuccessHandler;
 import io.github.tuddy.service.ChatService;
+import io.github.tuddy.web.Bulkheads;
+import io.github.tuddy.web.RateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @WebMvcTest(ChatProxyController.class)
-@Import(SecurityConfig.class)
+@Import({SecurityConfig.class, Bulkheads.class, RateLimiter.class, SimpleMeterRegistry.class})
 @ActiveProfiles("test")
 class ChatProxyControllerTest {
 
@@ -76,13 +85,17 @@ class ChatProxyControllerTest {
         MockMultipartFile reqPart = createJsonPart("req", requestDto);
 
         // [수정] 파일 파트가 없는 경우 null이 넘어올 수 있으므로 anyList() 대신 any() 사용
-        given(chatService.processChat(eq(1L), any(ChatProxyRequest.class), any()))
+        given(chatService.processChat(eq(1L), any(ChatProxyRequest.class), any(), eq(false)))
             .willReturn(responseDto);
 
-        // When & Then
-        mvc.perform(multipart("/chat")
+        // When & Then : chat 레인에서 비동기 처리
+        MvcResult started = mvc.perform(multipart("/chat")
                         .file(reqPart)
                         .with(csrf()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(started))
                 .andExpect(status().isOk())
                 .andExpect(content().json(createJson(responseDto)));
     }
@@ -97,17 +110,46 @@ class ChatProxyControllerTest {
         MockMultipartFile reqPart = createJsonPart("req", requestDto);
         MockMultipartFile imageFile = new MockMultipartFile("files", "test-image.jpg", "image/jpeg", "image_content".getBytes());
 
-        given(chatService.processChat(eq(1L), any(ChatProxyRequest.class), any()))
+        // originalImages=true : 이미지 축소 없이 원본 중계
+        given(chatService.processChat(eq(1L), any(ChatProxyRequest.class), any(), eq(true)))
             .willReturn(responseDto);
 
-        mvc.perform(multipart("/chat")
+        MvcResult started = mvc.perform(multipart("/chat")
                         .file(reqPart)
                         .file(imageFile)
+                        .param("originalImages", "true")
                         .with(csrf()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(started))
                 .andExpect(status().isOk())
                 .andExpect(content().json(createJson(responseDto)));
     }
 
+    @DisplayName("2-1. 배치 채팅 : 요청 순서대로 결과 반환")
+    @Test
+    @WithMockAuthUser(id = 1L)
+    void 배치_채팅_성공() throws Exception {
+        var batch = new ChatBatchRequest(List.of(
+                new ChatProxyRequest(1L, "문제 1", 0L),
+                new ChatProxyRequest(1L, "문제 2", 0L)));
+        var results = List.of(ChatBatchResult.ok(0, 1L, "답변 1"), ChatBatchResult.ok(1, 1L, "답변 2"));
+
+        given(chatService.processBatch(eq(1L), any())).willReturn(results);
+
+        MvcResult started = mvc.perform(post("/chat/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(createJson(batch))
+                        .with(csrf()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().json(createJson(results)));
+    }
+
     @DisplayName("3. 내 채팅 세션 목록 조회 성공")
     @Test
     @WithMockAuthUser
@@ -124,7 +166,7 @@ class ChatProxyControllerTest {
     @Test
     @WithMockAuthUser(id = 1L)
     void 특정_채팅_메시지_조회_성공_페이징() throws Exception {
-        var messageResponse = new ChatMessageResponse(10L, SenderType.USER, "안녕하세요", LocalDateTime.now());
+        var messageResponse = new ChatMessageResponse(10L, SenderType.USER, "안녕하세요", LocalDateTime.now(), null);
         var slice = new SliceImpl<>(List.of(messageResponse));
 
         given(chatService.getMessagesBySession(eq(1L), eq(1L), any()))
@@ -1,12 +1,19 @@
 package io.github.tuddy.controller;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -15,14 +22,20 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import io.github.tuddy.dto.UploadedFileResponse;
+import io.github.tuddy.entity.file.FileStatus;
 import io.github.tuddy.security.WithMockAuthUser;
 import io.github.tuddy.service.FileService;
+import io.github.tuddy.web.Bulkheads;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @WebMvcTest(FileController.class)
+@Import({Bulkheads.class, SimpleMeterRegistry.class})
 @ActiveProfiles("test")
 class FileControllerTest {
 
@@ -37,7 +50,7 @@ class FileControllerTest {
     @WithMockAuthUser(id = 1L)
     void 내_파일목록_조회_API_성공() throws Exception {
         // Given
-        var fileResponse = new UploadedFileResponse(1L, "report.pdf", LocalDateTime.now());
+        var fileResponse = new UploadedFileResponse(1L, "report.pdf", FileStatus.COMPLETED, LocalDateTime.now());
         given(fileService.getMyFiles(1L)).willReturn(List.of(fileResponse));
 
         // When & Then
@@ -62,4 +75,28 @@ class FileControllerTest {
                         .with(csrf()))
                 .andExpect(status().isNoContent()); // 204 No Content 응답 확인
     }
-}
\ No newline at end of file
+
+    @DisplayName("스트리밍 업로드 API : 본문을 그대로 서비스로 전달하고 201 응답")
+    @Test
+    @WithMockAuthUser(id = 1L)
+    void 스트리밍_업로드_API_성공() throws Exception {
+        // Given
+        var fileResponse = new UploadedFileResponse(7L, "lecture.pdf", FileStatus.PROCESSING, LocalDateTime.now());
+        given(fileService.uploadStream(eq(1L), eq("lecture.pdf"), eq("application/pdf"), eq(3L), isNull(), any(InputStream.class)))
+                .willReturn(fileResponse);
+
+        // When & Then
+        MvcResult started = mvc.perform(post("/files/stream")
+                        .param("filename", "lecture.pdf")
+                        .contentType("application/pdf")
+                        .content(new byte[] {1, 2, 3})
+                        .with(csrf()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(started))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(7L))
+                .andExpect(jsonPath("$.status").value("PROCESSING"));
+    }
+}
@@ -0,0 +1,74 @@
+package io.github.tuddy.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import io.github.tuddy.dto.OcrCallbackRequest;
+import io.github.tuddy.service.IndexingCallbackService;
+
+class InternalCallbackControllerTest {
+
+    private static final String BODY = "{\"file_key\":\"raw/1/a.pdf\",\"status\":\"completed\"}";
+
+    private IndexingCallbackService indexingCallbackService;
+
+    @BeforeEach
+    void setUp() {
+        indexingCallbackService = mock(IndexingCallbackService.class);
+    }
+
+    private MockMvc mvc(String configuredToken) {
+        return MockMvcBuilders.standaloneSetup(new InternalCallbackController(indexingCallbackService, configuredToken)).build();
+    }
+
+    private MockHttpServletRequestBuilder callback() {
+        return post("/internal/ocr/callback").contentType(MediaType.APPLICATION_JSON).content(BODY);
+    }
+
+    @DisplayName("토큰이 맞으면 콜백 반영 후 204")
+    @Test
+    void 토큰_일치() throws Exception {
+        mvc("secret").perform(callback().header(InternalCallbackController.TOKEN_HEADER, "secret"))
+                .andExpect(status().isNoContent());
+
+        verify(indexingCallbackService).apply(any(OcrCallbackRequest.class));
+    }
+
+    @DisplayName("토큰 헤더가 없으면 401")
+    @Test
+    void 토큰_없음() throws Exception {
+        mvc("secret").perform(callback()).andExpect(status().isUnauthorized());
+
+        verify(indexingCallbackService, never()).apply(any());
+    }
+
+    @DisplayName("토큰이 다르면 401")
+    @Test
+    void 토큰_불일치() throws Exception {
+        mvc("secret").perform(callback().header(InternalCallbackController.TOKEN_HEADER, "secret2"))
+                .andExpect(status().isUnauthorized());
+
+        verify(indexingCallbackService, never()).apply(any());
+    }
+
+    @DisplayName("서버 토큰이 설정되지 않았으면 빈 헤더를 보내도 401")
+    @Test
+    void 서버_토큰_미설정() throws Exception {
+        mvc("").perform(callback().header(InternalCallbackController.TOKEN_HEADER, ""))
+                .andExpect(status().isUnauthorized());
+
+        verify(indexingCallbackService, never()).apply(any());
+    }
+}
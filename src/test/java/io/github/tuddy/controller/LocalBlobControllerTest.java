@@ -0,0 +1,89 @@
+package io.github.tuddy.controller;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import io.github.tuddy.service.LocalBlobStore;
+
+class LocalBlobControllerTest {
+
+    @TempDir
+    Path dir;
+
+    private LocalBlobStore store;
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        store = new LocalBlobStore(dir.toString(), "http://localhost", "secret", 8, 1024);
+        mvc = MockMvcBuilders.standaloneSetup(new LocalBlobController(store)).build();
+    }
+
+    @DisplayName("PDF/이미지는 저장된 형식으로 inline 응답")
+    @Test
+    void PDF_inline() throws Exception {
+        put("raw/1/a.pdf", "application/pdf", "%PDF");
+
+        download("raw/1/a.pdf")
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/pdf"))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_DISPOSITION))
+                .andExpect(content().string("%PDF"));
+    }
+
+    @DisplayName("Content-Type 은 파일 이름 확장자가 아니라 저장된 값, PDF/이미지가 아니면 attachment")
+    @Test
+    void 확장자_무시_attachment() throws Exception {
+        put("raw/1/page.html", "application/vnd.openxmlformats-officedocument.wordprocessingml.document", "<script>");
+
+        download("raw/1/page.html")
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE,
+                        "application/vnd.openxmlformats-officedocument.wordprocessingml.document"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, startsWith("attachment;")))
+                .andExpect(header().string("X-Content-Type-Options", "nosniff"));
+    }
+
+    @DisplayName("형식이 저장되지 않은 파일은 octet-stream attachment")
+    @Test
+    void 형식_없음() throws Exception {
+        Path file = store.resolve("raw/1/note.svg");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, "<svg onload=alert(1)>");
+
+        download("raw/1/note.svg")
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/octet-stream"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, startsWith("attachment;")));
+    }
+
+    private void put(String key, String contentType, String content) throws IOException {
+        store.put(key, contentType, new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), content.length());
+    }
+
+    // 서명 URL 의 쿼리를 그대로 사용
+    private ResultActions download(String key) throws Exception {
+        URI url = URI.create(store.presignGet(key, Duration.ofMinutes(5), null).url());
+        return mvc.perform(get(URI.create(url.getRawPath() + "?" + url.getRawQuery())));
+    }
+}
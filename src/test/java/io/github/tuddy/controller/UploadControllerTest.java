@@ -31,9 +31,11 @@ import io.github.tuddy.security.oauth.CustomOAuth2UserService;
 import io.github.tuddy.security.oauth.OAuth2LoginSuccessHandler;
 import io.github.tuddy.service.FileService;
 import io.github.tuddy.service.S3Service;
+import io.github.tuddy.web.RateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @WebMvcTest(UploadController.class)
-@Import(SecurityConfig.class)
+@Import({SecurityConfig.class, RateLimiter.class, SimpleMeterRegistry.class})
 @ActiveProfiles("test")
 class UploadControllerTest {
 
@@ -6,6 +6,9 @@ import static org.springframework.test.web.client.match.MockRestRequestMatchers.
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
 
+import java.time.Duration;
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,6 +17,8 @@ import org.springframework.http.HttpMethod;
 import org.springframework.test.web.client.MockRestServiceServer;
 import org.springframework.web.client.RestClient;
 
+import io.github.tuddy.client.HedgingExecutor;
+
 class FastApiHealthIndicatorTest {
 
     private MockRestServiceServer server;
@@ -23,7 +28,8 @@ class FastApiHealthIndicatorTest {
     void setUp() {
         var builder = RestClient.builder().baseUrl("http://fast-api:8000");
         server = MockRestServiceServer.bindTo(builder).build();
-        healthIndicator = new FastApiHealthIndicator(builder.build());
+        healthIndicator = new FastApiHealthIndicator(builder.build(),
+                new HedgingExecutor(false, List.of(), 0.95, Duration.ZERO, 0, 0, null, null));
     }
 
     @DisplayName("FastAPI 정상 응답시 UP")
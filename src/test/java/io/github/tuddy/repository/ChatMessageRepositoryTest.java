@@ -0,0 +1,79 @@
+package io.github.tuddy.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.github.tuddy.dto.ChatMessageResponse;
+import io.github.tuddy.entity.chat.ChatMessage;
+import io.github.tuddy.entity.chat.ChatSession;
+import io.github.tuddy.entity.chat.SenderType;
+import io.github.tuddy.entity.file.FileStatus;
+import io.github.tuddy.entity.file.UploadedFile;
+import io.github.tuddy.entity.user.AuthProvider;
+import io.github.tuddy.entity.user.UserAccount;
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class ChatMessageRepositoryTest {
+
+    @Autowired private TestEntityManager em;
+    @Autowired private EntityManagerFactory emf;
+    @Autowired private ChatMessageRepository messageRepository;
+
+    private Long sessionId;
+
+    @BeforeEach
+    void setUp() {
+        UserAccount user = em.persist(UserAccount.builder().loginId("tester").displayName("테스터")
+                .provider(AuthProvider.LOCAL).build());
+        ChatSession session = em.persist(ChatSession.builder().userAccount(user).title("s").build());
+        sessionId = session.getId();
+
+        // 메시지마다 서로 다른 파일 첨부 (N+1 이면 파일 수만큼 추가 쿼리 발생)
+        for (int i = 0; i < 30; i++) {
+            UploadedFile file = i % 2 == 0
+                    ? em.persist(UploadedFile.builder().userAccount(user).originalFilename("f" + i + ".pdf")
+                            .s3Key("raw/1/f" + i).status(FileStatus.COMPLETED).build())
+                    : null;
+            em.persist(ChatMessage.builder().session(session).senderType(SenderType.USER)
+                    .content("q" + i).uploadedFile(file).build());
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @DisplayName("메시지 목록 조회 시 첨부 파일 정보까지 페이지 크기와 무관하게 쿼리 1회")
+    @Test
+    void 첨부파일_포함_목록_쿼리수_고정() {
+        assertThat(statementsFor(5)).isEqualTo(1);
+        assertThat(statementsFor(20)).isEqualTo(1);
+    }
+
+    private long statementsFor(int pageSize) {
+        em.clear();
+        Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+
+        List<ChatMessageResponse> page = messageRepository
+                .findAllBySessionIdOrderByCreatedAtDesc(sessionId, PageRequest.of(0, pageSize))
+                .map(ChatMessageResponse::from).getContent();
+
+        assertThat(page).hasSize(pageSize);
+        assertThat(page).filteredOn(m -> m.attachment() != null)
+                .allSatisfy(m -> assertThat(m.attachment().originalFilename()).endsWith(".pdf"));
+        return stats.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.tuddy.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.github.tuddy.entity.file.OcrJob;
+import io.github.tuddy.entity.file.OcrJobStatus;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class OcrJobRepositoryTest {
+
+    private static final LocalDateTime LEASE = LocalDateTime.of(2026, 1, 1, 0, 15, 0, 123_456_000);
+
+    @Autowired private TestEntityManager em;
+    @Autowired private OcrJobRepository ocrJobRepository;
+
+    @DisplayName("완료 반영 전 임대 확인 : 선점 때 받은 임대 시각이 그대로인 RUNNING 작업만 조회")
+    @Test
+    void 임대_유지_작업만_조회() {
+        Long held = persist(OcrJobStatus.RUNNING, LEASE);
+        Long reclaimed = persist(OcrJobStatus.RUNNING, LEASE.plusMinutes(15)); // 다른 워커가 다시 선점
+        Long finished = persist(OcrJobStatus.DONE, null);
+        em.flush();
+        em.clear();
+
+        List<OcrJob> leased = ocrJobRepository.findLeased(List.of(held, reclaimed, finished), OcrJobStatus.RUNNING, LEASE);
+
+        assertThat(leased).extracting(OcrJob::getId).containsExactly(held);
+    }
+
+    @DisplayName("되돌리기 : 임대가 그대로인 RUNNING 작업만 PENDING 으로, 시도 횟수 원복")
+    @Test
+    void 선점_되돌리기() {
+        Long held = persist(OcrJobStatus.RUNNING, LEASE);
+        Long reclaimed = persist(OcrJobStatus.RUNNING, LEASE.plusMinutes(15));
+        em.flush();
+        em.clear();
+
+        int released = ocrJobRepository.release(List.of(held, reclaimed), LEASE);
+
+        assertThat(released).isEqualTo(1);
+        OcrJob job = ocrJobRepository.findById(held).orElseThrow();
+        assertThat(job.getStatus()).isEqualTo(OcrJobStatus.PENDING);
+        assertThat(job.getLockedUntil()).isNull();
+        assertThat(job.getAttempts()).isZero();
+        assertThat(ocrJobRepository.findById(reclaimed).orElseThrow().getStatus()).isEqualTo(OcrJobStatus.RUNNING);
+    }
+
+    private Long persist(OcrJobStatus status, LocalDateTime lockedUntil) {
+        return em.persist(OcrJob.builder().fileId(1L).userId(1L).s3Key("raw/1/a.pdf")
+                .status(status).attempts(1).lockedUntil(lockedUntil).build()).getId();
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.tuddy.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.github.tuddy.entity.file.S3DeleteJob;
+
+// ON DUPLICATE KEY 는 MySQL 문법이라 내장 DB 로 바꾸지 않고 test 프로필의 H2(MODE=MySQL) 사용
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@ActiveProfiles("test")
+class S3DeleteJobRepositoryTest {
+
+    @Autowired private TestEntityManager em;
+    @Autowired private S3DeleteJobRepository deleteJobRepository;
+
+    @DisplayName("삭제 대기 등록 : 이미 등록된 키는 무시하고 키당 한 행만 유지")
+    @Test
+    void 중복_키_무시() {
+        deleteJobRepository.enqueue(List.of("raw/1/a.pdf", "raw/1/b.pdf"));
+        // 다른 인스턴스의 정리 작업이 같은 키를 다시 등록
+        deleteJobRepository.enqueue(List.of("raw/1/b.pdf", "raw/1/c.pdf"));
+        em.clear();
+
+        List<S3DeleteJob> jobs = deleteJobRepository.findAll();
+
+        assertThat(jobs).extracting(S3DeleteJob::getS3Key)
+                .containsExactlyInAnyOrder("raw/1/a.pdf", "raw/1/b.pdf", "raw/1/c.pdf");
+        assertThat(jobs).allSatisfy(j -> {
+            assertThat(j.getAttempts()).isZero();
+            assertThat(j.getNextAttemptAt()).isNotNull();
+        });
+    }
+}
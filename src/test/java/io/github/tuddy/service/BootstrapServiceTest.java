@@ -0,0 +1,98 @@
+package io.github.tuddy.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.github.tuddy.dto.BootstrapResponse;
+import io.github.tuddy.entity.chat.ChatSession;
+import io.github.tuddy.entity.file.FileStatus;
+import io.github.tuddy.entity.file.UploadedFile;
+import io.github.tuddy.entity.user.AuthProvider;
+import io.github.tuddy.entity.user.UserAccount;
+import io.github.tuddy.entity.user.UserRole;
+import io.github.tuddy.repository.ChatSessionRepository;
+import io.github.tuddy.repository.UploadedFileRepository;
+import io.github.tuddy.repository.UserAccountRepository;
+
+@ExtendWith(MockitoExtension.class)
+class BootstrapServiceTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Mock private UserAccountRepository userAccountRepository;
+    @Mock private ChatSessionRepository sessionRepository;
+    @Mock private UploadedFileRepository uploadedFileRepository;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private BootstrapService bootstrapService;
+    private final UserAccount user = UserAccount.builder().id(USER_ID).displayName("테스터").loginId("tester")
+            .provider(AuthProvider.LOCAL).role(UserRole.USER).build();
+
+    @BeforeEach
+    void setUp() {
+        bootstrapService = new BootstrapService(userAccountRepository, sessionRepository, uploadedFileRepository,
+                transactionManager, 20, 10);
+    }
+
+    @DisplayName("내 정보, 최근 채팅방, 최근 파일을 한 응답으로 반환")
+    @Test
+    void 첫화면_데이터_조회() {
+        given(userAccountRepository.findById(USER_ID)).willReturn(Optional.of(user));
+        given(sessionRepository.findAllByUserAccountIdOrderByCreatedAtDesc(eq(USER_ID), any(Limit.class)))
+                .willReturn(List.of(ChatSession.builder().id(3L).title("s").createdAt(LocalDateTime.now()).build()));
+        given(uploadedFileRepository.findAllByUserAccountIdOrderByCreatedAtDesc(eq(USER_ID), any(Limit.class)))
+                .willReturn(List.of(UploadedFile.builder().id(9L).originalFilename("a.pdf").status(FileStatus.COMPLETED).build()));
+
+        BootstrapResponse res = bootstrapService.load(USER_ID);
+
+        assertThat(res.me().loginId()).isEqualTo("tester");
+        assertThat(res.sessions()).extracting("id").containsExactly(3L);
+        assertThat(res.files()).extracting("id").containsExactly(9L);
+    }
+
+    @DisplayName("사용자가 없으면 원래 예외(AccessDenied)를 그대로 전달")
+    @Test
+    void 사용자_없음() {
+        given(userAccountRepository.findById(USER_ID)).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> bootstrapService.load(USER_ID)).isInstanceOf(AccessDeniedException.class);
+    }
+
+    @DisplayName("세 조회를 동시에 실행 (셋 다 시작해야 통과하는 barrier, 순차 실행이면 시간 초과)")
+    @Test
+    void 세_조회_동시_실행() {
+        CyclicBarrier barrier = new CyclicBarrier(3);
+        given(userAccountRepository.findById(USER_ID)).willAnswer(inv -> { await(barrier); return Optional.of(user); });
+        given(sessionRepository.findAllByUserAccountIdOrderByCreatedAtDesc(eq(USER_ID), any(Limit.class)))
+                .willAnswer(inv -> { await(barrier); return List.of(); });
+        given(uploadedFileRepository.findAllByUserAccountIdOrderByCreatedAtDesc(eq(USER_ID), any(Limit.class)))
+                .willAnswer(inv -> { await(barrier); return List.of(); });
+
+        BootstrapResponse res = bootstrapService.load(USER_ID);
+
+        assertThat(res.me().loginId()).isEqualTo("tester");
+    }
+
+    private static void await(CyclicBarrier barrier) throws Exception {
+        barrier.await(2, TimeUnit.SECONDS);
+    }
+}
@@ -3,17 +3,23 @@ package io.github.tuddy.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyList;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -25,24 +31,39 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.github.tuddy.client.FairAdmissionQueue;
+import io.github.tuddy.dto.ChatBatchResult;
 import io.github.tuddy.dto.ChatProxyRequest;
+import io.github.tuddy.dto.ChatProxyResponse;
 import io.github.tuddy.dto.FastApiChatRequest;
 import io.github.tuddy.entity.chat.ChatMessage;
 import io.github.tuddy.entity.chat.ChatSession;
 import io.github.tuddy.entity.file.FileStatus;
 import io.github.tuddy.entity.file.UploadedFile;
 import io.github.tuddy.entity.user.UserAccount;
+import io.github.tuddy.exception.FileIndexingException;
+import io.github.tuddy.exception.RateLimitExceededException;
 import io.github.tuddy.repository.ChatMessageRepository;
 import io.github.tuddy.repository.ChatSessionRepository;
 import io.github.tuddy.repository.UploadedFileRepository;
 import io.github.tuddy.repository.UserAccountRepository;
+import io.github.tuddy.service.routing.ModelTier;
+import io.github.tuddy.service.routing.ModelTierRouter;
+import io.github.tuddy.web.RateLimitBudget;
+import io.github.tuddy.web.RateLimitProbe;
+import io.github.tuddy.web.RateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 class ChatServiceTest {
@@ -54,14 +75,22 @@ class ChatServiceTest {
     @InjectMocks private ChatService chatService;
 
     @Mock private RagChatService ragChatService;
+    @Mock private FileService fileService;
     @Mock private UserAccountRepository userAccountRepository;
     @Mock private ChatSessionRepository sessionRepository;
     @Mock private ChatMessageRepository messageRepository;
     @Mock private UploadedFileRepository uploadedFileRepository;
+    @Mock private RateLimiter rateLimiter;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private ImagePreprocessor imagePreprocessor;
+    @Spy private FairAdmissionQueue admissionQueue = new FairAdmissionQueue(false, 1, 1, Duration.ofSeconds(1), 1, 1,
+            new SimpleMeterRegistry());
+    @Spy private ModelTierRouter tierRouter = new ModelTierRouter(false, f -> ModelTier.FULL, new SimpleMeterRegistry());
     @Spy private ObjectMapper objectMapper;
+    @Spy private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
 
-    @Captor private ArgumentCaptor<ChatMessage> messageCaptor;
     @Captor private ArgumentCaptor<FastApiChatRequest> fastApiRequestCaptor;
+    @Captor private ArgumentCaptor<List<ChatMessage>> messagesCaptor;
 
     private UserAccount mockUser;
     private ChatSession mockSession;
@@ -73,9 +102,9 @@ class ChatServiceTest {
         mockSession = ChatSession.builder().id(SESSION_ID).userAccount(mockUser).build();
         mockFileA = UploadedFile.builder().id(FILE_ID_A).originalFilename("file_A.pdf").status(FileStatus.COMPLETED).build();
 
-        lenient().when(userAccountRepository.findById(USER_ID)).thenReturn(Optional.of(mockUser));
+        lenient().when(userAccountRepository.getReferenceById(USER_ID)).thenReturn(mockUser);
         lenient().when(ragChatService.getChatPath()).thenReturn("/rag/chat");
-        lenient().when(ragChatService.getNormalPath()).thenReturn("/normal/chat");
+        lenient().when(messageRepository.save(any(ChatMessage.class))).thenAnswer(inv -> inv.getArgument(0));
     }
 
     @DisplayName("1. 신규 채팅 생성 및 일반 대화 (Normal Chat)")
@@ -85,92 +114,78 @@ class ChatServiceTest {
         var newSession = ChatSession.builder().id(101L).userAccount(mockUser).title("새 질문").build();
 
         given(sessionRepository.save(any(ChatSession.class))).willReturn(newSession);
-        given(messageRepository.findFilesBySessionIdAndStatus(101L, FileStatus.COMPLETED))
-            .willReturn(Collections.emptyList());
-        given(ragChatService.relayChatWithImages(anyString(), any(FastApiChatRequest.class), anyList()))
-            .willReturn("{\"response\":\"일반 답변\"}");
+        given(ragChatService.relayNormal(any(FastApiChatRequest.class))).willReturn("{\"response\":\"일반 답변\"}");
 
-        chatService.processChat(USER_ID, request, Collections.emptyList());
+        ChatProxyResponse res = chatService.processChat(USER_ID, request, Collections.emptyList());
 
-        verify(ragChatService).relayChatWithImages(eq("/normal/chat"), any(FastApiChatRequest.class), anyList());
-        verify(messageRepository, times(2)).save(messageCaptor.capture());
+        assertThat(res.sessionId()).isEqualTo(101L);
+        assertThat(res.answer()).isEqualTo("일반 답변");
+        verify(messageRepository, times(2)).save(any(ChatMessage.class));
+        verify(rateLimiter, never()).consume(anyLong(), eq(RateLimitBudget.RAG_CHAT));
     }
 
     @DisplayName("2. 기존 세션에서 파일 없이 일반 대화 유지")
     @Test
     void 기존_세션_일반_대화_유지() {
         given(sessionRepository.findById(SESSION_ID)).willReturn(Optional.of(mockSession));
-        given(messageRepository.findFilesBySessionIdAndStatus(SESSION_ID, FileStatus.COMPLETED))
-            .willReturn(Collections.emptyList());
-        given(ragChatService.relayChatWithImages(anyString(), any(FastApiChatRequest.class), anyList()))
-            .willReturn("{\"response\":\"답변\"}");
+        given(ragChatService.relayNormal(any(FastApiChatRequest.class))).willReturn("{\"response\":\"답변\"}");
 
         var request = new ChatProxyRequest(SESSION_ID, "질문", 0L);
         chatService.processChat(USER_ID, request, Collections.emptyList());
 
-        verify(ragChatService).relayChatWithImages(eq("/normal/chat"), any(FastApiChatRequest.class), anyList());
+        verify(ragChatService).relayNormal(fastApiRequestCaptor.capture());
+        assertThat(fastApiRequestCaptor.getValue().sessionId()).isEqualTo(String.valueOf(SESSION_ID));
     }
 
-    @DisplayName("3. 파일 등록 후 자동 RAG 모드 전환 (파일명 전송 검증)")
+    @DisplayName("3. 파일 선택 시 RAG 경로로 중계하고 RAG 한도 차감")
     @Test
-    void 파일_등록_후_자동_RAG_모드_전환() {
+    void 파일_선택_RAG_모드() {
         given(sessionRepository.findById(SESSION_ID)).willReturn(Optional.of(mockSession));
         given(uploadedFileRepository.findByIdAndUserAccountId(FILE_ID_A, USER_ID)).willReturn(Optional.of(mockFileA));
-
-        given(messageRepository.findFilesBySessionIdAndStatus(SESSION_ID, FileStatus.COMPLETED))
-            .willReturn(new java.util.ArrayList<>());
-
-        given(ragChatService.relayChatWithImages(anyString(), any(FastApiChatRequest.class), anyList()))
+        given(ragChatService.relayChatWithImages(eq("/rag/chat"), any(FastApiChatRequest.class), any()))
             .willReturn("{\"response\":\"RAG 답변\"}");
 
         var request = new ChatProxyRequest(SESSION_ID, "파일 질문", FILE_ID_A);
-        chatService.processChat(USER_ID, request, Collections.emptyList());
+        ChatProxyResponse res = chatService.processChat(USER_ID, request, Collections.emptyList());
 
-        verify(ragChatService).relayChatWithImages(eq("/rag/chat"), fastApiRequestCaptor.capture(), anyList());
-        assertThat(fastApiRequestCaptor.getValue().fileNames()).contains("file_A.pdf");
+        assertThat(res.answer()).isEqualTo("RAG 답변");
+        verify(rateLimiter).consume(USER_ID, RateLimitBudget.RAG_CHAT);
     }
 
-    @DisplayName("4. 파일 등록 후 다음 턴에 자동 RAG 유지 (히스토리 기반)")
+    @DisplayName("4. 이전 대화에 파일이 있으면 다음 턴도 RAG 유지 (히스토리 기반)")
     @Test
     void 파일_등록_후_다음_턴_자동_RAG_유지() {
         given(sessionRepository.findById(SESSION_ID)).willReturn(Optional.of(mockSession));
-
-        given(messageRepository.findFilesBySessionIdAndStatus(SESSION_ID, FileStatus.COMPLETED))
-            .willReturn(List.of(mockFileA));
-
-        given(ragChatService.relayChatWithImages(anyString(), any(FastApiChatRequest.class), anyList()))
+        given(messageRepository.existsBySessionIdAndUploadedFileIsNotNull(SESSION_ID)).willReturn(true);
+        given(ragChatService.relayChatWithImages(eq("/rag/chat"), any(FastApiChatRequest.class), isNull()))
             .willReturn("{\"response\":\"RAG 답변\"}");
 
         var request = new ChatProxyRequest(SESSION_ID, "이전 내용 질문", 0L);
         chatService.processChat(USER_ID, request, Collections.emptyList());
 
-        verify(ragChatService).relayChatWithImages(eq("/rag/chat"), fastApiRequestCaptor.capture(), anyList());
-        assertThat(fastApiRequestCaptor.getValue().fileNames()).contains("file_A.pdf");
+        verify(rateLimiter).consume(USER_ID, RateLimitBudget.RAG_CHAT);
+        verify(ragChatService, never()).relayNormal(any());
     }
 
-    @DisplayName("5. 파일 상태가 COMPLETED가 아니면 예외 발생")
+    @DisplayName("5. 선택한 파일이 준비되지 않았으면 이번 질문은 파일 없이 일반 대화")
     @Test
-    void 파일_상태_가드_예외_발생() {
+    void 준비_안된_파일_일반_대화() {
         given(sessionRepository.findById(SESSION_ID)).willReturn(Optional.of(mockSession));
-
         UploadedFile pendingFile = UploadedFile.builder().id(FILE_ID_A).status(FileStatus.PENDING).build();
-        given(uploadedFileRepository.findByIdAndUserAccountId(FILE_ID_A, USER_ID))
-            .willReturn(Optional.of(pendingFile));
+        given(uploadedFileRepository.findByIdAndUserAccountId(FILE_ID_A, USER_ID)).willReturn(Optional.of(pendingFile));
+        given(ragChatService.relayNormal(any(FastApiChatRequest.class))).willReturn("{\"response\":\"답변\"}");
 
         var request = new ChatProxyRequest(SESSION_ID, "질문", FILE_ID_A);
+        chatService.processChat(USER_ID, request, Collections.emptyList());
 
-        assertThatThrownBy(() -> chatService.processChat(USER_ID, request, Collections.emptyList()))
-            .isInstanceOf(IllegalStateException.class)
-            .hasMessageContaining("is not ready");
+        verify(ragChatService, never()).relayChatWithImages(any(), any(), any());
     }
 
     @DisplayName("6. 채팅 메시지 목록 조회 시 페이지네이션 확인")
     @Test
     void 채팅_메시지_목록_조회_페이지네이션() {
-        given(sessionRepository.findById(SESSION_ID)).willReturn(Optional.of(mockSession));
         Pageable pageable = Pageable.ofSize(10);
 
-        // [수정] Repository Mocking 추가 (빈 Slice 반환)
         Slice<ChatMessage> emptySlice = new SliceImpl<>(Collections.emptyList());
         given(messageRepository.findAllBySessionIdOrderByCreatedAtDesc(eq(SESSION_ID), any(Pageable.class)))
                 .willReturn(emptySlice);
@@ -183,8 +198,7 @@ class ChatServiceTest {
     @DisplayName("7. 타인의 세션에 접근 시 AccessDeniedException 발생")
     @Test
     void 타인의_세션_접근_차단() {
-        Long otherUserId = 2L;
-        UserAccount otherUser = UserAccount.builder().id(otherUserId).build();
+        UserAccount otherUser = UserAccount.builder().id(2L).build();
         ChatSession otherSession = ChatSession.builder().id(999L).userAccount(otherUser).build();
 
         given(sessionRepository.findById(999L)).willReturn(Optional.of(otherSession));
@@ -194,4 +208,114 @@ class ChatServiceTest {
         assertThatThrownBy(() -> chatService.processChat(USER_ID, request, Collections.emptyList()))
             .isInstanceOf(AccessDeniedException.class);
     }
-}
\ No newline at end of file
+
+    @DisplayName("8. RAG 한도 초과 시 세션을 만들거나 조회하지 않고 429")
+    @Test
+    void RAG_한도_초과시_세션_생성_안함() {
+        willThrow(new RateLimitExceededException(RateLimitBudget.RAG_CHAT, new RateLimitProbe(false, 5, 0, 60, 60)))
+            .given(rateLimiter).consume(USER_ID, RateLimitBudget.RAG_CHAT);
+
+        var request = new ChatProxyRequest(null, "파일 질문", FILE_ID_A);
+
+        assertThatThrownBy(() -> chatService.processChat(USER_ID, request, Collections.emptyList()))
+            .isInstanceOf(RateLimitExceededException.class);
+        verify(sessionRepository, never()).save(any(ChatSession.class));
+        verify(uploadedFileRepository, never()).findByIdAndUserAccountId(any(), any());
+    }
+
+    @DisplayName("9. 배치 : 배치당 동시 호출 수 제한, 결과는 요청 순서, 세션 없는 항목은 새 세션 하나 공유, 메시지는 한 번에 저장")
+    @Test
+    void 배치_동시성_순서_일괄_저장() {
+        ReflectionTestUtils.setField(chatService, "batchMaxSize", 10);
+        ReflectionTestUtils.setField(chatService, "batchConcurrency", 2);
+        var newSession = ChatSession.builder().id(101L).userAccount(mockUser).build();
+        given(sessionRepository.save(any(ChatSession.class))).willReturn(newSession);
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        given(ragChatService.relayNormal(any(FastApiChatRequest.class))).willAnswer(inv -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            FastApiChatRequest req = inv.getArgument(0);
+            // 앞 항목일수록 늦게 끝나도록
+            Thread.sleep(50L * (6 - Integer.parseInt(req.query().substring(1))));
+            running.decrementAndGet();
+            return "{\"response\":\"답" + req.query() + "\"}";
+        });
+
+        List<ChatProxyRequest> requests = IntStream.range(0, 6)
+                .mapToObj(i -> new ChatProxyRequest(null, "q" + i, 0L)).toList();
+        List<ChatBatchResult> results = chatService.processBatch(USER_ID, requests);
+
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+        assertThat(results).extracting(ChatBatchResult::index).containsExactly(0, 1, 2, 3, 4, 5);
+        assertThat(results).extracting(ChatBatchResult::answer)
+                .containsExactly("답q0", "답q1", "답q2", "답q3", "답q4", "답q5");
+        assertThat(results).extracting(ChatBatchResult::sessionId).containsOnly(101L);
+        verify(sessionRepository, times(1)).save(any(ChatSession.class));
+        verify(rateLimiter).consume(USER_ID, RateLimitBudget.CHAT, 6);
+
+        verify(messageRepository).saveAll(messagesCaptor.capture());
+        assertThat(messagesCaptor.getValue()).extracting(ChatMessage::getContent)
+                .containsExactly("q0", "답q0", "q1", "답q1", "q2", "답q2", "q3", "답q3", "q4", "답q4", "q5", "답q5");
+    }
+
+    @DisplayName("10. 배치 : 실패한 항목만 고정 코드로 표시하고 저장에서 제외 (예외 메시지는 응답에 포함하지 않음)")
+    @Test
+    void 배치_항목별_실패() {
+        ReflectionTestUtils.setField(chatService, "batchMaxSize", 10);
+        ReflectionTestUtils.setField(chatService, "batchConcurrency", 4);
+        given(sessionRepository.findById(SESSION_ID)).willReturn(Optional.of(mockSession));
+        given(uploadedFileRepository.findByIdAndUserAccountId(FILE_ID_A, USER_ID)).willReturn(Optional.empty());
+        given(ragChatService.relayNormal(any(FastApiChatRequest.class))).willAnswer(inv -> {
+            FastApiChatRequest req = inv.getArgument(0);
+            if ("boom".equals(req.query())) {
+                throw new IllegalStateException("jdbc:postgresql://internal-db:5432");
+            }
+            return "{\"response\":\"ok\"}";
+        });
+
+        List<ChatBatchResult> results = chatService.processBatch(USER_ID, List.of(
+                new ChatProxyRequest(SESSION_ID, "fine", 0L),
+                new ChatProxyRequest(SESSION_ID, "boom", 0L),
+                new ChatProxyRequest(SESSION_ID, "남의 파일", FILE_ID_A)));
+
+        assertThat(results).extracting(ChatBatchResult::error).containsExactly(null, "CHAT_FAILED", "ACCESS_DENIED");
+        assertThat(results.get(0).answer()).isEqualTo("ok");
+
+        verify(messageRepository).saveAll(messagesCaptor.capture());
+        assertThat(messagesCaptor.getValue()).extracting(ChatMessage::getContent).containsExactly("fine", "ok");
+    }
+
+    @DisplayName("11. 선택한 파일이 인덱싱 중이면 기다리지 않고 바로 FileIndexingException (세션/메시지 저장 없음)")
+    @Test
+    void 인덱싱_중인_파일_즉시_응답() {
+        UploadedFile processing = UploadedFile.builder().id(FILE_ID_A).status(FileStatus.PROCESSING).build();
+        given(uploadedFileRepository.findByIdAndUserAccountId(FILE_ID_A, USER_ID)).willReturn(Optional.of(processing));
+
+        var request = new ChatProxyRequest(null, "파일 질문", FILE_ID_A);
+
+        assertThatThrownBy(() -> chatService.processChat(USER_ID, request, Collections.emptyList()))
+            .isInstanceOf(FileIndexingException.class);
+        verify(sessionRepository, never()).save(any(ChatSession.class));
+        verify(messageRepository, never()).save(any(ChatMessage.class));
+        verify(ragChatService, never()).relayChatWithImages(any(), any(), any());
+    }
+
+    @DisplayName("12. 배치 : 인덱싱 중인 파일을 선택한 항목은 FILE_INDEXING 으로 실패 처리")
+    @Test
+    void 배치_인덱싱_중인_파일() {
+        ReflectionTestUtils.setField(chatService, "batchMaxSize", 10);
+        ReflectionTestUtils.setField(chatService, "batchConcurrency", 2);
+        given(sessionRepository.findById(SESSION_ID)).willReturn(Optional.of(mockSession));
+        UploadedFile processing = UploadedFile.builder().id(FILE_ID_A).status(FileStatus.PROCESSING).build();
+        given(uploadedFileRepository.findByIdAndUserAccountId(FILE_ID_A, USER_ID)).willReturn(Optional.of(processing));
+        given(ragChatService.relayNormal(any(FastApiChatRequest.class))).willReturn("{\"response\":\"ok\"}");
+
+        List<ChatBatchResult> results = chatService.processBatch(USER_ID, List.of(
+                new ChatProxyRequest(SESSION_ID, "fine", 0L),
+                new ChatProxyRequest(SESSION_ID, "파일 질문", FILE_ID_A)));
+
+        assertThat(results).extracting(ChatBatchResult::error).containsExactly(null, "FILE_INDEXING");
+        verify(ragChatService, never()).relayChatWithImages(any(), any(), any());
+    }
+}
@@ -3,24 +3,45 @@ package io.github.tuddy.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import io.github.tuddy.dto.FileDeleteResult;
+import io.github.tuddy.dto.FileProcessResult;
+import io.github.tuddy.dto.MultipartCompleteRequest;
+import io.github.tuddy.dto.MultipartUploadRequest;
 import io.github.tuddy.entity.file.FileStatus;
+import io.github.tuddy.entity.file.OcrJob;
 import io.github.tuddy.entity.file.UploadedFile;
+import io.github.tuddy.repository.OcrJobRepository;
+import io.github.tuddy.repository.S3DeleteJobRepository;
 import io.github.tuddy.repository.UploadedFileRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,7 +56,12 @@ class FileServiceTest {
 
     @Mock private UploadedFileRepository uploadedFileRepository;
     @Mock private S3Service s3Service;
-    @Mock private RagChatService ragChatService; // FastAPI 연동 서비스 Mock
+    @Mock private OcrJobRepository ocrJobRepository;
+    @Mock private S3DeleteJobRepository s3DeleteJobRepository;
+    @Mock private TransactionTemplate transactionTemplate;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    @Captor private ArgumentCaptor<OcrJob> jobCaptor;
 
     @DisplayName("1. 파일 메타데이터 생성 성공 (초기 상태 PENDING 확인)")
     @Test
@@ -52,43 +78,206 @@ class FileServiceTest {
         assertThat(result.getStatus()).isEqualTo(FileStatus.PENDING); // PENDING 상태 저장 확인
     }
 
-    @DisplayName("2. 파일 처리 요청 성공 (상태 PENDING -> PROCESSING -> COMPLETED)")
+    @DisplayName("2. 파일 처리 요청 : OCR 작업 등록 후 PROCESSING (FastAPI 는 워커가 호출)")
     @Test
-    void 파일_처리_요청_성공() {
+    void 파일_처리_요청_작업_등록() {
         // Given
         var mockFile = UploadedFile.builder().id(FILE_ID).s3Key(S3_KEY).status(FileStatus.PENDING).build();
-        given(uploadedFileRepository.findByIdAndUserAccountId(FILE_ID, USER_ID)).willReturn(Optional.of(mockFile));
+        given(uploadedFileRepository.findForUpdate(FILE_ID, USER_ID)).willReturn(Optional.of(mockFile));
 
         // When
         fileService.processUploadedFile(USER_ID, FILE_ID);
 
         // Then
-        // 1. 상태가 PROCESSING으로 변경되었는지 확인 (saveAndFlush 호출)
-        verify(uploadedFileRepository, times(1)).saveAndFlush(mockFile);
-        assertThat(mockFile.getStatus()).isEqualTo(FileStatus.COMPLETED); // 최종 상태 COMPLETED 확인
+        verify(ocrJobRepository, times(1)).save(jobCaptor.capture());
+        assertThat(jobCaptor.getValue().getFileId()).isEqualTo(FILE_ID);
+        assertThat(jobCaptor.getValue().getS3Key()).isEqualTo(S3_KEY);
+        assertThat(mockFile.getStatus()).isEqualTo(FileStatus.PROCESSING);
+    }
+
+    @DisplayName("3. 이미 처리 중인 파일은 작업을 중복 등록하지 않음")
+    @Test
+    void 처리중_파일_중복_등록_안함() {
+        // Given
+        var mockFile = UploadedFile.builder().id(FILE_ID).s3Key(S3_KEY).status(FileStatus.PROCESSING).build();
+        given(uploadedFileRepository.findForUpdate(FILE_ID, USER_ID)).willReturn(Optional.of(mockFile));
 
-        // 2. FastAPI OCR 요청이 호출되었는지 확인
-        verify(ragChatService, times(1)).sendOcrRequest(eq(String.valueOf(USER_ID)), eq(S3_KEY));
+        // When
+        fileService.processUploadedFile(USER_ID, FILE_ID);
+
+        // Then
+        verify(ocrJobRepository, never()).save(any(OcrJob.class));
     }
 
-    @DisplayName("3. 파일 처리 요청 실패 시 (FastAPI 오류) -> 상태 FAILED 확인")
+    @DisplayName("4. 여러 파일 일괄 처리 : 작업 일괄 등록, 상태 한 번에 변경, 남의 파일은 not found")
     @Test
-    void 파일_처리_요청_실패_상태_FAILED_확인() {
+    void 여러_파일_일괄_처리() {
         // Given
-        var mockFile = UploadedFile.builder().id(FILE_ID).s3Key(S3_KEY).status(FileStatus.PENDING).build();
-        given(uploadedFileRepository.findByIdAndUserAccountId(FILE_ID, USER_ID)).willReturn(Optional.of(mockFile));
+        ReflectionTestUtils.setField(fileService, "processMaxFiles", 50);
+        var fileA = UploadedFile.builder().id(10L).s3Key("k-10").status(FileStatus.PENDING).build();
+        var fileB = UploadedFile.builder().id(11L).s3Key("k-11").status(FileStatus.FAILED).build();
+        given(uploadedFileRepository.findAllForUpdate(List.of(10L, 11L, 99L), USER_ID))
+            .willReturn(List.of(fileA, fileB));
 
-        // FastAPI 호출 시 예외 발생을 Mocking
-        doThrow(new RuntimeException("FastAPI Connection Error"))
-            .when(ragChatService).sendOcrRequest(anyString(), anyString());
+        // When
+        List<FileProcessResult> results = fileService.processUploadedFiles(USER_ID, List.of(10L, 11L, 99L));
+
+        // Then
+        verify(ocrJobRepository, times(1)).saveAll(anyList());
+        verify(uploadedFileRepository).updateStatus(List.of(10L, 11L), FileStatus.PROCESSING);
+        assertThat(results).extracting(FileProcessResult::status)
+            .containsExactly(FileStatus.PROCESSING, FileStatus.PROCESSING, null);
+        assertThat(results.get(2).error()).isEqualTo("File not found");
+    }
+
+    @DisplayName("5. 업로드 : S3 업로드는 트랜잭션 밖, 메타데이터와 OCR 작업은 한 트랜잭션")
+    @Test
+    void 업로드_작업_등록() {
+        // Given
+        var file = new MockMultipartFile("file", "a.pdf", "application/pdf", "pdf".getBytes());
+        given(s3Service.upload(file, USER_ID)).willReturn(S3_KEY);
+        given(transactionTemplate.execute(any())).willAnswer(inv ->
+            inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        given(uploadedFileRepository.save(any(UploadedFile.class))).willAnswer(i -> i.getArgument(0));
+
+        // When
+        var response = fileService.uploadFile(file, USER_ID);
+
+        // Then
+        assertThat(response.status()).isEqualTo(FileStatus.PROCESSING);
+        verify(ocrJobRepository, times(1)).save(any(OcrJob.class));
+    }
+
+    @DisplayName("6. 멀티파트 업로드 완료 : 파트 ETag 로 S3 완료 후 uploadId 해제")
+    @Test
+    void 멀티파트_업로드_완료() {
+        // Given
+        var file = uploading();
+        given(uploadedFileRepository.findByIdAndUserAccountId(FILE_ID, USER_ID)).willReturn(Optional.of(file));
+        given(transactionTemplate.execute(any())).willAnswer(inv ->
+            inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        given(s3Service.completeMultipartUpload(S3_KEY, "up-1", Map.of(1, "e1", 2, "e2"), 2)).willReturn(20L);
+
+        // When
+        var response = fileService.completeMultipartUpload(USER_ID, FILE_ID, List.of(
+                new MultipartCompleteRequest.Part(2, "e2"), new MultipartCompleteRequest.Part(1, "e1")));
+
+        // Then
+        verify(s3Service).completeMultipartUpload(S3_KEY, "up-1", Map.of(1, "e1", 2, "e2"), 2);
+        assertThat(file.getUploadId()).isNull();
+        assertThat(response.id()).isEqualTo(FILE_ID);
+    }
+
+    @DisplayName("7. 업로드가 끝나지 않은 파일은 처리 요청 거절")
+    @Test
+    void 업로드중_파일_처리_거절() {
+        // Given
+        var file = UploadedFile.builder().id(FILE_ID).s3Key(S3_KEY).uploadId("up-1").status(FileStatus.PENDING).build();
+        given(uploadedFileRepository.findForUpdate(FILE_ID, USER_ID)).willReturn(Optional.of(file));
 
         // When & Then
         assertThatThrownBy(() -> fileService.processUploadedFile(USER_ID, FILE_ID))
-            .isInstanceOf(RuntimeException.class)
-            .hasMessageContaining("File processing failed");
+            .isInstanceOf(IllegalArgumentException.class);
+        verify(ocrJobRepository, never()).save(any(OcrJob.class));
+    }
+
+    @DisplayName("8. 같은 사용자가 같은 내용의 파일을 다시 올리면 S3 업로드와 OCR 작업 없이 기존 파일 반환")
+    @Test
+    void 중복_업로드_재사용() {
+        // Given
+        var file = new MockMultipartFile("file", "a.pdf", "application/pdf", "pdf".getBytes());
+        // sha256("pdf")
+        String hash = "c35b21d6ca39aa7cc3b79a705d989f1a6e88b99ab43988d74048799e3db926a3";
+        var existing = UploadedFile.builder().id(FILE_ID).originalFilename("a.pdf").s3Key(S3_KEY)
+                .status(FileStatus.COMPLETED).build();
+        given(uploadedFileRepository.findFirstByUserAccountIdAndContentHashAndStatusNotOrderByIdDesc(
+                eq(USER_ID), eq(hash), eq(FileStatus.FAILED))).willReturn(Optional.of(existing));
+
+        // When
+        var response = fileService.uploadFile(file, USER_ID);
+
+        // Then
+        assertThat(response.id()).isEqualTo(FILE_ID);
+        assertThat(response.status()).isEqualTo(FileStatus.COMPLETED);
+        verify(s3Service, never()).upload(any(), any());
+        verify(ocrJobRepository, never()).save(any(OcrJob.class));
+    }
+
+    @DisplayName("9. 일괄 삭제 : 본인 파일만 삭제하고 S3 키는 삭제 outbox 에 기록 (S3 직접 호출 없음)")
+    @Test
+    void 여러_파일_일괄_삭제() {
+        // Given
+        ReflectionTestUtils.setField(fileService, "deleteMaxFiles", 100);
+        var mine = UploadedFile.builder().id(1L).s3Key("raw/1/a.pdf").build();
+        given(uploadedFileRepository.findAllByIdInAndUserAccountId(List.of(1L, 2L), USER_ID)).willReturn(List.of(mine));
+
+        // When
+        List<FileDeleteResult> results = fileService.deleteFiles(USER_ID, List.of(1L, 2L));
+
+        // Then
+        assertThat(results).containsExactly(new FileDeleteResult(1L, null), new FileDeleteResult(2L, "File not found"));
+        verify(s3DeleteJobRepository).enqueue(List.of("raw/1/a.pdf"));
+        verify(uploadedFileRepository).deleteAllInBatch(List.of(mine));
+        verifyNoInteractions(s3Service);
+    }
+
+    @DisplayName("10. 멀티파트 시작 : 선언한 크기와 파트 수를 저장")
+    @Test
+    void 멀티파트_시작_선언_크기_저장() {
+        // Given
+        given(s3Service.buildKey(USER_ID, "big.pdf")).willReturn(S3_KEY);
+        given(s3Service.createMultipartUpload(S3_KEY, "application/pdf", 20L)).willReturn("up-1");
+        given(s3Service.multipartPartSize()).willReturn(8);
+        given(transactionTemplate.execute(any())).willAnswer(inv ->
+            inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        given(uploadedFileRepository.save(any(UploadedFile.class))).willAnswer(i -> i.getArgument(0));
+
+        // When
+        var response = fileService.startMultipartUpload(USER_ID, new MultipartUploadRequest("big.pdf", "application/pdf", 20L));
+
+        // Then
+        assertThat(response.partCount()).isEqualTo(3);
+        verify(uploadedFileRepository).save(argThat(f -> f.getDeclaredSize() == 20L && f.getPartCount() == 3));
+    }
+
+    @DisplayName("11. 파트 URL 발급 : 저장된 파트 수를 상한으로 전달")
+    @Test
+    void 파트_URL_발급_상한() {
+        // Given
+        given(uploadedFileRepository.findByIdAndUserAccountId(FILE_ID, USER_ID)).willReturn(Optional.of(uploading()));
+        given(transactionTemplate.execute(any())).willAnswer(inv ->
+            inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        // When
+        fileService.presignUploadParts(USER_ID, FILE_ID, List.of(1, 2));
+
+        // Then
+        verify(s3Service).presignUploadParts(S3_KEY, "up-1", List.of(1, 2), 2);
+    }
+
+    @DisplayName("12. 멀티파트 완료 후 크기가 선언과 다르면 객체와 파일을 지우고 실패")
+    @Test
+    void 멀티파트_크기_불일치() {
+        // Given
+        given(uploadedFileRepository.findByIdAndUserAccountId(FILE_ID, USER_ID)).willReturn(Optional.of(uploading()));
+        given(transactionTemplate.execute(any())).willAnswer(inv ->
+            inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        given(s3Service.completeMultipartUpload(S3_KEY, "up-1", Map.of(1, "e1", 2, "e2"), 2)).willReturn(64L);
+        doAnswer(inv -> {
+            inv.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        // When & Then
+        assertThatThrownBy(() -> fileService.completeMultipartUpload(USER_ID, FILE_ID, List.of(
+                new MultipartCompleteRequest.Part(1, "e1"), new MultipartCompleteRequest.Part(2, "e2"))))
+            .isInstanceOf(IllegalArgumentException.class);
+        verify(s3Service).deleteObjects(List.of(S3_KEY));
+        verify(uploadedFileRepository).deleteById(FILE_ID);
+    }
 
-        // 1. 상태가 PROCESSING으로 변경되었다가 (saveAndFlush 호출은 성공)
-        // 2. 최종적으로 FAILED로 변경되었는지 확인
-        assertThat(mockFile.getStatus()).isEqualTo(FileStatus.FAILED);
+    private UploadedFile uploading() {
+        return UploadedFile.builder().id(FILE_ID).s3Key(S3_KEY).uploadId("up-1")
+                .declaredSize(20L).partCount(2).status(FileStatus.PENDING).build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,100 @@
+package io.github.tuddy.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ImagePreprocessorTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    private ImagePreprocessor preprocessor(int maxDimension) {
+        return new ImagePreprocessor(true, maxDimension, 0.8f, 512 * 1024, 2, 8, Duration.ofSeconds(30),
+                registry);
+    }
+
+    @DisplayName("큰 PNG 사진은 긴 변을 max-dimension 으로 줄여 JPEG 로 재인코딩, 이미지가 아닌 파일은 그대로")
+    @Test
+    void 큰_이미지_축소() throws IOException {
+        var photo = new MockMultipartFile("files", "board.png", "image/png", png(3000, 2000));
+        var pdf = new MockMultipartFile("files", "a.pdf", "application/pdf", "pdf".getBytes());
+
+        List<MultipartFile> out = preprocessor(1000).prepare(List.of(photo, pdf));
+
+        MultipartFile resized = out.get(0);
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(resized.getBytes()));
+        assertThat(resized.getOriginalFilename()).isEqualTo("board.jpg");
+        assertThat(resized.getContentType()).isEqualTo("image/jpeg");
+        assertThat(image.getWidth()).isEqualTo(1000);
+        assertThat(image.getHeight()).isEqualTo(667);
+        assertThat(resized.getSize()).isLessThan(photo.getSize());
+        assertThat(out.get(1)).isSameAs(pdf);
+        assertThat(registry.get("image.preprocess.results").tag("outcome", "resized").counter().count()).isEqualTo(1.0);
+        assertThat(registry.get("image.preprocess.saved").summary().totalAmount()).isPositive();
+    }
+
+    @DisplayName("이미 작은 이미지와 읽을 수 없는 이미지는 원본 그대로")
+    @Test
+    void 작은_이미지_유지() throws IOException {
+        var small = new MockMultipartFile("files", "s.png", "image/png", png(200, 100));
+        var broken = new MockMultipartFile("files", "x.webp", "image/webp", "not-an-image".getBytes());
+
+        List<MultipartFile> out = preprocessor(1000).prepare(List.of(small, broken));
+
+        assertThat(out).containsExactly(small, broken);
+    }
+
+    @DisplayName("EXIF Orientation 읽기 (big-endian TIFF), JPEG 가 아니면 1")
+    @Test
+    void EXIF_방향_읽기() {
+        byte[] jpeg = {
+            (byte) 0xFF, (byte) 0xD8,
+            (byte) 0xFF, (byte) 0xE1, 0x00, 0x22,
+            'E', 'x', 'i', 'f', 0x00, 0x00,
+            'M', 'M', 0x00, 0x2A, 0x00, 0x00, 0x00, 0x08,
+            0x00, 0x01,
+            0x01, 0x12, 0x00, 0x03, 0x00, 0x00, 0x00, 0x01, 0x00, 0x06, 0x00, 0x00,
+            0x00, 0x00, 0x00, 0x00,
+            (byte) 0xFF, (byte) 0xD9
+        };
+
+        assertThat(ImagePreprocessor.exifOrientation(jpeg)).isEqualTo(6);
+        assertThat(ImagePreprocessor.exifOrientation("png".getBytes())).isEqualTo(1);
+    }
+
+    // 압축이 잘 안 되도록 노이즈가 섞인 사진 비슷한 이미지
+    private byte[] png(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.WHITE);
+        g.fillRect(0, 0, width, height);
+        g.dispose();
+        Random random = new Random(42);
+        for (int y = 0; y < height; y += 2) {
+            for (int x = 0; x < width; x += 2) {
+                image.setRGB(x, y, random.nextInt(0xFFFFFF));
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
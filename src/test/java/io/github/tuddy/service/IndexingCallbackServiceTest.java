@@ -0,0 +1,82 @@
+package io.github.tuddy.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import io.github.tuddy.dto.OcrCallbackRequest;
+import io.github.tuddy.entity.file.FileStatus;
+import io.github.tuddy.entity.file.UploadedFile;
+import io.github.tuddy.entity.user.UserAccount;
+import io.github.tuddy.repository.UploadedFileRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class IndexingCallbackServiceTest {
+
+    private static final String KEY = "raw/1/abc_lecture.pdf";
+
+    @Mock private UploadedFileRepository uploadedFileRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private IndexingCallbackService service;
+    private UploadedFile file;
+
+    @BeforeEach
+    void setUp() {
+        service = new IndexingCallbackService(uploadedFileRepository, eventPublisher, registry);
+        file = UploadedFile.builder().id(10L).s3Key(KEY).userAccount(UserAccount.builder().id(1L).build())
+                .status(FileStatus.PROCESSING).createdAt(LocalDateTime.now().minusMinutes(1)).build();
+        given(uploadedFileRepository.findByS3Key(KEY)).willReturn(Optional.of(file));
+    }
+
+    @DisplayName("완료 콜백 : COMPLETED, 페이지/청크 수 저장, 지표 기록, 이벤트 발행")
+    @Test
+    void 완료_콜백() {
+        service.apply(new OcrCallbackRequest(KEY, "completed", null, 12, 80, 4200L, null));
+
+        assertThat(file.getStatus()).isEqualTo(FileStatus.COMPLETED);
+        assertThat(file.getPageCount()).isEqualTo(12);
+        assertThat(file.getChunkCount()).isEqualTo(80);
+        assertThat(file.getIndexedAt()).isNotNull();
+        assertThat(registry.timer("ocr.indexing.duration", "outcome", "completed").count()).isEqualTo(1);
+        verify(eventPublisher).publishEvent(new FileStatusChangedEvent(10L, 1L, FileStatus.COMPLETED, null));
+    }
+
+    @DisplayName("실패 콜백 : FAILED 와 사유 저장")
+    @Test
+    void 실패_콜백() {
+        service.apply(new OcrCallbackRequest(KEY, "failed", null, null, null, null, "encrypted pdf"));
+
+        assertThat(file.getStatus()).isEqualTo(FileStatus.FAILED);
+        assertThat(file.getFailureReason()).isEqualTo("encrypted pdf");
+    }
+
+    @DisplayName("이미 끝난 파일에 늦게 온 진행 통지는 무시, 알 수 없는 상태는 400")
+    @Test
+    void 늦은_진행_통지_무시() {
+        file.setStatus(FileStatus.COMPLETED);
+
+        service.apply(new OcrCallbackRequest(KEY, "progress", 50, null, null, null, null));
+
+        assertThat(file.getStatus()).isEqualTo(FileStatus.COMPLETED);
+        verify(eventPublisher, never()).publishEvent(ArgumentMatchers.any(Object.class));
+        assertThatThrownBy(() -> service.apply(new OcrCallbackRequest(KEY, "weird", null, null, null, null, null)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,207 @@
+package io.github.tuddy.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.util.UriComponentsBuilder;
+
+class LocalBlobStoreTest {
+
+    @TempDir
+    Path dir;
+
+    private LocalBlobStore store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        store = new LocalBlobStore(dir.resolve("blobs").toString(), "http://localhost:8080/", "secret", 8, 1024);
+    }
+
+    @DisplayName("저장 후 키 순서로 페이지 조회(startAfter 커서), 쓰는 중인 임시 파일은 제외, 삭제는 없는 키도 성공")
+    @Test
+    void 저장_목록_삭제() throws IOException {
+        put("raw/2/b.pdf", "bb");
+        put("raw/1/a.pdf", "a");
+        put("raw/10/c.pdf", "ccc");
+        Files.writeString(store.resolve("raw/1/a.pdf").resolveSibling(".tmp-1"), "partial");
+        assertThat(store.contentType("raw/1/a.pdf")).isEqualTo("application/pdf");
+
+        BlobStore.Page first = store.list("raw/", null, 2);
+        BlobStore.Page second = store.list("raw/", "raw/10/c.pdf", 2);
+
+        assertThat(first.objects()).extracting(BlobStore.Blob::key).containsExactly("raw/1/a.pdf", "raw/10/c.pdf");
+        assertThat(first.truncated()).isTrue();
+        assertThat(second.objects()).extracting(BlobStore.Blob::key).containsExactly("raw/2/b.pdf");
+        assertThat(second.objects().get(0).size()).isEqualTo(2L);
+        assertThat(second.truncated()).isFalse();
+
+        Path copy = dir.resolve("copy.pdf");
+        store.download("raw/10/c.pdf", copy);
+        assertThat(Files.readString(copy)).isEqualTo("ccc");
+
+        assertThat(store.delete(List.of("raw/1/a.pdf", "raw/9/missing.pdf", "../escape"))).isEmpty();
+        assertThat(store.exists("raw/1/a.pdf")).isFalse();
+        assertThat(store.contentType("raw/1/a.pdf")).isNull();
+    }
+
+    @DisplayName("목록은 디렉터리를 키 순서로 내려감 : 파일 \"a.pdf\" 가 폴더 \"a/\" 아래 키보다 앞, startAfter 이전 폴더는 건너뜀")
+    @Test
+    void 목록_키_순서() throws IOException {
+        put("raw/a/x.pdf", "x");
+        put("raw/a.pdf", "a");
+        put("raw/a-b.pdf", "ab");
+        put("raw/b/y.pdf", "y");
+
+        assertThat(store.list("raw/", null, 10).objects()).extracting(BlobStore.Blob::key)
+                .containsExactly("raw/a-b.pdf", "raw/a.pdf", "raw/a/x.pdf", "raw/b/y.pdf");
+        assertThat(store.list("raw/a", "raw/a.pdf", 1)).satisfies(page -> {
+            assertThat(page.objects()).extracting(BlobStore.Blob::key).containsExactly("raw/a/x.pdf");
+            assertThat(page.truncated()).isFalse();
+        });
+    }
+
+    @DisplayName("한글/공백이 든 키는 ASCII 파일 이름으로 저장 (JVM 파일명 인코딩과 무관), 목록은 원래 키와 키 순서로 반환")
+    @Test
+    void 한글_키_저장() throws IOException {
+        put("raw/1/강의 노트.pdf", "note");
+        put("raw/1/b.pdf", "b");
+
+        assertThat(store.list("raw/1/", null, 10).objects()).extracting(BlobStore.Blob::key)
+                .containsExactly("raw/1/b.pdf", "raw/1/강의 노트.pdf");
+        assertThat(store.contentType("raw/1/강의 노트.pdf")).isEqualTo("application/pdf");
+        try (var files = Files.walk(dir.resolve("blobs"))) {
+            assertThat(files.map(p -> p.getFileName().toString()))
+                    .allSatisfy(name -> assertThat(name).matches("[A-Za-z0-9._~-]+"));
+        }
+
+        assertThat(store.delete(List.of("raw/1/강의 노트.pdf"))).isEmpty();
+        assertThat(store.exists("raw/1/강의 노트.pdf")).isFalse();
+        assertThat(store.contentType("raw/1/강의 노트.pdf")).isNull();
+    }
+
+    @DisplayName("root 밖이나 내부 폴더를 가리키는 키는 거절")
+    @Test
+    void 잘못된_키_거절() {
+        for (String key : List.of("../etc/passwd", "raw/../../x", ".uploads/x", "raw//a", "/abs", "raw\\a")) {
+            assertThatThrownBy(() -> store.resolve(key)).as(key).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @DisplayName("서명 URL 은 같은 키/메서드/만료 시각에서만 유효")
+    @Test
+    void 서명_검증() {
+        MultiValueMap<String, String> q = query(store.presignGet("raw/1/강의 노트.pdf", Duration.ofMinutes(5), "private, max-age=600").url());
+        String key = decode(q.getFirst("key"));
+        String cacheControl = decode(q.getFirst("cacheControl"));
+        long expires = Long.parseLong(q.getFirst("expires"));
+        String signature = q.getFirst("signature");
+
+        assertThat(key).isEqualTo("raw/1/강의 노트.pdf");
+        assertThat(store.verify(new LocalBlobStore.Grant("GET", key, null, 0, -1, null, cacheControl, expires), signature)).isTrue();
+        assertThat(store.verify(new LocalBlobStore.Grant("GET", "raw/2/other.pdf", null, 0, -1, null, cacheControl, expires), signature)).isFalse();
+        assertThat(store.verify(new LocalBlobStore.Grant("PUT", key, null, 0, -1, null, cacheControl, expires), signature)).isFalse();
+        assertThat(store.verify(new LocalBlobStore.Grant("GET", key, null, 0, -1, null, cacheControl, expires + 60), signature)).isFalse();
+        assertThat(store.verify(new LocalBlobStore.Grant("GET", key, null, 0, -1, null, cacheControl, 1L), signature)).isFalse();
+    }
+
+    @DisplayName("멀티파트 : 파트 재전송은 마지막 것만 사용, 번호 순서로 합친 뒤 작업 폴더 삭제, 모르는 ETag 는 거절")
+    @Test
+    void 멀티파트_완료() throws IOException {
+        String key = "raw/1/big.pdf";
+        String uploadId = store.createMultipartUpload(key, "application/pdf");
+
+        String second = store.receivePart(key, uploadId, 2, stream("world"));
+        store.receivePart(key, uploadId, 1, stream("stale "));
+        String first = store.receivePart(key, uploadId, 1, stream("hello "));
+
+        assertThatThrownBy(() -> store.completeMultipartUpload(key, uploadId, Map.of(1, "\"0000abcd-6\"", 2, second)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> store.completeMultipartUpload(key, uploadId, Map.of(1, "../../raw/1/x")))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        store.completeMultipartUpload(key, uploadId, Map.of(2, second, 1, "\"" + first + "\""));
+
+        assertThat(Files.readString(store.resolve(key))).isEqualTo("hello world");
+        assertThat(store.contentType(key)).isEqualTo("application/pdf");
+        assertThat(dir.resolve("blobs/.uploads/" + uploadId)).doesNotExist();
+    }
+
+    @DisplayName("멀티파트 : partSize 를 넘는 파트, 최대 파트 수를 넘는 번호, 합친 크기가 상한을 넘는 완료는 거절")
+    @Test
+    void 멀티파트_상한() throws IOException {
+        LocalBlobStore small = new LocalBlobStore(dir.resolve("small").toString(), "http://localhost:8080", "secret", 8, 10);
+        String key = "raw/1/big.pdf";
+        String uploadId = small.createMultipartUpload(key, "application/pdf");
+
+        assertThatThrownBy(() -> small.receivePart(key, uploadId, 1, stream("123456789")))
+                .isInstanceOf(MaxUploadSizeExceededException.class);
+        assertThatThrownBy(() -> small.receivePart(key, uploadId, 3, stream("1")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> small.presignUploadPart(key, uploadId, 3, Duration.ofMinutes(5)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        String first = small.receivePart(key, uploadId, 1, stream("12345678"));
+        String second = small.receivePart(key, uploadId, 2, stream("12345678"));
+
+        assertThatThrownBy(() -> small.completeMultipartUpload(key, uploadId, Map.of(1, first, 2, second)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(small.exists(key)).isFalse();
+    }
+
+    @DisplayName("서명 URL 단일 업로드 : 서명한 Content-Type 을 저장")
+    @Test
+    void 업로드_형식_저장() throws IOException {
+        MultiValueMap<String, String> q = query(store.presignPut("raw/1/a.pdf", "application/pdf", 3, Duration.ofMinutes(5)).url());
+        String contentType = decode(q.getFirst("contentType"));
+        long expires = Long.parseLong(q.getFirst("expires"));
+
+        assertThat(store.verify(new LocalBlobStore.Grant("PUT", "raw/1/a.pdf", null, 0, 3, contentType, null, expires),
+                q.getFirst("signature"))).isTrue();
+        assertThat(store.verify(new LocalBlobStore.Grant("PUT", "raw/1/a.pdf", null, 0, 3, "text/html", null, expires),
+                q.getFirst("signature"))).isFalse();
+
+        store.receive("raw/1/a.pdf", contentType, stream("abc"), 3);
+
+        assertThat(store.contentType("raw/1/a.pdf")).isEqualTo("application/pdf");
+    }
+
+    @DisplayName("서명한 길이와 다른 본문은 저장하지 않음")
+    @Test
+    void 길이_불일치_거절() {
+        assertThatThrownBy(() -> store.receive("raw/1/a.pdf", "application/pdf", stream("abc"), 5)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(store.exists("raw/1/a.pdf")).isFalse();
+        assertThat(store.contentType("raw/1/a.pdf")).isNull();
+    }
+
+    private void put(String key, String content) throws IOException {
+        store.put(key, "application/pdf", stream(content), content.length());
+    }
+
+    private ByteArrayInputStream stream(String s) {
+        return new ByteArrayInputStream(s.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private MultiValueMap<String, String> query(String url) {
+        return UriComponentsBuilder.fromUriString(url).build().getQueryParams();
+    }
+
+    private String decode(String s) {
+        return URLDecoder.decode(s, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,194 @@
+package io.github.tuddy.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.tuddy.entity.file.FileStatus;
+import io.github.tuddy.entity.file.OcrJob;
+import io.github.tuddy.entity.file.OcrJobStatus;
+import io.github.tuddy.repository.OcrJobRepository;
+import io.github.tuddy.repository.UploadedFileRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class OcrJobWorkerTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final LocalDateTime LEASE = LocalDateTime.of(2026, 1, 1, 0, 15);
+
+    @Mock private OcrJobRepository ocrJobRepository;
+    @Mock private UploadedFileRepository uploadedFileRepository;
+    @Mock private RagChatService ragChatService;
+    @Mock private TextFastPath textFastPath;
+    @Mock private TransactionTemplate transactionTemplate;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    private OcrJobWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(inv ->
+            inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        worker = new OcrJobWorker(ocrJobRepository, uploadedFileRepository, ragChatService, textFastPath, transactionTemplate, eventPublisher,
+                new SimpleMeterRegistry(),
+                false, 2, 20, MAX_ATTEMPTS, Duration.ofSeconds(10), Duration.ofMinutes(10), Duration.ofMinutes(15), false, "");
+    }
+
+    private OcrJobWorker callbackWorker(String token) {
+        return new OcrJobWorker(ocrJobRepository, uploadedFileRepository, ragChatService, textFastPath, transactionTemplate, eventPublisher,
+                new SimpleMeterRegistry(),
+                false, 2, 20, MAX_ATTEMPTS, Duration.ofSeconds(10), Duration.ofMinutes(10), Duration.ofMinutes(15), true, token);
+    }
+
+    // 임대를 그대로 가진 작업만 반환 (DB 의 locked_until = :lease 조건)
+    private void leaseHeld(OcrJob... jobs) {
+        given(ocrJobRepository.findLeased(any(), eq(OcrJobStatus.RUNNING), eq(LEASE))).willReturn(List.of(jobs));
+    }
+
+    @DisplayName("작업 선점 시 RUNNING, 시도 횟수 증가, 임대 시각 설정")
+    @Test
+    void 작업_선점() {
+        var job = job(1L, "k-1", 0);
+        given(ocrJobRepository.claim(any(), eq(5))).willReturn(List.of(job));
+
+        List<OcrJob> claimed = worker.claim(5);
+
+        assertThat(claimed).containsExactly(job);
+        assertThat(job.getStatus()).isEqualTo(OcrJobStatus.RUNNING);
+        assertThat(job.getAttempts()).isEqualTo(1);
+        assertThat(job.getLockedUntil()).isAfter(LocalDateTime.now().plusMinutes(14));
+        // DATETIME(6) 와 같은 정밀도 (완료 시 임대 시각 비교)
+        assertThat(job.getLockedUntil().getNano() % 1000).isZero();
+    }
+
+    @DisplayName("빈 슬롯 수만큼의 묶음만 실행하고 나머지 선점 작업은 바로 되돌림")
+    @Test
+    void 빈_슬롯_초과분_되돌림() {
+        OcrJobWorker enabled = new OcrJobWorker(ocrJobRepository, uploadedFileRepository, ragChatService, textFastPath, transactionTemplate,
+                eventPublisher, new SimpleMeterRegistry(),
+                true, 2, 20, MAX_ATTEMPTS, Duration.ofSeconds(10), Duration.ofMinutes(10), Duration.ofMinutes(15), false, "");
+        // 사용자 3명이 파일 1개씩 : 묶음 3개, 슬롯 2개
+        var first = userJob(1L, 1L);
+        var second = userJob(2L, 2L);
+        var third = userJob(3L, 3L);
+        given(ocrJobRepository.claim(any(), eq(40))).willReturn(List.of(first, second, third));
+        given(ocrJobRepository.release(any(), any())).willReturn(1);
+
+        try {
+            enabled.poll();
+
+            verify(ocrJobRepository).release(List.of(3L), third.getLockedUntil());
+            verify(ragChatService, timeout(1000)).sendOcrBatch("1", List.of("k-1"));
+            verify(ragChatService, timeout(1000)).sendOcrBatch("2", List.of("k-2"));
+            verify(ragChatService, never()).sendOcrBatch(eq("3"), any());
+        } finally {
+            enabled.shutdown();
+        }
+    }
+
+    @DisplayName("성공은 DONE/COMPLETED, 실패는 백오프 후 재시도, 최대 시도 초과는 FAILED")
+    @Test
+    void 결과별_상태_전이() {
+        var ok = job(1L, "k-1", 1);
+        var retry = job(2L, "k-2", 1);
+        var exhausted = job(3L, "k-3", MAX_ATTEMPTS);
+        given(ragChatService.sendOcrBatch("7", List.of("k-1", "k-2", "k-3")))
+            .willReturn(Map.of("k-1", true, "k-2", false, "k-3", false));
+        leaseHeld(ok, retry, exhausted);
+
+        worker.run(List.of(ok, retry, exhausted));
+
+        verify(ocrJobRepository).updateStatus(List.of(1L), OcrJobStatus.DONE);
+        verify(uploadedFileRepository).updateStatus(List.of(101L), FileStatus.COMPLETED);
+        verify(ocrJobRepository).save(retry);
+        assertThat(retry.getStatus()).isEqualTo(OcrJobStatus.PENDING);
+        assertThat(retry.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(7));
+        verify(ocrJobRepository).updateStatus(List.of(3L), OcrJobStatus.FAILED);
+        verify(uploadedFileRepository).updateStatus(List.of(103L), FileStatus.FAILED);
+    }
+
+    @DisplayName("텍스트 추출로 처리한 파일은 OCR 배치에서 빠지고 성공으로 반영")
+    @Test
+    void 텍스트_추출_파일은_OCR_생략() {
+        var text = job(1L, "k-1.pdf", 1);
+        var scanned = job(2L, "k-2.pdf", 1);
+        given(textFastPath.tryIndex(text)).willReturn(true);
+        given(ragChatService.sendOcrBatch("7", List.of("k-2.pdf"))).willReturn(Map.of("k-2.pdf", true));
+        leaseHeld(text, scanned);
+
+        worker.run(List.of(text, scanned));
+
+        verify(ocrJobRepository).updateStatus(List.of(1L, 2L), OcrJobStatus.DONE);
+    }
+
+    @DisplayName("처리 중 임대를 잃은 작업(다른 워커가 다시 선점)은 결과를 반영하지 않음")
+    @Test
+    void 임대_잃은_작업_반영_안함() {
+        var kept = job(1L, "k-1", 1);
+        var lost = job(2L, "k-2", 1);
+        given(ragChatService.sendOcrBatch("7", List.of("k-1", "k-2"))).willReturn(Map.of("k-1", true, "k-2", true));
+        leaseHeld(kept);
+
+        worker.run(List.of(kept, lost));
+
+        verify(ocrJobRepository).findLeased(List.of(1L, 2L), OcrJobStatus.RUNNING, LEASE);
+        verify(ocrJobRepository).updateStatus(List.of(1L), OcrJobStatus.DONE);
+        verify(uploadedFileRepository).updateStatus(List.of(101L), FileStatus.COMPLETED);
+        verify(ocrJobRepository, never()).save(any());
+    }
+
+    @DisplayName("콜백 모드는 토큰이 있을 때만 PROCESSING 유지, 토큰이 없으면 바로 COMPLETED")
+    @Test
+    void 콜백_토큰_없으면_바로_완료() {
+        var waiting = job(1L, "k-1", 1);
+        var immediate = job(2L, "k-2", 1);
+        given(ragChatService.sendOcrBatch(eq("7"), any())).willReturn(Map.of("k-1", true, "k-2", true));
+        given(ocrJobRepository.findLeased(any(), eq(OcrJobStatus.RUNNING), eq(LEASE)))
+            .willReturn(List.of(waiting), List.of(immediate));
+
+        callbackWorker("secret").run(List.of(waiting));
+        callbackWorker("").run(List.of(immediate));
+
+        verify(uploadedFileRepository, never()).updateStatus(List.of(101L), FileStatus.COMPLETED);
+        verify(uploadedFileRepository).updateStatus(List.of(102L), FileStatus.COMPLETED);
+    }
+
+    @DisplayName("백오프는 지수적으로 증가하고 상한을 넘지 않음")
+    @Test
+    void 지수_백오프() {
+        assertThat(worker.backoff(1)).isBetween(Duration.ofSeconds(8), Duration.ofSeconds(12));
+        assertThat(worker.backoff(3)).isBetween(Duration.ofSeconds(32), Duration.ofSeconds(48));
+        assertThat(worker.backoff(30)).isLessThanOrEqualTo(Duration.ofMinutes(12));
+    }
+
+    private OcrJob userJob(Long id, Long userId) {
+        return OcrJob.builder().id(id).fileId(100L + id).userId(userId).s3Key("k-" + id)
+                .status(OcrJobStatus.PENDING).attempts(0).build();
+    }
+
+    private OcrJob job(Long id, String key, int attempts) {
+        return OcrJob.builder().id(id).fileId(100L + id).userId(7L).s3Key(key)
+                .status(OcrJobStatus.RUNNING).attempts(attempts).lockedUntil(LEASE).build();
+    }
+}
@@ -0,0 +1,52 @@
+package io.github.tuddy.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PresignedUrlCacheTest {
+
+    private static final Instant T0 = Instant.parse("2025-03-01T00:00:00Z");
+
+    private final AtomicInteger signed = new AtomicInteger();
+
+    // 호출 시각 기준 15분 유효한 URL 서명 흉내
+    private Function<String, PresignedUrlCache.Entry> signer(Instant now) {
+        return key -> new PresignedUrlCache.Entry(key + "?sig=" + signed.incrementAndGet(), now.plus(Duration.ofMinutes(15)));
+    }
+
+    @DisplayName("만료 margin 전까지 같은 URL 재사용, 이후 다시 서명")
+    @Test
+    void 만료_전까지_재사용() {
+        PresignedUrlCache cache = new PresignedUrlCache(Duration.ofMinutes(5), 100);
+
+        String first = cache.get("raw/1/a.pdf", T0, signer(T0)).url();
+        Instant t9 = T0.plus(Duration.ofMinutes(9));
+        assertThat(cache.get("raw/1/a.pdf", t9, signer(t9)).url()).isEqualTo(first);
+
+        Instant t11 = T0.plus(Duration.ofMinutes(11));
+        assertThat(cache.get("raw/1/a.pdf", t11, signer(t11)).url()).isNotEqualTo(first);
+        assertThat(signed.get()).isEqualTo(2);
+    }
+
+    @DisplayName("가득 차면 만료된 항목부터 정리, 그래도 가득 차면 캐시하지 않고 서명만")
+    @Test
+    void 크기_상한() {
+        PresignedUrlCache cache = new PresignedUrlCache(Duration.ofMinutes(5), 2);
+        cache.get("a", T0, signer(T0));
+        cache.get("b", T0, signer(T0));
+
+        cache.get("c", T0, signer(T0));
+        assertThat(cache.size()).isEqualTo(2);
+
+        Instant later = T0.plus(Duration.ofMinutes(11));
+        cache.get("c", later, signer(later));
+        assertThat(cache.size()).isEqualTo(1);
+    }
+}
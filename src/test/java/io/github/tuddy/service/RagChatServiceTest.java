@@ -2,23 +2,34 @@ package io.github.tuddy.service;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withBadRequest;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.client.MockRestServiceServer;
 import org.springframework.web.client.RestClient;
 
+import io.github.tuddy.client.HedgingExecutor;
 import io.github.tuddy.dto.FastApiChatRequest;
 
 class RagChatServiceTest {
@@ -30,22 +41,24 @@ class RagChatServiceTest {
     private static final String RAG_PATH = "/rag/chat";
     private static final String NORMAL_PATH = "/normal/chat";
     private static final String OCR_PATH = "/rag/vectordb/ocr-and-add-from-s3";
+    private static final String TEXT_PATH = "/rag/vectordb/add-text";
 
     @BeforeEach
     void setUp() {
         RestClient.Builder builder = RestClient.builder().baseUrl("http://test-rag-api.com");
         server = MockRestServiceServer.bindTo(builder).build();
-        service = new RagChatService(builder.build(), RAG_PATH, NORMAL_PATH, OCR_PATH);
+        service = new RagChatService(builder.build(), RAG_PATH, NORMAL_PATH, OCR_PATH, OCR_PATH + "/batch", "", "",
+                new HedgingExecutor(false, List.of(), 0.95, Duration.ZERO, 0, 0, null, null));
     }
 
-    @DisplayName("1. RAG API 호출 성공 (relayRag)")
+    @DisplayName("1. RAG API 호출 성공 (relayRag -> 일반 채팅 경로)")
     @Test
     void RAG_API_호출_성공() {
         // Given
-        var request = new FastApiChatRequest("1", "1", "안녕", 5, List.of("file.pdf"));
+        var request = new FastApiChatRequest("1", "1", "안녕", 5);
         String expectedResponse = "{\"response\":\"RAG 응답\"}";
 
-        server.expect(requestTo("http://test-rag-api.com" + RAG_PATH))
+        server.expect(requestTo("http://test-rag-api.com" + NORMAL_PATH))
                 .andExpect(method(HttpMethod.POST))
                 .andRespond(withSuccess(expectedResponse, MediaType.APPLICATION_JSON));
 
@@ -86,7 +99,7 @@ class RagChatServiceTest {
                 .andRespond(withBadRequest().body("{\"error\":\"S3 key not found\"}"));
 
         // When & Then
-        assertThrows(RuntimeException.class, () -> service.sendOcrRequest(userId, fileKey));
+        assertThrows(RuntimeException.class, () -> service.requestOcr(userId, fileKey));
         server.verify();
     }
 
@@ -95,7 +108,7 @@ class RagChatServiceTest {
     void 이미지_첨부_요청_성공() {
         // Given: 이미지 파일은 MockRestServiceServer로 테스트하기 복잡하므로,
         // 응답만 Mock하고 호출이 성공하는지 확인합니다.
-        var request = new FastApiChatRequest("1", "1", "이미지 질문", 5, Collections.emptyList());
+        var request = new FastApiChatRequest("1", "1", "이미지 질문", 5);
         List<org.springframework.web.multipart.MultipartFile> emptyFiles = Collections.emptyList();
 
         String expectedResponse = "{\"response\":\"이미지 응답\"}";
@@ -111,4 +124,64 @@ class RagChatServiceTest {
         assertEquals(expectedResponse, actualResponse);
         server.verify();
     }
-}
\ No newline at end of file
+
+    @DisplayName("5. AI 서버 5xx 는 예외 대신 에러 JSON 으로 응답 (relayNormal)")
+    @Test
+    void 서버_오류시_에러_JSON() {
+        // Given
+        server.expect(requestTo("http://test-rag-api.com" + NORMAL_PATH))
+                .andRespond(withServerError().body("upstream down"));
+
+        // When
+        String actualResponse = service.relayNormal(new FastApiChatRequest("1", "1", "안녕", 5));
+
+        // Then
+        assertEquals("{\"response\": \"AI 서버 오류: upstream down\"}", actualResponse);
+        server.verify();
+    }
+
+    @DisplayName("6. OCR 배치 경로가 없으면(404) 파일별 요청 결과를 그대로 사용 (실패한 파일은 false)")
+    @Test
+    void OCR_배치_404_파일별_대체() {
+        // Given
+        server.expect(requestTo("http://test-rag-api.com" + OCR_PATH + "/batch"))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+        server.expect(requestTo("http://test-rag-api.com" + OCR_PATH))
+                .andRespond(withSuccess());
+        server.expect(requestTo("http://test-rag-api.com" + OCR_PATH))
+                .andRespond(withServerError());
+
+        // When
+        Map<String, Boolean> results = service.sendOcrBatch("10", List.of("raw/10/a.pdf", "raw/10/b.pdf"));
+
+        // Then
+        assertEquals(Map.of("raw/10/a.pdf", true, "raw/10/b.pdf", false), results);
+        server.verify();
+    }
+
+    @DisplayName("텍스트 인덱싱 : 경로가 없으면(404/405) 이후 텍스트 경로를 끄고, 서버 오류는 이번 파일만 실패")
+    @Test
+    void 텍스트_인덱싱_경로_미지원() throws IOException {
+        Path text = Files.writeString(Files.createTempFile("text-", ".txt"), "page1\fpage2");
+        try {
+            for (HttpStatus unsupported : List.of(HttpStatus.NOT_FOUND, HttpStatus.METHOD_NOT_ALLOWED)) {
+                RestClient.Builder builder = RestClient.builder().baseUrl("http://test-rag-api.com");
+                MockRestServiceServer textServer = MockRestServiceServer.bindTo(builder).build();
+                RagChatService textService = new RagChatService(builder.build(), RAG_PATH, NORMAL_PATH, OCR_PATH, OCR_PATH + "/batch", "",
+                        TEXT_PATH, new HedgingExecutor(false, List.of(), 0.95, Duration.ZERO, 0, 0, null, null));
+                textServer.expect(requestTo("http://test-rag-api.com" + TEXT_PATH)).andRespond(withServerError());
+                textServer.expect(requestTo("http://test-rag-api.com" + TEXT_PATH)).andRespond(withStatus(unsupported));
+
+                assertFalse(textService.sendTextIndex("10", "raw/10/a.pdf", text, List.of()));
+                assertTrue(textService.supportsTextIndex());
+                assertFalse(textService.sendTextIndex("10", "raw/10/a.pdf", text, List.of(2)));
+                assertFalse(textService.supportsTextIndex(), unsupported.toString());
+                // 이후 호출은 요청 없이 false
+                assertFalse(textService.sendTextIndex("10", "raw/10/b.pdf", text, List.of()));
+                textServer.verify();
+            }
+        } finally {
+            Files.delete(text);
+        }
+    }
+}
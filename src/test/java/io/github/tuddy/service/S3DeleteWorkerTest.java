@@ -0,0 +1,97 @@
+package io.github.tuddy.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.tuddy.entity.file.S3DeleteJob;
+import io.github.tuddy.repository.S3DeleteJobRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class S3DeleteWorkerTest {
+
+    @Mock private S3DeleteJobRepository deleteJobRepository;
+    @Mock private S3Service s3Service;
+    @Mock private TransactionTemplate transactionTemplate;
+
+    private S3DeleteWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(inv ->
+            inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().doAnswer(inv -> {
+            inv.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        worker = new S3DeleteWorker(deleteJobRepository, s3Service, transactionTemplate,
+                new SimpleMeterRegistry(),
+                true, 2, 10, 5, Duration.ofSeconds(30), Duration.ofHours(1), Duration.ofMinutes(5));
+    }
+
+    @DisplayName("선점 시 시도 횟수 증가, 다음 시도 시각을 임대 시각으로 미룸")
+    @Test
+    void 삭제_작업_선점() {
+        var job = job(1L, "k-1", 0);
+        given(deleteJobRepository.claim(any(), eq(2))).willReturn(List.of(job));
+
+        assertThat(worker.claim(2)).containsExactly(job);
+        assertThat(job.getAttempts()).isEqualTo(1);
+        assertThat(job.getNextAttemptAt()).isAfter(LocalDateTime.now().plusMinutes(4));
+    }
+
+    @DisplayName("DeleteObjects 한 번으로 삭제, 성공한 행은 제거하고 실패한 키만 백오프 후 재시도")
+    @Test
+    void 성공은_제거_실패는_재시도() {
+        var ok = job(1L, "k-1", 1);
+        var failed = job(2L, "k-2", 1);
+        given(s3Service.deleteObjects(List.of("k-1", "k-2"))).willReturn(Map.of("k-2", "SlowDown: Please reduce your request rate."));
+
+        worker.run(List.of(ok, failed));
+
+        verify(deleteJobRepository).deleteAllByIdInBatch(List.of(1L));
+        verify(deleteJobRepository).save(failed);
+        assertThat(failed.getLastError()).startsWith("SlowDown");
+        assertThat(failed.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(20));
+    }
+
+    @DisplayName("배치가 가득 차면 이어서 선점, 덜 차면 이번 poll 종료")
+    @Test
+    void 밀린_작업_이어서_처리() {
+        given(deleteJobRepository.claim(any(), eq(2)))
+            .willReturn(List.of(job(1L, "k-1", 0), job(2L, "k-2", 0)))
+            .willReturn(List.of(job(3L, "k-3", 0)));
+        given(s3Service.deleteObjects(any())).willReturn(Map.of());
+
+        worker.poll();
+
+        verify(s3Service).deleteObjects(List.of("k-1", "k-2"));
+        verify(s3Service).deleteObjects(List.of("k-3"));
+        verify(deleteJobRepository, never()).save(any());
+    }
+
+    private S3DeleteJob job(Long id, String key, int attempts) {
+        return S3DeleteJob.builder().id(id).s3Key(key).attempts(attempts).build();
+    }
+}
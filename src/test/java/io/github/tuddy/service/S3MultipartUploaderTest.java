@@ -0,0 +1,79 @@
+package io.github.tuddy.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+@ExtendWith(MockitoExtension.class)
+class S3MultipartUploaderTest {
+
+    private static final int PART = S3MultipartUploader.MIN_PART_SIZE;
+
+    @Mock private S3Client s3Client;
+
+    private S3MultipartUploader uploader;
+
+    @BeforeEach
+    void setUp() {
+        uploader = new S3MultipartUploader(s3Client, PART, 2);
+        given(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .willReturn(CreateMultipartUploadResponse.builder().uploadId("up-1").build());
+    }
+
+    @DisplayName("파트 크기로 나눠 업로드 후 파트 번호 순서대로 완료 요청")
+    @Test
+    void 멀티파트_업로드_완료() throws Exception {
+        given(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .willAnswer(inv -> UploadPartResponse.builder()
+                        .eTag("etag-" + inv.getArgument(0, UploadPartRequest.class).partNumber()).build());
+
+        int parts = uploader.upload("bucket", "raw/1/big.pdf", "application/pdf",
+                new ByteArrayInputStream(new byte[PART * 2 + 100]));
+
+        assertThat(parts).isEqualTo(3);
+        ArgumentCaptor<CompleteMultipartUploadRequest> captor = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3Client).completeMultipartUpload(captor.capture());
+        assertThat(captor.getValue().multipartUpload().parts())
+                .extracting(p -> p.partNumber() + ":" + p.eTag())
+                .containsExactly("1:etag-1", "2:etag-2", "3:etag-3");
+        verify(s3Client, never()).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+    }
+
+    @DisplayName("파트 업로드가 실패하면 완료하지 않고 멀티파트 업로드 중단(abort)")
+    @Test
+    void 파트_실패시_중단() {
+        given(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .willThrow(S3Exception.builder().message("boom").build());
+
+        assertThatThrownBy(() -> uploader.upload("bucket", "raw/1/big.pdf", "application/pdf",
+                new ByteArrayInputStream(new byte[PART * 3])))
+                .isInstanceOf(S3Exception.class);
+
+        verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+        verify(s3Client, times(1)).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+    }
+}
@@ -3,81 +3,63 @@ package io.github.tuddy.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
-import java.net.URL;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.test.util.ReflectionTestUtils;
 
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.presigner.S3Presigner;
-import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
-import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 class S3ServiceTest {
 
-    @InjectMocks
-    private S3Service s3Service;
+    private static final String KEY = "raw/1/test-key.jpg";
 
     @Mock
-    private S3Presigner presigner;
+    private BlobStore blobStore;
 
-    @Mock
-    private S3Client s3Client;
+    private S3Service s3Service;
 
     @BeforeEach
     void setUp() {
-        ReflectionTestUtils.setField(s3Service, "bucket", "test-bucket");
-        ReflectionTestUtils.setField(s3Service, "prefix", "incoming");
-        ReflectionTestUtils.setField(s3Service, "maxSize", 1000L);
-        ReflectionTestUtils.setField(s3Service, "allowedTypesCsv", "image/jpeg,image/png");
-        ReflectionTestUtils.setField(s3Service, "ttl", Duration.ofMinutes(15));
-        s3Service.init();
+        s3Service = new S3Service(blobStore, List.of("image/jpeg", "image/png"), 1000L,
+                Duration.ofMinutes(15), Duration.ofMinutes(5), 100, new SimpleMeterRegistry());
     }
 
     @DisplayName("presignPut 성공")
     @Test
-    void presignPut_성공() throws Exception {
+    void presignPut_성공() {
         // Given
-        Long userId = 1L;
-        String filename = "test.jpg";
-        String contentType = "image/jpeg";
-        long contentLength = 500L;
-        String key = "incoming/1/test-key.jpg";
-
-        PresignedPutObjectRequest mockPresignedRequest = mock(PresignedPutObjectRequest.class);
-        when(mockPresignedRequest.url()).thenReturn(new URL("http://mock.s3.url/test.jpg"));
-        when(mockPresignedRequest.signedHeaders()).thenReturn(Map.of());
-        when(mockPresignedRequest.expiration()).thenReturn(Instant.now().plus(Duration.ofMinutes(15)));
-        when(presigner.presignPutObject(any(PutObjectPresignRequest.class))).thenReturn(mockPresignedRequest);
+        given(blobStore.presignPut(eq(KEY), eq("image/jpeg"), eq(500L), any()))
+                .willReturn(new BlobStore.SignedUrl("http://mock.s3.url/test.jpg", Instant.now().plus(Duration.ofMinutes(15))));
 
         // When
-        Map<String, Object> response = s3Service.presignPut(userId, filename, contentType, contentLength, key);
+        Map<String, Object> response = s3Service.presignPut(1L, "test.jpg", "image/jpeg", 500L, KEY);
 
         // Then
-        assertThat(response).isNotNull();
         assertThat(response.get("url")).isEqualTo("http://mock.s3.url/test.jpg");
-        assertThat(response.get("key")).isEqualTo(key);
-        assertThat(response.get("expiresAt")).isNotNull();
+        assertThat(response.get("key")).isEqualTo(KEY);
     }
 
     @DisplayName("파일 크기 초과시 예외 발생")
     @Test
     void 파일크기_초과시_예외발생() {
         assertThatThrownBy(() ->
-                s3Service.presignPut(1L, "big-file.jpg", "image/jpeg", 2000L, "some-key")
+                s3Service.presignPut(1L, "big-file.jpg", "image/jpeg", 200L * 1024 * 1024, "some-key")
         ).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("SIZE_LIMIT");
     }
 
@@ -86,6 +68,31 @@ class S3ServiceTest {
     void 허용되지않은_콘텐츠타입시_예외발생() {
         assertThatThrownBy(() ->
                 s3Service.presignPut(1L, "file.txt", "text/plain", 500L, "some-key")
-        ).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("Unsupported content-type");
+        ).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("지원하지 않는 파일 형식");
+    }
+
+    @DisplayName("멀티파트 파트 URL : 선언한 파트 수보다 큰 번호는 발급하지 않음")
+    @Test
+    void 파트_번호_상한() {
+        given(blobStore.presignUploadPart(eq(KEY), eq("up-1"), anyInt(), any()))
+                .willAnswer(inv -> new BlobStore.SignedUrl("http://part/" + inv.getArgument(2), Instant.now()));
+
+        assertThat(s3Service.presignUploadParts(KEY, "up-1", List.of(1, 2), 2))
+                .containsExactly(Map.entry(1, "http://part/1"), Map.entry(2, "http://part/2"));
+        assertThatThrownBy(() -> s3Service.presignUploadParts(KEY, "up-1", List.of(3), 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("멀티파트 완료 : 파트 수를 넘는 번호는 S3 호출 없이 거절, 완료 후 HEAD 로 실제 크기 반환")
+    @Test
+    void 멀티파트_완료_크기_확인() {
+        given(blobStore.size(KEY)).willReturn(20L);
+
+        assertThatThrownBy(() -> s3Service.completeMultipartUpload(KEY, "up-1", Map.of(1, "e1", 3, "e3"), 2))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(blobStore, never()).completeMultipartUpload(anyString(), anyString(), any());
+
+        assertThat(s3Service.completeMultipartUpload(KEY, "up-1", Map.of(1, "e1", 2, "e2"), 2)).isEqualTo(20L);
+        verify(blobStore).completeMultipartUpload(KEY, "up-1", Map.of(1, "e1", 2, "e2"));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,93 @@
+package io.github.tuddy.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.github.tuddy.dto.SyncResponse;
+import io.github.tuddy.entity.chat.ChatMessage;
+import io.github.tuddy.entity.chat.ChatSession;
+import io.github.tuddy.entity.chat.SenderType;
+import io.github.tuddy.entity.file.FileStatus;
+import io.github.tuddy.entity.file.UploadedFile;
+import io.github.tuddy.repository.ChatMessageRepository;
+import io.github.tuddy.repository.ChatSessionRepository;
+import io.github.tuddy.repository.UploadedFileRepository;
+
+@ExtendWith(MockitoExtension.class)
+class SyncServiceTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Mock private ChatSessionRepository sessionRepository;
+    @Mock private ChatMessageRepository messageRepository;
+    @Mock private UploadedFileRepository uploadedFileRepository;
+
+    @InjectMocks
+    private SyncService syncService;
+
+    @DisplayName("커서 인코딩/디코딩 왕복, 잘못된 커서는 IllegalArgumentException")
+    @Test
+    void 커서_왕복() {
+        SyncCursor cursor = new SyncCursor(3, 42, LocalDateTime.of(2025, 3, 1, 12, 0, 0, 123_456_000), 7);
+
+        assertThat(SyncCursor.parse(cursor.encode())).isEqualTo(cursor);
+        assertThat(SyncCursor.parse(null)).isEqualTo(SyncCursor.START);
+        assertThatThrownBy(() -> SyncCursor.parse("not-a-cursor")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("종류별 최대 건수를 넘으면 잘라서 hasMore, 커서는 마지막으로 내려준 위치까지만 진행")
+    @Test
+    void 최대_건수_초과시_이어받기() {
+        ReflectionTestUtils.setField(syncService, "maxItems", 2);
+        ChatSession session = ChatSession.builder().id(5L).title("s").build();
+        LocalDateTime t = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+        given(sessionRepository.findCreatedSince(eq(USER_ID), eq(0L), any(), any()))
+                .willReturn(List.of(session));
+        given(messageRepository.findCreatedSince(eq(USER_ID), eq(0L), any(), any()))
+                .willReturn(List.of(message(11L, session), message(12L, session), message(13L, session)));
+        given(uploadedFileRepository.findChangedSince(eq(USER_ID), eq(SyncCursor.ORIGIN), eq(0L), any(), any()))
+                .willReturn(List.of(UploadedFile.builder().id(9L).status(FileStatus.COMPLETED).updatedAt(t).build()));
+
+        SyncResponse res = syncService.sync(USER_ID, null);
+
+        assertThat(res.hasMore()).isTrue();
+        assertThat(res.sessions()).hasSize(1);
+        assertThat(res.messages()).extracting(SyncResponse.Message::id).containsExactly(11L, 12L);
+        assertThat(res.messages().get(0).sessionId()).isEqualTo(5L);
+        assertThat(SyncCursor.parse(res.cursor())).isEqualTo(new SyncCursor(5L, 12L, t, 9L));
+    }
+
+    @DisplayName("변경분이 없는 종류는 기존 커서 위치 유지")
+    @Test
+    void 변경없으면_커서_유지() {
+        SyncCursor from = new SyncCursor(5, 12, LocalDateTime.of(2025, 3, 1, 12, 0), 9);
+
+        SyncResponse res = syncService.sync(USER_ID, from.encode());
+
+        assertThat(res.hasMore()).isFalse();
+        assertThat(SyncCursor.parse(res.cursor())).isEqualTo(from);
+        verify(messageRepository).findCreatedSince(eq(USER_ID), eq(12L), any(), any());
+        verify(uploadedFileRepository).findChangedSince(eq(USER_ID), eq(from.fileUpdatedAt()), anyLong(), any(), any());
+    }
+
+    private ChatMessage message(Long id, ChatSession session) {
+        return ChatMessage.builder().id(id).session(session).senderType(SenderType.USER).content("q").build();
+    }
+}
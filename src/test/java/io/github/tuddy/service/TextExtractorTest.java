@@ -0,0 +1,156 @@
+package io.github.tuddy.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.encryption.AccessPermission;
+import org.apache.pdfbox.pdmodel.encryption.StandardProtectionPolicy;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TextExtractorTest {
+
+    private static final String SLIDE = """
+            <p:sld xmlns:p="http://schemas.openxmlformats.org/presentationml/2006/main"
+                   xmlns:a="http://schemas.openxmlformats.org/drawingml/2006/main">
+              <p:cSld><p:spTree><p:sp><p:txBody>%s</p:txBody></p:sp></p:spTree></p:cSld>
+            </p:sld>
+            """;
+
+    @TempDir
+    Path dir;
+
+    private final TextExtractor extractor = new TextExtractor(10, 1_000_000);
+
+    @DisplayName("PPTX 는 슬라이드 번호 순서로 페이지 구분(\\f), 텍스트가 거의 없는 슬라이드는 스캔 페이지")
+    @Test
+    void PPTX_슬라이드별_추출() throws IOException {
+        Path pptx = zip("a.pptx",
+                "ppt/slides/slide10.xml", SLIDE.formatted("<a:p><a:r><a:t>마지막 슬라이드 내용입니다</a:t></a:r></a:p>"),
+                "ppt/slides/slide2.xml", SLIDE.formatted(""),
+                "ppt/slides/slide1.xml", SLIDE.formatted("<a:p><a:r><a:t>운영체제 프로세스 스케줄링</a:t></a:r></a:p>"));
+        Path out = dir.resolve("out.txt");
+
+        TextExtractor.Result result = extractor.extract("pptx", pptx, out);
+
+        assertThat(result.pages()).isEqualTo(3);
+        assertThat(result.scannedPages()).containsExactly(2);
+        assertThat(result.textBased(0.5)).isTrue();
+        assertThat(Files.readString(out)).isEqualTo("운영체제 프로세스 스케줄링\n\f\f마지막 슬라이드 내용입니다\n");
+    }
+
+    @DisplayName("PDF 는 페이지 단위로 추출(\\f 구분), 텍스트가 없는 페이지는 스캔 페이지")
+    @Test
+    void PDF_페이지별_추출() throws IOException {
+        Path pdf = pdf("a.pdf", null, "Process scheduling overview", "", "Virtual memory and paging");
+        Path out = dir.resolve("out.txt");
+
+        TextExtractor.Result result = extractor.extract("pdf", pdf, out);
+
+        assertThat(result.pages()).isEqualTo(3);
+        assertThat(result.scannedPages()).containsExactly(2);
+        assertThat(result.textBased(0.5)).isTrue();
+        assertThat(result.textBased(0.3)).isFalse();
+        assertThat(Files.readString(out).split("\f", -1)).hasSize(3)
+                .satisfies(pages -> assertThat(pages[0]).contains("Process scheduling overview"))
+                .satisfies(pages -> assertThat(pages[2]).contains("Virtual memory and paging"));
+    }
+
+    @DisplayName("PDF 텍스트 추출 권한이 없으면 null (OCR 대상), 열람 암호가 걸린 PDF 는 IOException")
+    @Test
+    void PDF_권한과_암호() throws IOException {
+        AccessPermission noExtract = new AccessPermission();
+        noExtract.setCanExtractContent(false);
+        Path restricted = pdf("restricted.pdf", new StandardProtectionPolicy("owner", "", noExtract), "Copy protected lecture notes");
+        Path encrypted = pdf("encrypted.pdf", new StandardProtectionPolicy("owner", "user", new AccessPermission()), "Secret lecture notes");
+
+        assertThat(extractor.extract("pdf", restricted, dir.resolve("r.txt"))).isNull();
+        assertThatThrownBy(() -> extractor.extract("pdf", encrypted, dir.resolve("e.txt")))
+                .isInstanceOf(IOException.class);
+    }
+
+    @DisplayName("DOCX 는 문서 전체를 한 페이지로, 텍스트가 없으면 OCR 대상")
+    @Test
+    void DOCX_추출() throws IOException {
+        String body = """
+                <w:document xmlns:w="http://schemas.openxmlformats.org/wordprocessingml/2006/main"><w:body>
+                  <w:p><w:r><w:t>첫 문단</w:t><w:tab/><w:t>탭 뒤 내용</w:t></w:r></w:p>
+                  <w:p><w:r><w:t>두 번째 문단입니다</w:t></w:r></w:p>
+                </w:body></w:document>
+                """;
+        Path docx = zip("a.docx", "word/document.xml", body);
+        Path empty = zip("b.docx", "word/document.xml", "<w:document xmlns:w=\"w\"><w:body/></w:document>");
+
+        TextExtractor.Result result = extractor.extract("docx", docx, dir.resolve("a.txt"));
+        TextExtractor.Result scanned = extractor.extract("docx", empty, dir.resolve("b.txt"));
+
+        assertThat(Files.readString(dir.resolve("a.txt"))).isEqualTo("첫 문단\t탭 뒤 내용\n두 번째 문단입니다\n");
+        assertThat(result.textBased(0.5)).isTrue();
+        assertThat(scanned.textBased(0.5)).isFalse();
+    }
+
+    @DisplayName("추출 글자 수 상한을 넘으면 중단, 지원하지 않는 확장자는 null")
+    @Test
+    void 상한과_확장자() throws IOException {
+        Path docx = zip("a.docx", "word/document.xml",
+                "<w:document xmlns:w=\"w\"><w:body><w:p><w:r><w:t>" + "가".repeat(200) + "</w:t></w:r></w:p></w:body></w:document>");
+
+        assertThatThrownBy(() -> new TextExtractor(10, 100).extract("docx", docx, dir.resolve("x.txt")))
+                .isInstanceOf(IOException.class);
+        assertThat(TextExtractor.extension("raw/1/uuid_lecture.PDF")).isEqualTo("pdf");
+        assertThat(TextExtractor.extension("raw/1/uuid_photo.png")).isNull();
+    }
+
+    // 빈 문자열 페이지는 텍스트 없는 페이지, policy 가 있으면 암호화해서 저장
+    private Path pdf(String name, StandardProtectionPolicy policy, String... pages) throws IOException {
+        Path path = dir.resolve(name);
+        try (PDDocument doc = new PDDocument()) {
+            PDType1Font font = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+            for (String text : pages) {
+                PDPage page = new PDPage();
+                doc.addPage(page);
+                if (text.isEmpty()) {
+                    continue;
+                }
+                try (PDPageContentStream cs = new PDPageContentStream(doc, page)) {
+                    cs.beginText();
+                    cs.setFont(font, 12);
+                    cs.newLineAtOffset(50, 700);
+                    cs.showText(text);
+                    cs.endText();
+                }
+            }
+            if (policy != null) {
+                doc.protect(policy);
+            }
+            doc.save(path.toFile());
+        }
+        return path;
+    }
+
+    private Path zip(String name, String... entries) throws IOException {
+        Path path = dir.resolve(name);
+        try (OutputStream os = Files.newOutputStream(path); ZipOutputStream zip = new ZipOutputStream(os)) {
+            for (int i = 0; i < entries.length; i += 2) {
+                zip.putNextEntry(new ZipEntry(entries[i]));
+                zip.write(entries[i + 1].getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+        return path;
+    }
+}
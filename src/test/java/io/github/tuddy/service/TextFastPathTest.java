@@ -0,0 +1,140 @@
+package io.github.tuddy.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.github.tuddy.entity.file.OcrJob;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class TextFastPathTest {
+
+    private static final String KEY = "raw/1/uuid_lecture.pptx";
+    private static final String SLIDE = """
+            <p:sld xmlns:p="http://schemas.openxmlformats.org/presentationml/2006/main"
+                   xmlns:a="http://schemas.openxmlformats.org/drawingml/2006/main">
+              <p:cSld><p:spTree><p:sp><p:txBody>%s</p:txBody></p:sp></p:spTree></p:cSld>
+            </p:sld>
+            """;
+
+    @Mock private S3Service s3Service;
+    @Mock private RagChatService ragChatService;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    // 다운로드/추출에 쓴 임시 파일 (끝나면 지워졌는지 확인)
+    private final List<Path> tempFiles = new ArrayList<>();
+
+    private final OcrJob job = OcrJob.builder().id(1L).fileId(10L).userId(7L).s3Key(KEY).build();
+
+    @BeforeEach
+    void setUp() {
+        given(ragChatService.supportsTextIndex()).willReturn(true);
+    }
+
+    @DisplayName("텍스트 슬라이드가 대부분이면 추출 텍스트와 스캔 페이지 번호로 인덱싱 요청, 임시 파일은 삭제")
+    @Test
+    void 텍스트_경로_인덱싱() throws IOException {
+        downloads(slides("운영체제 프로세스 스케줄링", "", "가상 메모리와 페이징 기법"));
+        given(ragChatService.sendTextIndex(eq("7"), eq(KEY), any(), eq(List.of(2)))).willAnswer(inv -> {
+            Path text = inv.getArgument(2);
+            tempFiles.add(text);
+            assertThat(Files.readString(text)).contains("프로세스 스케줄링").contains("\f\f");
+            return true;
+        });
+
+        assertThat(fastPath(0.5).tryIndex(job)).isTrue();
+
+        assertThat(count("text")).isEqualTo(1.0);
+        assertThat(tempFiles).hasSize(2).allSatisfy(p -> assertThat(p).doesNotExist());
+    }
+
+    @DisplayName("스캔 페이지 비율이 max-scanned-ratio 를 넘으면 요청 없이 OCR 경로")
+    @Test
+    void 스캔_비율_초과() throws IOException {
+        downloads(slides("운영체제 프로세스 스케줄링", "", ""));
+
+        assertThat(fastPath(0.5).tryIndex(job)).isFalse();
+
+        verify(ragChatService, never()).sendTextIndex(anyString(), anyString(), any(), anyList());
+        assertThat(count("ocr")).isEqualTo(1.0);
+        assertThat(tempFiles).allSatisfy(p -> assertThat(p).doesNotExist());
+    }
+
+    @DisplayName("추출이 실패하면(깨진 문서) 예외 없이 OCR 경로, 임시 파일은 삭제")
+    @Test
+    void 추출_실패_대체() throws IOException {
+        downloads("not a zip".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(fastPath(0.5).tryIndex(job)).isFalse();
+
+        verify(ragChatService, never()).sendTextIndex(anyString(), anyString(), any(), anyList());
+        assertThat(count("error")).isEqualTo(1.0);
+        assertThat(tempFiles).hasSize(1).allSatisfy(p -> assertThat(p).doesNotExist());
+    }
+
+    @DisplayName("FastAPI 가 텍스트 경로를 지원하지 않으면 내려받지 않음")
+    @Test
+    void 텍스트_경로_미지원() throws IOException {
+        given(ragChatService.supportsTextIndex()).willReturn(false);
+
+        assertThat(fastPath(0.5).tryIndex(job)).isFalse();
+
+        verify(s3Service, never()).download(anyString(), any());
+    }
+
+    private TextFastPath fastPath(double maxScannedRatio) {
+        return new TextFastPath(s3Service, ragChatService, registry, true, 10, maxScannedRatio, 1_000_000);
+    }
+
+    // S3 다운로드 대신 content 를 대상 임시 파일에 기록
+    private void downloads(byte[] content) throws IOException {
+        willAnswer(inv -> {
+            Path target = inv.getArgument(1);
+            tempFiles.add(target);
+            Files.write(target, content);
+            return null;
+        }).given(s3Service).download(eq(KEY), any());
+    }
+
+    private double count(String outcome) {
+        return registry.counter("ocr.fastpath", "outcome", outcome).count();
+    }
+
+    // 빈 문자열은 텍스트 없는 슬라이드
+    private byte[] slides(String... texts) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            for (int i = 0; i < texts.length; i++) {
+                String body = texts[i].isEmpty() ? "" : "<a:p><a:r><a:t>" + texts[i] + "</a:t></a:r></a:p>";
+                zip.putNextEntry(new ZipEntry("ppt/slides/slide" + (i + 1) + ".xml"));
+                zip.write(SLIDE.formatted(body).getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+        return bytes.toByteArray();
+    }
+}
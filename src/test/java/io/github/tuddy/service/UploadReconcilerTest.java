@@ -0,0 +1,118 @@
+package io.github.tuddy.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.tuddy.entity.file.FileStatus;
+import io.github.tuddy.entity.file.UploadedFile;
+import io.github.tuddy.entity.user.UserAccount;
+import io.github.tuddy.repository.S3DeleteJobRepository;
+import io.github.tuddy.repository.UploadedFileRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class UploadReconcilerTest {
+
+    private static final long FOREVER = Long.MAX_VALUE;
+
+    @Mock private UploadedFileRepository uploadedFileRepository;
+    @Mock private S3DeleteJobRepository deleteJobRepository;
+    @Mock private S3Service s3Service;
+    @Mock private FileService fileService;
+    @Mock private TransactionTemplate transactionTemplate;
+
+    private UploadReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(inv ->
+            inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        reconciler = new UploadReconciler(uploadedFileRepository, deleteJobRepository, s3Service, fileService, transactionTemplate,
+                new SimpleMeterRegistry(),
+                true, "raw/", 2, Duration.ofHours(6), Duration.ofDays(1), Duration.ofMinutes(10), 1000);
+    }
+
+    @DisplayName("오래된 PENDING : 멀티파트는 중단 후 삭제, 객체가 있으면 처리 등록, 없으면 삭제")
+    @Test
+    void 오래된_PENDING_정리() {
+        var multipart = pending(1L, "raw/7/a", "upload-1");
+        var uploaded = pending(2L, "raw/7/b", null);
+        var abandoned = pending(3L, "raw/7/c", null);
+        given(uploadedFileRepository.findStale(eq(FileStatus.PENDING), any(), eq(0L), any()))
+            .willReturn(List.of(multipart, uploaded));
+        given(uploadedFileRepository.findStale(eq(FileStatus.PENDING), any(), eq(2L), any()))
+            .willReturn(List.of(abandoned));
+        given(s3Service.exists("raw/7/b")).willReturn(true);
+        given(s3Service.exists("raw/7/c")).willReturn(false);
+        given(uploadedFileRepository.deleteByIdAndStatus(anyLong(), eq(FileStatus.PENDING))).willReturn(1);
+
+        reconciler.sweepPending(FOREVER);
+
+        verify(s3Service).abortMultipartUpload("raw/7/a", "upload-1");
+        verify(uploadedFileRepository).deleteByIdAndStatus(1L, FileStatus.PENDING);
+        verify(fileService).processUploadedFile(7L, 2L);
+        verify(uploadedFileRepository).deleteByIdAndStatus(3L, FileStatus.PENDING);
+        assertThat(totals()).containsEntry("multipart_aborted", 1L).containsEntry("pending_repaired", 1L)
+            .containsEntry("pending_deleted", 1L).containsEntry("pending_sweeps", 1L);
+    }
+
+    @DisplayName("DB 행도 삭제 대기도 없는 오래된 객체만 삭제 outbox 에 등록, 키 커서로 다음 페이지 조회")
+    @Test
+    void 고아_객체_삭제_등록() {
+        Instant old = Instant.now().minus(Duration.ofDays(2));
+        given(s3Service.listObjects("raw/", null, 2)).willReturn(page(true,
+                object("raw/1/known", old), object("raw/1/orphan", old)));
+        given(s3Service.listObjects("raw/", "raw/1/orphan", 2)).willReturn(page(false,
+                object("raw/2/queued", old), object("raw/2/recent", Instant.now())));
+        given(uploadedFileRepository.findExistingKeys(List.of("raw/1/known", "raw/1/orphan"))).willReturn(List.of("raw/1/known"));
+        given(deleteJobRepository.findQueuedKeys(List.of("raw/1/known", "raw/1/orphan"))).willReturn(List.of());
+        given(deleteJobRepository.findQueuedKeys(List.of("raw/2/queued"))).willReturn(List.of("raw/2/queued"));
+
+        reconciler.sweepObjects(FOREVER);
+
+        verify(deleteJobRepository).enqueue(List.of("raw/1/orphan"));
+        // grace 이내 객체는 확인 대상에서 제외
+        verify(uploadedFileRepository).findExistingKeys(List.of("raw/2/queued"));
+        assertThat(totals()).containsEntry("objects_scanned", 4L).containsEntry("orphans_queued", 1L)
+            .containsEntry("object_sweeps", 1L);
+        assertThat(reconciler.snapshot()).containsEntry("objectSweepInProgress", false)
+            .doesNotContainKeys("objectCursor", "pendingCursor");
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Long> totals() {
+        return (Map<String, Long>) reconciler.snapshot().get("totals");
+    }
+
+    private UploadedFile pending(Long id, String key, String uploadId) {
+        return UploadedFile.builder().id(id).s3Key(key).uploadId(uploadId)
+                .userAccount(UserAccount.builder().id(7L).build()).status(FileStatus.PENDING).build();
+    }
+
+    private BlobStore.Blob object(String key, Instant lastModified) {
+        return new BlobStore.Blob(key, lastModified, 1L);
+    }
+
+    private BlobStore.Page page(boolean truncated, BlobStore.Blob... objects) {
+        return new BlobStore.Page(List.of(objects), truncated);
+    }
+}
@@ -0,0 +1,45 @@
+package io.github.tuddy.service.routing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HeuristicComplexityClassifierTest {
+
+    private final HeuristicComplexityClassifier classifier =
+            new HeuristicComplexityClassifier(40, List.of("증명", "explain"), false);
+
+    @DisplayName("짧은 인사/단답형 질문은 FAST")
+    @Test
+    void 짧은_질문_FAST() {
+        assertThat(classify("안녕", false)).isEqualTo(ModelTier.FAST);
+        assertThat(classify("hi there", false)).isEqualTo(ModelTier.FAST);
+        assertThat(classify("오늘 시험 몇 시야?", true)).isEqualTo(ModelTier.FAST);
+    }
+
+    @DisplayName("길이, 키워드, 수식, 여러 질문이 있으면 FULL")
+    @Test
+    void 복잡한_질문_FULL() {
+        assertThat(classify("피타고라스 정리를 증명해줘", false)).isEqualTo(ModelTier.FULL);
+        assertThat(classify("Explain recursion", false)).isEqualTo(ModelTier.FULL);
+        assertThat(classify("x^2 = 4 풀어줘", false)).isEqualTo(ModelTier.FULL);
+        assertThat(classify("이게 뭐야? 왜 그래?", false)).isEqualTo(ModelTier.FULL);
+        assertThat(classify("가".repeat(41), false)).isEqualTo(ModelTier.FULL);
+    }
+
+    @DisplayName("설정 시 이어지는 질문은 FULL")
+    @Test
+    void 이어지는_질문() {
+        var strict = new HeuristicComplexityClassifier(40, List.of(), true);
+
+        assertThat(strict.classify(QueryFeatures.of("더 자세히", true))).isEqualTo(ModelTier.FULL);
+        assertThat(strict.classify(QueryFeatures.of("더 자세히", false))).isEqualTo(ModelTier.FAST);
+    }
+
+    private ModelTier classify(String query, boolean followUp) {
+        return classifier.classify(QueryFeatures.of(query, followUp));
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.tuddy.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BulkheadTest {
+
+    @DisplayName("레인의 스레드와 대기열이 모두 차면 거절하고 지표 기록")
+    @Test
+    void 레인_포화시_거절() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Bulkhead bulkhead = new Bulkhead("test", 1, 1, Duration.ofSeconds(10), registry);
+        AsyncTaskExecutor executor = bulkhead.submit(() -> "unused").getExecutor();
+        CountDownLatch release = new CountDownLatch(1);
+
+        try {
+            executor.submit(() -> { release.await(); return null; }); // 실행 중
+            executor.submit(() -> null);                               // 대기열
+
+            assertThatThrownBy(() -> executor.submit(() -> null))
+                    .isInstanceOf(TaskRejectedException.class);
+            assertThat(registry.counter("bulkhead.rejected", "lane", "test").count()).isEqualTo(1.0);
+        } finally {
+            release.countDown();
+            bulkhead.shutdown();
+        }
+    }
+
+    @DisplayName("대기열 0 이면 스레드가 모두 사용 중일 때 바로 거절 (대기는 입장 대기열에서만)")
+    @Test
+    void 대기열_없는_레인() throws Exception {
+        Bulkhead bulkhead = new Bulkhead("test", 2, 0, Duration.ofSeconds(10), new SimpleMeterRegistry());
+        AsyncTaskExecutor executor = bulkhead.submit(() -> "unused").getExecutor();
+        CountDownLatch release = new CountDownLatch(1);
+
+        try {
+            executor.submit(() -> { release.await(); return null; });
+            executor.submit(() -> { release.await(); return null; });
+
+            assertThatThrownBy(() -> executor.submit(() -> null))
+                    .isInstanceOf(TaskRejectedException.class);
+        } finally {
+            release.countDown();
+            bulkhead.shutdown();
+        }
+    }
+}
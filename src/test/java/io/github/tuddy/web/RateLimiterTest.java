@@ -0,0 +1,75 @@
+package io.github.tuddy.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.github.tuddy.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RateLimiterTest {
+
+    private static final long MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    @DisplayName("버킷 용량만큼 연속 허용 후 거절, 시간이 지나면 다시 허용")
+    @Test
+    void 토큰_버킷_소모와_충전() {
+        TokenBucket bucket = new TokenBucket(3, MINUTE, 0);
+
+        assertThat(bucket.tryConsume(0).remaining()).isEqualTo(2);
+        assertThat(bucket.tryConsume(0).remaining()).isEqualTo(1);
+        assertThat(bucket.tryConsume(0).remaining()).isZero();
+
+        RateLimitProbe denied = bucket.tryConsume(0);
+        assertThat(denied.allowed()).isFalse();
+        assertThat(denied.retryAfterSeconds()).isEqualTo(20);
+
+        // 20초마다 토큰 1개 충전
+        assertThat(bucket.tryConsume(TimeUnit.SECONDS.toNanos(20)).allowed()).isTrue();
+        assertThat(bucket.isIdle(MINUTE)).isFalse();
+        assertThat(bucket.isIdle(2 * MINUTE)).isTrue();
+    }
+
+    @DisplayName("사용자별로 독립된 버킷, 한도 초과 시 예외")
+    @Test
+    void 사용자별_한도() {
+        RateLimiter limiter = limiter(true, 100);
+
+        limiter.consume(1L, RateLimitBudget.RAG_CHAT);
+        assertThatThrownBy(() -> limiter.consume(1L, RateLimitBudget.RAG_CHAT))
+                .isInstanceOf(RateLimitExceededException.class);
+
+        // 다른 사용자, 다른 예산은 영향 없음
+        limiter.consume(2L, RateLimitBudget.RAG_CHAT);
+        assertThat(limiter.tryConsume(1L, RateLimitBudget.CHAT).allowed()).isTrue();
+    }
+
+    @DisplayName("버킷 저장소가 가득 차면 새 사용자는 제한 없이 통과")
+    @Test
+    void 저장소_상한() {
+        RateLimiter limiter = limiter(true, 1);
+
+        assertThat(limiter.tryConsume(1L, RateLimitBudget.RAG_CHAT)).isNotNull();
+        assertThat(limiter.tryConsume(2L, RateLimitBudget.RAG_CHAT)).isNull();
+        assertThat(limiter.size(RateLimitBudget.RAG_CHAT)).isEqualTo(1);
+    }
+
+    @DisplayName("비활성화 시 항상 통과")
+    @Test
+    void 비활성화() {
+        RateLimiter limiter = limiter(false, 100);
+
+        assertThat(limiter.tryConsume(1L, RateLimitBudget.CHAT)).isNull();
+    }
+
+    private RateLimiter limiter(boolean enabled, int maxBuckets) {
+        Duration hour = Duration.ofHours(1);
+        return new RateLimiter(enabled, maxBuckets, 5, hour, 1, hour, 5, hour,
+                new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,49 @@
+package io.github.tuddy.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.github.tuddy.entity.file.FileStatus;
+import io.github.tuddy.service.FileStatusChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class UserEventHubTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    private UserEventHub hub(int bufferSize, int maxPerUser) {
+        return new UserEventHub(Duration.ofMinutes(1), bufferSize, maxPerUser, registry);
+    }
+
+    @DisplayName("사용자당 연결 수를 넘으면 가장 오래된 연결부터 정리")
+    @Test
+    void 사용자별_연결_수_제한() {
+        UserEventHub hub = hub(16, 2);
+
+        hub.subscribe(1L);
+        hub.subscribe(1L);
+        hub.subscribe(1L);
+        hub.subscribe(2L);
+
+        assertThat(hub.connectionCount()).isEqualTo(3);
+        assertThat(registry.get("sse.connections").gauge().value()).isEqualTo(3.0);
+    }
+
+    @DisplayName("구독하지 않은 사용자에게는 전송하지 않고, 구독자에게만 이벤트 집계")
+    @Test
+    void 구독자에게만_전달() {
+        UserEventHub hub = hub(16, 5);
+        hub.subscribe(1L);
+
+        hub.onFileStatusChanged(new FileStatusChangedEvent(10L, 2L, FileStatus.COMPLETED, null));
+        assertThat(registry.find("sse.events").counter()).isNull();
+
+        hub.onFileStatusChanged(new FileStatusChangedEvent(10L, 1L, FileStatus.COMPLETED, null));
+        assertThat(registry.get("sse.events").tag("type", "file.status").counter().count()).isEqualTo(1.0);
+    }
+}